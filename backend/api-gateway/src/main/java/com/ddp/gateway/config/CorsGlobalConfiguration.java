@@ -18,6 +18,7 @@ public class CorsGlobalConfiguration {
         config.setAllowedOriginPatterns(List.of("http://localhost:3000"));
         config.setAllowedHeaders(List.of("*"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
+        config.setExposedHeaders(List.of("Idempotent-Replayed")); // 멱등성 키 재전송 응답 표시 (reservation-service)
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
@@ -0,0 +1,40 @@
+package com.ddp.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// 요청 추적 ID 전역 필터 (클라이언트 요청마다 X-Request-Id 부여 후 하위 서비스로 전달)
+@Component
+public class CorrelationIdFilter implements GlobalFilter, Ordered {
+
+    public static final String HEADER = "X-Request-Id";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String requestId = exchange.getRequest().getHeaders().getFirst(HEADER);
+        if (!StringUtils.hasText(requestId) || requestId.length() > 64) {
+            requestId = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        }
+
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .header(HEADER, requestId)
+                .build();
+        exchange.getResponse().getHeaders().set(HEADER, requestId);
+
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // JWT 인증 필터(-100)보다 먼저 실행하여 인증 실패 응답에도 추적 ID 포함
+        return -200;
+    }
+}
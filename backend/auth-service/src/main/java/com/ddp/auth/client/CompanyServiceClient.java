@@ -6,7 +6,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
 // Company Service와 통신하기 위한 Feign Client
-@FeignClient(name = "company-service")
+@FeignClient(name = "company-service", fallbackFactory = CompanyServiceClientFallbackFactory.class)
 public interface CompanyServiceClient {
 
     // 업체명 조회
@@ -0,0 +1,23 @@
+package com.ddp.auth.client;
+
+import com.ddp.auth.client.dto.CompanyNameResponse;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * company-service 호출 폴백
+ * - 업체명 조회: 원래 예외 전달 (정보 보강 실행기가 업체명 없이 응답)
+ */
+@Component
+public class CompanyServiceClientFallbackFactory implements FallbackFactory<CompanyServiceClient> {
+
+    @Override
+    public CompanyServiceClient create(Throwable cause) {
+        return new CompanyServiceClient() {
+            @Override
+            public CompanyNameResponse getCompanyName(Long id) {
+                throw FeignFallbacks.propagate("company-service", cause);
+            }
+        };
+    }
+}
@@ -8,7 +8,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import java.util.List;
 
 // Device Service와 통신하기 위한 Feign Client
-@FeignClient(name = "device-service")
+@FeignClient(name = "device-service", fallbackFactory = DeviceServiceClientFallbackFactory.class)
 public interface DeviceServiceClient {
 
     // 사용자의 장치 목록 조회
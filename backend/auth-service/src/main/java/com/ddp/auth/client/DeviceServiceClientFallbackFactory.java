@@ -0,0 +1,25 @@
+package com.ddp.auth.client;
+
+import com.ddp.auth.client.dto.DeviceResponse;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * device-service 호출 폴백
+ * - 장치 목록 조회: 원래 예외 전달 (빈 목록으로 대체하면 장치 미설치로 잘못 표시되므로 대체하지 않음)
+ */
+@Component
+public class DeviceServiceClientFallbackFactory implements FallbackFactory<DeviceServiceClient> {
+
+    @Override
+    public DeviceServiceClient create(Throwable cause) {
+        return new DeviceServiceClient() {
+            @Override
+            public List<DeviceResponse> getUserDevices(Long userId) {
+                throw FeignFallbacks.propagate("device-service", cause);
+            }
+        };
+    }
+}
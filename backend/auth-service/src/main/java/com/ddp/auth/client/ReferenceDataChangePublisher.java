@@ -0,0 +1,100 @@
+package com.ddp.auth.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 정보 변경 이벤트 발행 (구독 서비스의 참조 정보 캐시 무효화)
+ * - 트랜잭션 커밋 후 Eureka에 등록된 구독 서비스의 모든 인스턴스에 무효화 요청 전송
+ * - 전용 스레드에서 비동기 전송, 실패는 경고 로그만 남김 (구독 측 TTL로 최대 불일치 시간 제한)
+ */
+@Slf4j
+@Component
+public class ReferenceDataChangePublisher implements DisposableBean {
+
+    private static final String USER_PATH = "/internal/reference-cache/users/";
+
+    private final DiscoveryClient discoveryClient;
+    private final List<String> subscribers;
+    private final RestTemplate restTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public ReferenceDataChangePublisher(
+            DiscoveryClient discoveryClient,
+            CloseableHttpClient httpClient,
+            @Value("${reference-cache.subscribers:reservation-service}") List<String> subscribers,
+            @Value("${reference-cache.publish-timeout-ms:2000}") int timeoutMs,
+            @Value("${reference-cache.publish-queue-capacity:1000}") int queueCapacity) {
+        this.discoveryClient = discoveryClient;
+        this.subscribers = subscribers;
+
+        // Feign과 같은 연결 풀 사용 (연결 타임아웃은 풀 설정, 풀 대기/응답 타임아웃만 지정)
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setConnectionRequestTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        // 전송 대기열이 가득 차면 이벤트를 버림 (요청 처리 스레드를 막지 않음)
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "reference-data-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("참조 정보 변경 이벤트 대기열 초과 - 이벤트 버림"));
+    }
+
+    /**
+     * 사용자 정보 변경 알림 (커밋 후 전송)
+     */
+    public void publishUserChanged(Long userId) {
+        runAfterCommit(() -> executor.execute(() -> broadcast(USER_PATH + userId)));
+    }
+
+    private void broadcast(String path) {
+        for (String subscriber : subscribers) {
+            for (ServiceInstance instance : discoveryClient.getInstances(subscriber)) {
+                try {
+                    restTemplate.delete(instance.getUri() + path);
+                } catch (Exception e) {
+                    log.warn("참조 정보 캐시 무효화 요청 실패 (TTL 만료로 반영): {} {} - {}",
+                            instance.getUri(), path, e.getMessage());
+                }
+            }
+        }
+        log.debug("참조 정보 변경 이벤트 전송 완료: {}", path);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
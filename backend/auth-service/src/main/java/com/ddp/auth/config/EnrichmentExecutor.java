@@ -0,0 +1,199 @@
+package com.ddp.auth.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 서비스 간 정보 보강(Feign) 호출 병렬 실행기
+ * - 고정 크기 스레드 풀 + 제한된 대기열에서 원격 호출을 동시에 실행 (대기열 초과 시 해당 호출만 실패 처리)
+ * - 호출별 타임아웃(call-timeout): 작업이 실행을 시작한 시점부터 적용 (대기열 대기 시간 제외)
+ * - 전체 마감 시간(deadline): 요청 시작 시점부터 적용, 도래하면 남은 호출을 모두 취소 (대기열 대기 포함)
+ * - 시간 초과한 호출은 취소 (대기 중이면 대기열에서 제거, 실행 중이면 인터럽트)
+ * - 실패/시간 초과한 키는 결과에서 빠지고 나머지 결과만 반환 (부분 결과)
+ * - 호출 스레드의 MDC(추적 ID)를 작업 스레드로 전달
+ * - 스레드 풀 메트릭: executor.* (태그 name=enrichment)
+ */
+@Component
+@Slf4j
+public class EnrichmentExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    // 호출별 타임아웃 타이머 (실행 시작 시 등록, 완료 시 해제)
+    private final ScheduledThreadPoolExecutor timer;
+    private final Duration callTimeout;
+    private final Duration deadline;
+
+    public EnrichmentExecutor(MeterRegistry meterRegistry,
+                              @Value("${enrichment.pool-size:16}") int poolSize,
+                              @Value("${enrichment.queue-capacity:256}") int queueCapacity,
+                              @Value("${enrichment.call-timeout:2s}") Duration callTimeout,
+                              @Value("${enrichment.deadline:3s}") Duration deadline) {
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "enrichment-" + threadSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "enrichment-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.callTimeout = callTimeout;
+        this.deadline = deadline;
+
+        new ExecutorServiceMetrics(executor, "enrichment", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * 키마다 원격 호출을 병렬 실행하고 성공한 결과만 Map으로 반환
+     * 응답 시간은 호출 합계가 아니라 가장 느린 호출(최대 deadline)에 수렴
+     *
+     * @param name 로그용 호출 이름
+     * @param keys 조회 키 목록
+     * @param call 키 하나에 대한 원격 호출 (null 반환 시 결과에서 제외)
+     */
+    public <K, V> Map<K, V> fetchAll(String name, Collection<K> keys, Function<K, V> call) {
+        Map<K, V> results = new HashMap<>();
+        if (keys.isEmpty()) {
+            return results;
+        }
+
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        BlockingQueue<Call<K, V>> completions = new LinkedBlockingQueue<>();
+        List<Call<K, V>> calls = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            Call<K, V> task = new Call<>(key, () -> callWithMdc(mdc, call, key), completions);
+            try {
+                executor.execute(task);
+                calls.add(task);
+            } catch (RejectedExecutionException e) {
+                log.debug("보강 호출 대기열 초과: {}", name);
+            }
+        }
+
+        // 완료(성공/실패/호출별 타임아웃 취소) 순서대로 수거, 전체 마감 시간이 지나면 남은 호출 취소
+        int completed = 0;
+        int remaining = calls.size();
+        try {
+            while (remaining > 0) {
+                Call<K, V> done = completions.poll(deadlineAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    // 대기열에 남은 작업은 제거, 실행 중인 작업은 인터럽트
+                    // (소켓 읽기 중인 호출은 HTTP 클라이언트 read timeout까지 이어질 수 있음)
+                    calls.forEach(this::cancel);
+                    break;
+                }
+                remaining--;
+                if (done.isCancelled()) {
+                    continue;
+                }
+                try {
+                    V value = done.get();
+                    if (value != null) {
+                        results.put(done.key, value);
+                    }
+                    completed++;
+                } catch (ExecutionException e) {
+                    log.debug("보강 호출 실패: {} - {}", name, e.getCause().toString());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            calls.forEach(this::cancel);
+        }
+
+        int failed = keys.size() - completed;
+        if (failed > 0) {
+            log.warn("보강 호출 일부 실패 (부분 결과 반환): {} - 실패/시간 초과 {}건 / 전체 {}건", name, failed, keys.size());
+        }
+        return results;
+    }
+
+    private void cancel(FutureTask<?> task) {
+        if (task.cancel(true)) {
+            executor.remove(task);
+        }
+    }
+
+    /**
+     * 보강 호출 작업
+     * 실행을 시작하면 호출별 타임아웃을 등록하고, 끝나면(취소 포함) 완료 대기열에 추가
+     */
+    private final class Call<K, V> extends FutureTask<V> {
+        private final K key;
+        private final BlockingQueue<Call<K, V>> completions;
+
+        private Call(K key, Callable<V> callable, BlockingQueue<Call<K, V>> completions) {
+            super(callable);
+            this.key = key;
+            this.completions = completions;
+        }
+
+        @Override
+        public void run() {
+            ScheduledFuture<?> timeout = timer.schedule(() -> EnrichmentExecutor.this.cancel(this),
+                    callTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            try {
+                super.run();
+            } finally {
+                timeout.cancel(false);
+            }
+        }
+
+        @Override
+        protected void done() {
+            completions.add(this);
+        }
+    }
+
+    private static <K, V> V callWithMdc(Map<String, String> mdc, Function<K, V> call, K key) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            return call.apply(key);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        timer.shutdownNow();
+    }
+}
@@ -1,14 +1,15 @@
 package com.ddp.auth.config;
 
+import com.ddp.auth.config.logging.CorrelationIdFilter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.slf4j.MDC;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 // RestTemplate 설정 클래스
 @Configuration
 @Slf4j
@@ -16,19 +17,28 @@ public class RestTemplateConfig {
 
     // RestTemplate Bean 등록
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
         log.info("RestTemplate Bean 생성 중...");
         
-        // HTTP 연결 설정
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000); // 연결 타임아웃: 5초
-        factory.setReadTimeout(10000);   // 읽기 타임아웃: 10초
+        // HTTP 연결 설정 (Feign과 같은 연결 풀 사용, HttpClientConfig 참고)
+        // 연결 타임아웃은 풀의 연결 설정(spring.cloud.openfeign.httpclient.connection-timeout)을 따르므로 여기서는 지정하지 않음
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectionRequestTimeout(5000); // 풀에서 연결을 얻기까지 대기: 5초
+        factory.setReadTimeout(10000);   // 읽기 타임아웃: 10초 (요청별 응답 대기)
         
-        RestTemplate restTemplate = builder.connectTimeout(Duration.ofSeconds(5)).readTimeout(Duration.ofSeconds(10))    // 읽기 타임아웃
+        RestTemplate restTemplate = builder
                 .requestFactory(() -> factory)
+                .additionalInterceptors((request, body, execution) -> {
+                    // 요청 추적 ID 전달
+                    String requestId = MDC.get(CorrelationIdFilter.MDC_KEY);
+                    if (requestId != null) {
+                        request.getHeaders().set(CorrelationIdFilter.HEADER, requestId);
+                    }
+                    return execution.execute(request, body);
+                })
                 .build();
         
-        log.info("RestTemplate Bean 생성 완료 - 연결타임아웃: 5초, 읽기타임아웃: 10초");
+        log.info("RestTemplate Bean 생성 완료 - 공유 연결 풀, 연결 대기: 5초, 읽기타임아웃: 10초 (연결타임아웃은 풀 설정)");
         
         return restTemplate;
     }
@@ -55,6 +55,7 @@ public class SecurityConfig {
                     .requestMatchers("/api/v1/auth/**").permitAll()
                     .requestMatchers("/api/v1/users/**").permitAll() // 사용자 등록 관련
                     .requestMatchers("/actuator/**").permitAll()
+                    .requestMatchers("/internal/**").permitAll() // 서비스 간 내부 호출 (Gateway 미노출)
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                     .requestMatchers("/h2-console/**").permitAll()
 
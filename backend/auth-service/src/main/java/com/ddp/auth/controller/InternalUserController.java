@@ -0,0 +1,45 @@
+package com.ddp.auth.controller;
+
+import com.ddp.auth.dto.request.UserBatchRequest;
+import com.ddp.auth.dto.response.UserContactResponse;
+import com.ddp.auth.service.UserProfileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 사용자 정보 내부 조회 컨트롤러 (서비스 간 내부 호출 전용, Gateway 미노출)
+@RestController
+@RequestMapping("/internal/users")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Internal User", description = "서비스 간 사용자 정보 조회 API (내부용)")
+public class InternalUserController {
+
+    private final UserProfileService userProfileService;
+
+    /**
+     * 사용자 연락처 일괄 조회
+     * POST /internal/users/batch
+     *
+     * reservation-service가 업체 예약 목록에 예약자 정보를 붙일 때 호출합니다.
+     * 존재하지 않는 사용자 ID는 결과에서 제외합니다.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "사용자 연락처 일괄 조회", description = "reservation-service가 예약 목록 보강 시 호출합니다")
+    public ResponseEntity<List<UserContactResponse>> getUserContacts(@Valid @RequestBody UserBatchRequest batchRequest) {
+        log.debug("내부 서비스 - 사용자 연락처 일괄 조회 요청: {} 명", batchRequest.getUserIds().size());
+
+        try {
+            return ResponseEntity.ok(userProfileService.getContacts(batchRequest.getUserIds()));
+        } catch (Exception e) {
+            log.error("사용자 연락처 일괄 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.ddp.auth.controller;
 import com.ddp.auth.client.CompanyServiceClient;
 import com.ddp.auth.client.DeviceServiceClient;
 import com.ddp.auth.client.dto.DeviceResponse;
+import com.ddp.auth.config.EnrichmentExecutor;
 import com.ddp.auth.dto.request.ChangePasswordRequest;
 import com.ddp.auth.dto.request.UpdateProfileRequest;
 import com.ddp.auth.dto.response.AssignedDeviceResponse;
@@ -21,6 +22,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 // 사용자 프로필 관리 컨트롤러
 @RestController
@@ -35,6 +38,7 @@ public class UserProfileController {
     private final JwtService jwtService;
     private final DeviceServiceClient deviceServiceClient;
     private final CompanyServiceClient companyServiceClient;
+    private final EnrichmentExecutor enrichmentExecutor;
 
     /**
      * 사용자 프로필 조회 (자신의 프로필)
@@ -186,7 +190,12 @@ public class UserProfileController {
 
             // 첫 번째 장치를 반환 (사용자는 일반적으로 하나의 장치만 할당됨)
             DeviceResponse device = devices.get(0);
-            AssignedDeviceResponse response = AssignedDeviceResponse.from(device, companyServiceClient);
+
+            // 설치 업체명 조회 (타임아웃/마감 시간 적용, 실패 시 기본값)
+            Set<Long> companyIds = device.getCompanyId() != null ? Set.of(device.getCompanyId()) : Set.of();
+            Map<Long, String> companyNames = enrichmentExecutor.fetchAll("설치 업체명 조회", companyIds,
+                    companyId -> companyServiceClient.getCompanyName(companyId).getName());
+            AssignedDeviceResponse response = AssignedDeviceResponse.from(device, companyNames);
 
             log.info("사용자 ID {}의 장치 정보 조회 완료: 장치 ID {}", userId, device.getDeviceId());
             return ResponseEntity.ok(response);
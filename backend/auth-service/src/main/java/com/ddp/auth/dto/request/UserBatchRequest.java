@@ -0,0 +1,24 @@
+package com.ddp.auth.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 사용자 연락처 일괄 조회 요청 DTO - 내부 서비스의 목록 보강용
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사용자 일괄 조회 요청 정보")
+public class UserBatchRequest {
+
+    // 조회할 사용자 ID 목록
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000명까지 조회할 수 있습니다")
+    @Schema(description = "조회할 사용자 ID 목록", example = "[1, 2, 3]", required = true)
+    private List<Long> userIds;
+}
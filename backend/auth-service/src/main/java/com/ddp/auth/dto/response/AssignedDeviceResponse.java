@@ -1,13 +1,13 @@
 package com.ddp.auth.dto.response;
 
-import com.ddp.auth.client.CompanyServiceClient;
-import com.ddp.auth.client.dto.CompanyNameResponse;
 import com.ddp.auth.client.dto.DeviceResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 // 사용자에게 할당된 장치 정보 응답 DTO
 @Data
 @NoArgsConstructor
@@ -25,18 +25,12 @@ public class AssignedDeviceResponse {
     private String lastInspectionDate; // 최종 점검일 (ISO 날짜)
     private String nextInspectionDate; // 다음 점검일 (ISO 날짜)
 
-    // DeviceResponse를 AssignedDeviceResponse로 변환 (업체명 조회 포함)
-    public static AssignedDeviceResponse from(DeviceResponse device, CompanyServiceClient companyServiceClient) {
-        // 설치 업체명 조회
+    // DeviceResponse를 AssignedDeviceResponse로 변환 (업체명은 호출 측에서 미리 병렬 조회한 결과 사용)
+    public static AssignedDeviceResponse from(DeviceResponse device, Map<Long, String> companyNames) {
+        // 설치 업체명 (조회 실패/시간 초과 시 기본값 사용)
         String installedByName = "업체 정보 없음";
         if (device.getCompanyId() != null) {
-            try {
-                CompanyNameResponse companyName = companyServiceClient.getCompanyName(device.getCompanyId());
-                installedByName = companyName.getName();
-            } catch (Exception e) {
-                // company-service 호출 실패 시 기본값 사용
-                installedByName = "업체 정보 조회 실패";
-            }
+            installedByName = companyNames.getOrDefault(device.getCompanyId(), "업체 정보 조회 실패");
         }
 
         return AssignedDeviceResponse.builder()
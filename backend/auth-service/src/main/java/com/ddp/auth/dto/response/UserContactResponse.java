@@ -0,0 +1,39 @@
+package com.ddp.auth.dto.response;
+
+import com.ddp.auth.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 연락처 응답 DTO (내부 서비스 목록 보강용)
+ * 예약 목록 표시에 필요한 항목만 포함 (이메일, 면허 번호 등 제외)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserContactResponse {
+
+    // 사용자 고유 ID
+    private String id;
+
+    // 사용자 이름
+    private String name;
+
+    // 전화번호
+    private String phone;
+
+    // 주소
+    private String address;
+
+    public static UserContactResponse from(User user) {
+        return UserContactResponse.builder()
+                .id(String.valueOf(user.getUserId()))
+                .name(user.getName())
+                .phone(user.getPhone())
+                .address(user.getAddress())
+                .build();
+    }
+}
@@ -27,8 +27,6 @@ public class AdminAccountService {
     public AdminCreateAccountResponse createPendingAccount(String licenseNumber) {
         log.info("API 호출 시작: 관리자 계정 생성 - 운전면허 번호: {}", maskLicenseNumber(licenseNumber));
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 1. 이미 존재하는 계정인지 확인
             Optional<User> existingUser = userRepository.findByLicenseNumber(licenseNumber);
@@ -65,9 +63,8 @@ public class AdminAccountService {
 
             User savedUser = userRepository.save(pendingUser);
 
-            log.info("API 호출 완료: 관리자 계정 생성 - 사용자 ID: {}, 이름: {}, 전화번호: {} ({}ms)",
-                    savedUser.getUserId(), savedUser.getName(), maskPhone(savedUser.getPhone()),
-                    System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 관리자 계정 생성 - 사용자 ID: {}, 이름: {}, 전화번호: {}",
+                    savedUser.getUserId(), savedUser.getName(), maskPhone(savedUser.getPhone()));
 
             // 5. 정부 통보 메시지 전송 (Mock)
             sendGovernmentNotification(savedUser);
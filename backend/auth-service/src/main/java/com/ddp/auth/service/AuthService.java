@@ -30,8 +30,6 @@ public class AuthService {
     public TokenResponse login(UserLoginRequest request) {
         log.info("API 호출 시작: 사용자 로그인 - 이메일: {}", request.getEmail());
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 사용자 조회
             Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
@@ -54,8 +52,7 @@ public class AuthService {
             // 리프레시 토큰 생성
             String refreshToken = tokenService.generateRefreshToken(user.getUserId());
 
-            log.info("API 호출 완료: 사용자 로그인 - 사용자 ID: {}, 액세스+리프레시 토큰 발급 완료 ({}ms)",
-                    user.getUserId(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 사용자 로그인 - 사용자 ID: {}, 액세스+리프레시 토큰 발급 완료", user.getUserId());
 
             return TokenResponse.success(accessToken, refreshToken, user.getUserId(), user.getEmail(),
                     user.getName(), user.getRole().name(), user.getCompanyId());
@@ -70,8 +67,6 @@ public class AuthService {
     public TokenResponse validateToken(String token) {
         log.info("API 호출 시작: 토큰 검증");
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 토큰 유효성 검증
             if (!jwtService.validateToken(token)) {
@@ -82,8 +77,7 @@ public class AuthService {
             // 토큰에서 사용자 정보 추출 (최적화: 1회 파싱으로 모든 정보 추출)
             JwtUserInfo userInfo = jwtService.extractUserInfo(token);
 
-            log.info("API 호출 완료: 토큰 검증 - 사용자 ID: {} ({}ms)",
-                    userInfo.getUserId(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 토큰 검증 - 사용자 ID: {}", userInfo.getUserId());
 
             return TokenResponse.successValidation(token, userInfo.getUserId(), userInfo.getEmail(),
                     userInfo.getName(), userInfo.getRole(), userInfo.getCompanyId());
@@ -98,8 +92,6 @@ public class AuthService {
     public TokenResponse logout(String token) {
         log.info("API 호출 시작: 사용자 로그아웃");
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 토큰 유효성 검증
             if (!jwtService.validateToken(token)) {
@@ -116,8 +108,7 @@ public class AuthService {
             // 사용자의 모든 리프레시 토큰 무효화
             tokenService.revokeAllRefreshTokens(userInfo.getUserId());
 
-            log.info("API 호출 완료: 사용자 로그아웃 - 사용자 ID: {} ({}ms)",
-                    userInfo.getUserId(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 사용자 로그아웃 - 사용자 ID: {}", userInfo.getUserId());
 
             return TokenResponse.builder()
                     .success(true)
@@ -134,8 +125,6 @@ public class AuthService {
     public TokenResponse refreshToken(String refreshToken) {
         log.info("API 호출 시작: 토큰 갱신");
         
-        long startTime = System.currentTimeMillis();
-        
         try {
             // 리프레시 토큰 검증 및 사용자 ID 추출
             Long userId = tokenService.validateRefreshToken(refreshToken);
@@ -162,8 +151,7 @@ public class AuthService {
             // 기존 리프레시 토큰 무효화
             tokenService.revokeRefreshToken(refreshToken);
             
-            log.info("API 호출 완료: 토큰 갱신 - 사용자 ID: {} ({}ms)",
-                    userId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 토큰 갱신 - 사용자 ID: {}", userId);
 
             return TokenResponse.successRefresh(newAccessToken, newRefreshToken,
                     user.getUserId(), user.getEmail(), user.getName(), user.getRole().name(), user.getCompanyId());
@@ -178,8 +166,6 @@ public class AuthService {
     public TokenResponse logoutAll(String token) {
         log.info("API 호출 시작: 전체 로그아웃");
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 토큰 유효성 검증
             if (!jwtService.validateToken(token)) {
@@ -199,8 +185,7 @@ public class AuthService {
             // 사용자의 모든 리프레시 토큰 무효화
             tokenService.revokeAllRefreshTokens(userInfo.getUserId());
 
-            log.info("API 호출 완료: 전체 로그아웃 - 사용자 ID: {} ({}ms)",
-                    userInfo.getUserId(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 전체 로그아웃 - 사용자 ID: {}", userInfo.getUserId());
 
             return TokenResponse.builder()
                     .success(true)
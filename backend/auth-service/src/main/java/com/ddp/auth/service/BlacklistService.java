@@ -21,8 +21,6 @@ public class BlacklistService {
     public void addAccessTokenToBlacklist(String jti, Date expiration) {
         log.debug("API 호출 시작: 액세스 토큰 블랙리스트 추가 - JTI: {}", jti);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             String key = RedisKeyConstants.ACCESS_BLACKLIST_KEY_PREFIX + jti;
             
@@ -31,8 +29,7 @@ public class BlacklistService {
             if (ttl > 0) {
                 redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofMillis(ttl));
 
-                log.debug("API 호출 완료: 액세스 토큰 블랙리스트 추가 - JTI: {}, TTL: {}ms ({}ms)",
-                        jti, ttl, System.currentTimeMillis() - startTime);
+                log.debug("API 호출 완료: 액세스 토큰 블랙리스트 추가 - JTI: {}, TTL: {}ms", jti, ttl);
             } else {
                 log.warn("이미 만료된 토큰은 블랙리스트에 추가하지 않음 - JTI: {}", jti);
             }
@@ -58,8 +55,6 @@ public class BlacklistService {
     public void blacklistAllUserTokens(Long userId, Date currentTokenExpiration) {
         log.debug("API 호출 시작: 사용자 모든 토큰 블랙리스트 추가 - 사용자 ID: {}", userId);
         
-        long startTime = System.currentTimeMillis();
-        
         try {
             // 사용자별 블랙리스트 키 (현재 시간 이전에 발급된 모든 토큰 무효화)
             String userBlacklistKey = "blacklist:user:" + userId;
@@ -70,8 +65,7 @@ public class BlacklistService {
             if (ttl > 0) {
                 redisTemplate.opsForValue().set(userBlacklistKey, String.valueOf(currentTime), Duration.ofMillis(ttl));
 
-                log.debug("API 호출 완료: 사용자 모든 토큰 블랙리스트 추가 - 사용자 ID: {}, 기준 시간: {} ({}ms)",
-                        userId, currentTime, System.currentTimeMillis() - startTime);
+                log.debug("API 호출 완료: 사용자 모든 토큰 블랙리스트 추가 - 사용자 ID: {}, 기준 시간: {}", userId, currentTime);
             }
             
         } catch (Exception e) {
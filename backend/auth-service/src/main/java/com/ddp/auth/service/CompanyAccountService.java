@@ -35,7 +35,6 @@ public class CompanyAccountService {
         String phone
     ) {
         log.info("API 호출 시작: 업체 계정 생성 - 업체 ID: {}, 이메일: {}", companyId, email);
-        long startTime = System.currentTimeMillis();
 
         try {
             // 1. 이메일 중복 확인
@@ -70,8 +69,7 @@ public class CompanyAccountService {
 
             User savedUser = userRepository.save(companyUser);
 
-            log.info("API 호출 완료: 업체 계정 생성 - 사용자 ID: {}, 이메일: {} ({}ms)",
-                savedUser.getUserId(), savedUser.getEmail(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 계정 생성 - 사용자 ID: {}, 이메일: {}", savedUser.getUserId(), savedUser.getEmail());
 
             return CreateCompanyAccountResponse.success(savedUser.getUserId(), savedUser.getEmail());
 
@@ -86,7 +84,6 @@ public class CompanyAccountService {
      */
     public ApiResponse deactivateCompanyAccount(Long companyId) {
         log.info("API 호출 시작: 업체 계정 비활성화 - 업체 ID: {}", companyId);
-        long startTime = System.currentTimeMillis();
 
         try {
             // 1. 업체 ID와 COMPANY 역할로 사용자 조회
@@ -103,8 +100,7 @@ public class CompanyAccountService {
             user.updateAccountStatus(AccountStatus.DEACTIVATED);
             userRepository.save(user);
 
-            log.info("API 호출 완료: 업체 계정 비활성화 - 사용자 ID: {}, 업체 ID: {} ({}ms)",
-                user.getUserId(), companyId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 계정 비활성화 - 사용자 ID: {}, 업체 ID: {}", user.getUserId(), companyId);
 
             return ApiResponse.success("업체 계정이 비활성화되었습니다.");
 
@@ -31,8 +31,6 @@ public class JwtService {
     public String generateToken(User user) {
         log.debug("API 호출 시작: JWT 토큰 생성 - 사용자 ID: {}", user.getUserId());
         
-        long startTime = System.currentTimeMillis();
-        
         try {
             Date now = new Date();
             Date expiryDate = new Date(now.getTime() + jwtConfig.getExpirationMs());
@@ -59,8 +57,7 @@ public class JwtService {
                     .signWith(getSigningKey(), SignatureAlgorithm.HS512) // 서명
                     .compact();
 
-            log.debug("API 호출 완료: JWT 액세스 토큰 생성 - 사용자 ID: {}, JTI: {} ({}ms)",
-                    user.getUserId(), jti, System.currentTimeMillis() - startTime);
+            log.debug("API 호출 완료: JWT 액세스 토큰 생성 - 사용자 ID: {}, JTI: {}", user.getUserId(), jti);
             
             return token;
             
@@ -74,8 +71,6 @@ public class JwtService {
     public boolean validateToken(String token) {
         log.debug("API 호출 시작: JWT 토큰 검증");
         
-        long startTime = System.currentTimeMillis();
-        
         try {
             Claims claims = Jwts.parser()
                     .verifyWith(getSigningKey())
@@ -99,8 +94,7 @@ public class JwtService {
                 return false;
             }
             
-            log.debug("API 호출 완료: JWT 토큰 검증 - 유효함 ({}ms)",
-                    System.currentTimeMillis() - startTime);
+            log.debug("API 호출 완료: JWT 토큰 검증 - 유효함");
 
             return true;
             
@@ -118,8 +112,7 @@ public class JwtService {
             log.error("JWT 토큰 검증 중 오류 발생: {}", e.getMessage(), e);
         }
         
-        log.debug("API 호출 완료: JWT 토큰 검증 - 유효하지 않음 ({}ms)",
-                System.currentTimeMillis() - startTime);
+        log.debug("API 호출 완료: JWT 토큰 검증 - 유효하지 않음");
 
         return false;
     }
@@ -46,8 +46,6 @@ public class SmsService {
     public String sendVerificationCode(String phone) {
         log.info("SMS 인증번호 발송 시작 - 전화번호: {}", maskPhone(phone));
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 6자리 랜덤 인증번호 생성
             String verificationCode = generateVerificationCode();
@@ -59,8 +57,7 @@ public class SmsService {
             // Solapi를 통한 실제 SMS 발송
             sendSmsViaSolapi(phone, verificationCode);
 
-            log.info("SMS 인증번호 발송 완료 - 전화번호: {}, 만료시간: {}초 ({}ms)",
-                    maskPhone(phone), verificationExpirationSeconds, System.currentTimeMillis() - startTime);
+            log.info("SMS 인증번호 발송 완료 - 전화번호: {}, 만료시간: {}초", maskPhone(phone), verificationExpirationSeconds);
 
             return verificationCode; // 개발용: 실제 환경에서는 반환하지 않음
 
@@ -23,8 +23,6 @@ public class TcsService {
     public TcsVerificationResponse verifyLicense(String licenseNumber) {
         log.info("API 호출 시작: TCS 운전면허 검증 - 면허번호: {}", maskLicenseNumber(licenseNumber));
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // TCS API 호출
             TcsVerificationRequest request = TcsVerificationRequest.builder()
@@ -40,11 +38,10 @@ public class TcsService {
             );
 
             if (response != null && response.isSuccess()) {
-                log.info("API 호출 완료: TCS 운전면허 검증 성공 - 이름: {}, 적발횟수: {} ({}ms)",
-                        response.getName(), response.getViolationCount(), System.currentTimeMillis() - startTime);
+                log.info("API 호출 완료: TCS 운전면허 검증 성공 - 이름: {}, 적발횟수: {}",
+                        response.getName(), response.getViolationCount());
             } else {
-                log.warn("API 호출 완료: TCS 운전면허 검증 실패 - 메시지: {} ({}ms)",
-                        response != null ? response.getMessage() : "응답 없음", System.currentTimeMillis() - startTime);
+                log.warn("API 호출 완료: TCS 운전면허 검증 실패 - 메시지: {}", response != null ? response.getMessage() : "응답 없음");
             }
 
             return response;
@@ -23,7 +23,6 @@ public class TokenCleanupService {
     public void cleanupTokensOnStartup() {
         log.info("서버 시작: 기존 토큰 정리 작업 시작");
         
-        long startTime = System.currentTimeMillis();
         int totalCleaned = 0;
         
         try {
@@ -43,8 +42,7 @@ public class TokenCleanupService {
             int userBlacklistCleaned = cleanupUserBlacklist();
             totalCleaned += userBlacklistCleaned;
             
-            log.info("서버 시작: 토큰 정리 완료 - 총 {}개 항목 정리 ({}ms)", 
-                    totalCleaned, System.currentTimeMillis() - startTime);
+            log.info("서버 시작: 토큰 정리 완료 - 총 {}개 항목 정리", totalCleaned);
                     
         } catch (Exception e) {
             log.error("서버 시작: 토큰 정리 중 오류 발생: {}", e.getMessage(), e);
@@ -22,8 +22,6 @@ public class TokenService {
     public String generateRefreshToken(Long userId) {
         log.debug("API 호출 시작: 리프레시 토큰 생성 - 사용자 ID: {}", userId);
         
-        long startTime = System.currentTimeMillis();
-        
         try {
             // 고유한 토큰 ID 생성
             String tokenId = UUID.randomUUID().toString();
@@ -38,8 +36,7 @@ public class TokenService {
             redisTemplate.opsForSet().add(userTokensKey, tokenId);
             redisTemplate.expire(userTokensKey, Duration.ofDays(7));
             
-            log.debug("API 호출 완료: 리프레시 토큰 생성 - 사용자 ID: {}, 리프레시 토큰 ID: {}, Redis 키: {} ({}ms)",
-                    userId, tokenId, tokenKey, System.currentTimeMillis() - startTime);
+            log.debug("API 호출 완료: 리프레시 토큰 생성 - 사용자 ID: {}, 리프레시 토큰 ID: {}, Redis 키: {}", userId, tokenId, tokenKey);
             
             return refreshToken;
             
@@ -53,8 +50,6 @@ public class TokenService {
     public Long validateRefreshToken(String refreshToken) {
         log.debug("API 호출 시작: 리프레시 토큰 검증");
         
-        long startTime = System.currentTimeMillis();
-        
         try {
             // 토큰 형식 검증
             if (!refreshToken.startsWith("refresh_")) {
@@ -75,8 +70,7 @@ public class TokenService {
             
             Long userId = Long.parseLong(userIdStr);
 
-            log.debug("API 호출 완료: 리프레시 토큰 검증 - 사용자 ID: {} ({}ms)",
-                    userId, System.currentTimeMillis() - startTime);
+            log.debug("API 호출 완료: 리프레시 토큰 검증 - 사용자 ID: {}", userId);
             
             return userId;
             
@@ -90,8 +84,6 @@ public class TokenService {
     public void revokeRefreshToken(String refreshToken) {
         log.debug("API 호출 시작: 리프레시 토큰 삭제");
         
-        long startTime = System.currentTimeMillis();
-        
         try {
             if (!refreshToken.startsWith("refresh_")) {
                 log.warn("잘못된 리프레시 토큰 형식: {}", refreshToken);
@@ -114,8 +106,7 @@ public class TokenService {
             // 토큰 삭제
             redisTemplate.delete(tokenKey);
 
-            log.debug("API 호출 완료: 리프레시 토큰 삭제 ({}ms)",
-                    System.currentTimeMillis() - startTime);
+            log.debug("API 호출 완료: 리프레시 토큰 삭제");
             
         } catch (Exception e) {
             log.error("리프레시 토큰 삭제 중 오류 발생: {}", e.getMessage(), e);
@@ -126,8 +117,6 @@ public class TokenService {
     public void revokeAllRefreshTokens(Long userId) {
         log.debug("API 호출 시작: 사용자 모든 리프레시 토큰 삭제 - 사용자 ID: {}", userId);
         
-        long startTime = System.currentTimeMillis();
-        
         try {
             String userTokensKey = RedisKeyConstants.USER_TOKENS_KEY_PREFIX + userId;
 
@@ -144,11 +133,9 @@ public class TokenService {
                 // 사용자 토큰 목록 삭제
                 redisTemplate.delete(userTokensKey);
                 
-                log.debug("API 호출 완료: 사용자 모든 리프레시 토큰 삭제 - 사용자 ID: {}, 삭제된 토큰 수: {} ({}ms)",
-                        userId, tokenIds.size(), System.currentTimeMillis() - startTime);
+                log.debug("API 호출 완료: 사용자 모든 리프레시 토큰 삭제 - 사용자 ID: {}, 삭제된 토큰 수: {}", userId, tokenIds.size());
             } else {
-                log.debug("API 호출 완료: 삭제할 리프레시 토큰이 없음 - 사용자 ID: {} ({}ms)",
-                        userId, System.currentTimeMillis() - startTime);
+                log.debug("API 호출 완료: 삭제할 리프레시 토큰이 없음 - 사용자 ID: {}", userId);
             }
             
         } catch (Exception e) {
@@ -1,8 +1,10 @@
 package com.ddp.auth.service;
 
+import com.ddp.auth.client.ReferenceDataChangePublisher;
 import com.ddp.auth.dto.request.ChangePasswordRequest;
 import com.ddp.auth.dto.request.UpdateProfileRequest;
 import com.ddp.auth.dto.response.UpdateProfileResponse;
+import com.ddp.auth.dto.response.UserContactResponse;
 import com.ddp.auth.dto.response.UserProfileResponse;
 import com.ddp.auth.entity.User;
 import com.ddp.auth.repository.UserRepository;
@@ -12,6 +14,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,6 +30,7 @@ public class UserProfileService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataChangePublisher referenceDataChangePublisher;
 
     /**
      * 사용자 프로필 조회
@@ -32,7 +38,6 @@ public class UserProfileService {
     @Transactional(readOnly = true)
     public UserProfileResponse getProfile(Long userId) {
         log.info("API 호출 시작: 사용자 프로필 조회 - 사용자 ID: {}", userId);
-        long startTime = System.currentTimeMillis();
 
         try {
             // 사용자 조회
@@ -45,36 +50,40 @@ public class UserProfileService {
             User user = userOpt.get();
 
             // 프로필 응답 생성 (면허번호 마스킹 처리)
-            UserProfileResponse response = UserProfileResponse.builder()
-                    .id(String.valueOf(user.getUserId()))
-                    .email(user.getEmail())
-                    .name(user.getName())
-                    .phone(user.getPhone())
-                    .address(user.getAddress())
-                    .licenseNumber(UserProfileResponse.maskLicenseNumber(user.getLicenseNumber()))
-                    .deviceId(null) // TODO: 장치 정보 연동 시 구현
-                    .createdAt(user.getCreatedAt())
-                    .updatedAt(user.getUpdatedAt())
-                    .build();
-
-            log.info("API 호출 완료: 사용자 프로필 조회 - 사용자 ID: {} ({}ms)",
-                    userId, System.currentTimeMillis() - startTime);
+            UserProfileResponse response = toProfileResponse(user);
+
+            log.info("API 호출 완료: 사용자 프로필 조회 - 사용자 ID: {}", userId);
 
             return response;
 
         } catch (Exception e) {
-            log.error("API 호출 실패: 사용자 프로필 조회 - 사용자 ID: {} ({}ms), 오류: {}",
-                    userId, System.currentTimeMillis() - startTime, e.getMessage());
+            log.error("API 호출 실패: 사용자 프로필 조회 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * 사용자 연락처 일괄 조회 (내부 서비스 호출용)
+     * 존재하지 않는 사용자 ID는 결과에서 제외
+     */
+    @Transactional(readOnly = true)
+    public List<UserContactResponse> getContacts(Collection<Long> userIds) {
+        log.info("API 호출 시작: 사용자 연락처 일괄 조회 - {} 명", userIds.size());
+
+        List<UserContactResponse> responses = userRepository.findAllById(new HashSet<>(userIds)).stream()
+                .map(UserContactResponse::from)
+                .toList();
+
+        log.info("API 호출 완료: 사용자 연락처 일괄 조회 - 요청 {} 명, 조회 {} 명", userIds.size(), responses.size());
+
+        return responses;
+    }
+
     /**
      * 사용자 프로필 수정
      */
     public UpdateProfileResponse updateProfile(Long userId, UpdateProfileRequest request) {
         log.info("API 호출 시작: 사용자 프로필 수정 - 사용자 ID: {}", userId);
-        long startTime = System.currentTimeMillis();
 
         try {
             // 사용자 조회
@@ -98,18 +107,17 @@ public class UserProfileService {
             // 프로필 업데이트
             user.updateProfile(request.getPhone(), request.getAddress());
             userRepository.save(user);
+            referenceDataChangePublisher.publishUserChanged(userId);
 
             // 업데이트된 프로필 조회
             UserProfileResponse profileResponse = getProfile(userId);
 
-            log.info("API 호출 완료: 사용자 프로필 수정 - 사용자 ID: {} ({}ms)",
-                    userId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 사용자 프로필 수정 - 사용자 ID: {}", userId);
 
             return UpdateProfileResponse.success("프로필이 성공적으로 수정되었습니다.", profileResponse);
 
         } catch (Exception e) {
-            log.error("API 호출 실패: 사용자 프로필 수정 - 사용자 ID: {} ({}ms), 오류: {}",
-                    userId, System.currentTimeMillis() - startTime, e.getMessage());
+            log.error("API 호출 실패: 사용자 프로필 수정 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
             return UpdateProfileResponse.failure("프로필 수정 중 오류가 발생했습니다.");
         }
     }
@@ -119,7 +127,6 @@ public class UserProfileService {
      */
     public UpdateProfileResponse changePassword(Long userId, ChangePasswordRequest request) {
         log.info("API 호출 시작: 비밀번호 변경 - 사용자 ID: {}", userId);
-        long startTime = System.currentTimeMillis();
 
         try {
             // 새 비밀번호와 확인 비밀번호 일치 검증
@@ -154,15 +161,28 @@ public class UserProfileService {
             user.updatePassword(newPasswordHash);
             userRepository.save(user);
 
-            log.info("API 호출 완료: 비밀번호 변경 - 사용자 ID: {} ({}ms)",
-                    userId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 비밀번호 변경 - 사용자 ID: {}", userId);
 
             return UpdateProfileResponse.success("비밀번호가 성공적으로 변경되었습니다.", null);
 
         } catch (Exception e) {
-            log.error("API 호출 실패: 비밀번호 변경 - 사용자 ID: {} ({}ms), 오류: {}",
-                    userId, System.currentTimeMillis() - startTime, e.getMessage());
+            log.error("API 호출 실패: 비밀번호 변경 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
             return UpdateProfileResponse.failure("비밀번호 변경 중 오류가 발생했습니다.");
         }
     }
+
+    // 프로필 응답 생성 (면허번호 마스킹 처리)
+    private UserProfileResponse toProfileResponse(User user) {
+        return UserProfileResponse.builder()
+                .id(String.valueOf(user.getUserId()))
+                .email(user.getEmail())
+                .name(user.getName())
+                .phone(user.getPhone())
+                .address(user.getAddress())
+                .licenseNumber(UserProfileResponse.maskLicenseNumber(user.getLicenseNumber()))
+                .deviceId(null) // TODO: 장치 정보 연동 시 구현
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
 }
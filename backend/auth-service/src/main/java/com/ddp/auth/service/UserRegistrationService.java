@@ -1,5 +1,6 @@
 package com.ddp.auth.service;
 
+import com.ddp.auth.client.ReferenceDataChangePublisher;
 import com.ddp.auth.dto.response.CompleteRegistrationResponse;
 import com.ddp.auth.dto.response.SmsVerificationResponse;
 import com.ddp.auth.entity.AccountStatus;
@@ -23,13 +24,12 @@ public class UserRegistrationService {
     private final UserRepository userRepository;
     private final SmsService smsService;
     private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataChangePublisher referenceDataChangePublisher;
 
     // Step 1: SMS 인증번호 발송
     public SmsVerificationResponse sendVerificationCode(String phone) {
         log.info("API 호출 시작: SMS 인증번호 발송 - 전화번호: {}", maskPhone(phone));
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 1. PENDING 상태의 계정이 존재하는지 확인
             Optional<User> pendingUser = userRepository.findByPhone(phone);
@@ -56,8 +56,7 @@ public class UserRegistrationService {
             // 4. SMS 인증번호 발송
             String code = smsService.sendVerificationCode(phone);
 
-            log.info("API 호출 완료: SMS 인증번호 발송 - 전화번호: {} ({}ms)",
-                    maskPhone(phone), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: SMS 인증번호 발송 - 전화번호: {}", maskPhone(phone));
 
             return SmsVerificationResponse.sendSuccess(180); // 3분
 
@@ -71,8 +70,6 @@ public class UserRegistrationService {
     public SmsVerificationResponse verifyCode(String phone, String code) {
         log.info("API 호출 시작: SMS 인증번호 확인 - 전화번호: {}", maskPhone(phone));
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 1. 인증번호 확인
             boolean isValid = smsService.verifyCode(phone, code);
@@ -95,8 +92,7 @@ public class UserRegistrationService {
             // 3. 인증 토큰 생성
             String verificationToken = smsService.generateVerificationToken(phone);
 
-            log.info("API 호출 완료: SMS 인증 성공 - 전화번호: {}, 사용자: {} ({}ms)",
-                    maskPhone(phone), user.getName(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: SMS 인증 성공 - 전화번호: {}, 사용자: {}", maskPhone(phone), user.getName());
 
             // 4. 마스킹된 운전면허 번호 반환
             String maskedLicense = maskLicenseNumber(user.getLicenseNumber());
@@ -113,8 +109,6 @@ public class UserRegistrationService {
     public CompleteRegistrationResponse completeRegistration(String verificationToken, String email, String password) {
         log.info("API 호출 시작: 회원가입 완료");
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 1. 인증 토큰 검증
             String phone = smsService.validateVerificationToken(verificationToken);
@@ -157,12 +151,12 @@ public class UserRegistrationService {
                     .build();
 
             User savedUser = userRepository.save(updatedUser);
+            referenceDataChangePublisher.publishUserChanged(savedUser.getUserId());
 
             // 5. 인증 토큰 삭제
             smsService.revokeVerificationToken(verificationToken);
 
-            log.info("API 호출 완료: 회원가입 완료 - 사용자 ID: {}, 이메일: {} ({}ms)",
-                    savedUser.getUserId(), savedUser.getEmail(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 회원가입 완료 - 사용자 ID: {}, 이메일: {}", savedUser.getUserId(), savedUser.getEmail());
 
             return CompleteRegistrationResponse.success(
                     savedUser.getUserId(),
@@ -9,7 +9,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
 // Auth Service Feign Client
-@FeignClient(name = "auth-service", path = "/api/v1/auth/company/accounts")
+@FeignClient(name = "auth-service", fallbackFactory = AuthServiceClientFallbackFactory.class, path = "/api/v1/auth/company/accounts")
 public interface AuthServiceClient {
 
     /**
@@ -0,0 +1,30 @@
+package com.ddp.company.client;
+
+import com.ddp.company.dto.request.CreateCompanyAccountRequest;
+import com.ddp.company.dto.response.ApiResponse;
+import com.ddp.company.dto.response.CreateCompanyAccountResponse;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * auth-service 호출 폴백
+ * - 업체 계정 생성 / 비활성화: 원래 예외 전달 (CompanyService의 기존 실패 처리 유지)
+ */
+@Component
+public class AuthServiceClientFallbackFactory implements FallbackFactory<AuthServiceClient> {
+
+    @Override
+    public AuthServiceClient create(Throwable cause) {
+        return new AuthServiceClient() {
+            @Override
+            public CreateCompanyAccountResponse createCompanyAccount(CreateCompanyAccountRequest request) {
+                throw FeignFallbacks.propagate("auth-service", cause);
+            }
+
+            @Override
+            public ApiResponse deactivateCompanyAccount(Long companyId) {
+                throw FeignFallbacks.propagate("auth-service", cause);
+            }
+        };
+    }
+}
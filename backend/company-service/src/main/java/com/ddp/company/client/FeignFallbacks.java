@@ -0,0 +1,46 @@
+package com.ddp.company.client;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Feign 서킷 브레이커 폴백 공통 처리
+ * - 서킷 열림 / 벌크헤드 포화: 원격 호출 없이 즉시 거부된 경우
+ * - 그 외 오류는 원래 예외(FeignException 등)를 그대로 던져 호출부의 기존 예외 처리 유지
+ *   (세마포어 벌크헤드 경로는 원래 예외를 ExecutionException으로 감싸서 전달하므로 벗겨서 판단)
+ * - 서비스 간 공통 모듈이 없어 auth/company/device/reservation-service에 같은 내용으로 둠
+ */
+@Slf4j
+final class FeignFallbacks {
+
+    private FeignFallbacks() {
+    }
+
+    // 장애 격리로 호출이 거부되었는지 여부
+    static boolean isRejected(Throwable cause) {
+        Throwable unwrapped = unwrap(cause);
+        return unwrapped instanceof CallNotPermittedException || unwrapped instanceof BulkheadFullException;
+    }
+
+    // 원래 예외 반환 (호출부에서 throw)
+    static RuntimeException propagate(String target, Throwable cause) {
+        cause = unwrap(cause);
+        if (isRejected(cause)) {
+            log.warn("{} 호출 차단 ({}): {}", target, cause.getClass().getSimpleName(), cause.getMessage());
+        }
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException(target + " 호출에 실패했습니다.", cause);
+    }
+
+    private static Throwable unwrap(Throwable cause) {
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
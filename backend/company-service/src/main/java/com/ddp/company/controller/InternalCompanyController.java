@@ -1,17 +1,20 @@
 package com.ddp.company.controller;
 
+import com.ddp.company.dto.request.CompanyBatchRequest;
+import com.ddp.company.dto.response.CompanyBatchResponse;
 import com.ddp.company.dto.response.CompanyDto;
 import com.ddp.company.service.CompanyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 // 내부 서비스 호출용 업체 컨트롤러 (Feign Client용)
+// 일괄 조회는 /internal 경로로 두어 Gateway에 노출하지 않음 (/api/v1/companies/**는 Gateway 라우팅 대상)
 @RestController
-@RequestMapping("/api/v1/companies")
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Internal Company API", description = "내부 서비스 호출용 업체 API")
@@ -26,7 +29,7 @@ public class InternalCompanyController {
      * 이 엔드포인트는 다른 마이크로서비스(예: reservation-service)에서
      * Feign Client를 통해 호출하기 위한 용도입니다.
      */
-    @GetMapping("/{id}")
+    @GetMapping("/api/v1/companies/{id}")
     @Operation(summary = "업체 기본 정보 조회", description = "내부 서비스에서 업체 기본 정보를 조회합니다")
     public ResponseEntity<CompanyDto> getCompanyBasicInfo(@PathVariable Long id) {
         log.debug("내부 서비스 - 업체 기본 정보 조회 요청: companyId={}", id);
@@ -43,4 +46,24 @@ public class InternalCompanyController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 업체 연락처 일괄 조회 (내부 서비스용)
+     * POST /internal/companies/batch
+     *
+     * reservation-service가 예약 목록에 업체 정보를 붙일 때 호출합니다.
+     * 요청한 업체 중 일부가 없거나 조회에 실패해도 나머지 업체는 정상 반환합니다.
+     */
+    @PostMapping("/internal/companies/batch")
+    @Operation(summary = "업체 연락처 일괄 조회", description = "reservation-service가 예약 목록 보강 시 호출합니다")
+    public ResponseEntity<CompanyBatchResponse> getCompanyBasicInfos(@Valid @RequestBody CompanyBatchRequest request) {
+        log.debug("내부 서비스 - 업체 연락처 일괄 조회 요청: {}개", request.getCompanyIds().size());
+
+        try {
+            return ResponseEntity.ok(companyService.getCompanyBasicInfos(request.getCompanyIds()));
+        } catch (Exception e) {
+            log.error("업체 연락처 일괄 조회 실패: error={}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package com.ddp.company.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 업체 일괄 조회 요청 DTO (내부 서비스 호출용)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyBatchRequest {
+
+    // 조회할 업체 ID 목록
+    @NotEmpty(message = "업체 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000개까지 조회할 수 있습니다")
+    private List<Long> companyIds;
+}
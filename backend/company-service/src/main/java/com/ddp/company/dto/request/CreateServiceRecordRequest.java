@@ -47,4 +47,7 @@ public class CreateServiceRecordRequest {
 
     // 업체 ID
     private Long companyId;
+
+    // 멱등성 키 (옵션, 같은 키로 재요청 시 기존 이력 반환)
+    private String idempotencyKey;
 }
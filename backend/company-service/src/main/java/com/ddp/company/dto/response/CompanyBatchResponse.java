@@ -0,0 +1,20 @@
+package com.ddp.company.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 업체 일괄 조회 응답 DTO (일부 업체가 없거나 변환에 실패해도 나머지는 정상 반환)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyBatchResponse {
+
+    private List<CompanyContactResponse> companies; // 조회된 업체 목록 (연락처 항목만)
+    private List<Long> missingIds; // 존재하지 않는 업체 ID
+    private List<Long> failedIds; // 조회 중 오류가 발생한 업체 ID
+}
@@ -0,0 +1,39 @@
+package com.ddp.company.dto.response;
+
+import com.ddp.company.entity.Company;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업체 연락처 응답 DTO (내부 서비스 목록 보강용)
+ * 예약 목록 표시에 필요한 항목만 포함 (사업자등록번호, 대표자명, 이메일 등 제외)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyContactResponse {
+
+    // 업체 고유 ID
+    private String id;
+
+    // 업체명
+    private String name;
+
+    // 전화번호
+    private String phone;
+
+    // 주소
+    private String address;
+
+    public static CompanyContactResponse from(Company company) {
+        return CompanyContactResponse.builder()
+                .id(String.valueOf(company.getId()))
+                .name(company.getName())
+                .phone(company.getPhone())
+                .address(company.getAddress())
+                .build();
+    }
+}
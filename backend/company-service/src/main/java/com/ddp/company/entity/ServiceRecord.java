@@ -60,6 +60,10 @@ public class ServiceRecord {
     @Column(precision = 10, scale = 2)
     private BigDecimal cost;
 
+    // 멱등성 키 (예약 서비스 재전송 시 중복 생성 방지, 옵션)
+    @Column(unique = true, length = 100)
+    private String idempotencyKey;
+
     // 소속 업체 (N:1 관계)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
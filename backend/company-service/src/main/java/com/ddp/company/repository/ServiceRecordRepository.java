@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 // 서비스 이력 리포지토리
 @Repository
@@ -24,6 +25,9 @@ public interface ServiceRecordRepository extends JpaRepository<ServiceRecord, Lo
     // 장치별 서비스 이력 조회
     List<ServiceRecord> findByDeviceId(String deviceId);
 
+    // 멱등성 키로 서비스 이력 조회
+    Optional<ServiceRecord> findByIdempotencyKey(String idempotencyKey);
+
     // 업체별 총 서비스 건수
     long countByCompanyId(Long companyId);
 
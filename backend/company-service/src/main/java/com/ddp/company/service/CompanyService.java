@@ -1,6 +1,7 @@
 package com.ddp.company.service;
 
 import com.ddp.company.client.AuthServiceClient;
+import com.ddp.company.client.ReferenceDataChangePublisher;
 import com.ddp.company.dto.request.CreateCompanyAccountRequest;
 import com.ddp.company.dto.request.CreateCompanyRequest;
 import com.ddp.company.dto.request.UpdateCompanyRequest;
@@ -22,7 +23,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 // 업체 관리 서비스
@@ -35,6 +40,7 @@ public class CompanyService {
     private final CompanyRepository companyRepository;
     private final ServiceRecordRepository serviceRecordRepository;
     private final AuthServiceClient authServiceClient;
+    private final ReferenceDataChangePublisher referenceDataChangePublisher;
 
     /**
      * 업체 목록 조회
@@ -42,8 +48,6 @@ public class CompanyService {
     @Transactional(readOnly = true)
     public CompanyListResponse getCompanies(String searchQuery, String status, String region, Integer page, Integer pageSize) {
         log.info("API 호출 시작: 업체 목록 조회");
-        long startTime = System.currentTimeMillis();
-
         try {
             // 페이징 설정 (기본값: 페이지 0, 크기 10)
             int pageNumber = (page != null && page > 0) ? page - 1 : 0;
@@ -64,8 +68,7 @@ public class CompanyService {
                 .map(CompanyDto::fromEntity)
                 .collect(Collectors.toList());
 
-            log.info("API 호출 완료: 업체 목록 조회 - 총 {}개 조회 ({}ms)",
-                companyPage.getTotalElements(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 목록 조회 - 총 {}개 조회", companyPage.getTotalElements());
 
             return CompanyListResponse.success((int) companyPage.getTotalElements(), companies);
 
@@ -81,16 +84,13 @@ public class CompanyService {
     @Transactional(readOnly = true)
     public CompanyDetailResponse getCompanyById(Long id) {
         log.info("API 호출 시작: 업체 상세 조회 - ID: {}", id);
-        long startTime = System.currentTimeMillis();
-
         try {
             Company company = companyRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다: " + id));
 
             CompanyDetailDto companyDetail = CompanyDetailDto.fromEntity(company);
 
-            log.info("API 호출 완료: 업체 상세 조회 - ID: {} ({}ms)",
-                id, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 상세 조회 - ID: {}", id);
 
             return CompanyDetailResponse.success(companyDetail);
 
@@ -123,13 +123,44 @@ public class CompanyService {
         }
     }
 
+    /**
+     * 업체 연락처 일괄 조회 (내부 서비스용, 예약 목록 보강)
+     * 단일 IN 쿼리로 조회하고, 없거나 변환에 실패한 업체는 ID만 따로 반환
+     */
+    @Transactional(readOnly = true)
+    public CompanyBatchResponse getCompanyBasicInfos(Collection<Long> ids) {
+        log.debug("내부 서비스 호출: 업체 연락처 일괄 조회 - {}개", ids.size());
+
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        List<CompanyContactResponse> companies = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+
+        for (Company company : companyRepository.findAllById(requestedIds)) {
+            requestedIds.remove(company.getId());
+            try {
+                companies.add(CompanyContactResponse.from(company));
+            } catch (Exception e) {
+                log.error("업체 연락처 변환 실패: ID={}, error={}", company.getId(), e.getMessage());
+                failedIds.add(company.getId());
+            }
+        }
+
+        if (!requestedIds.isEmpty()) {
+            log.warn("업체를 찾을 수 없습니다: IDs={}", requestedIds);
+        }
+
+        return CompanyBatchResponse.builder()
+                .companies(companies)
+                .missingIds(new ArrayList<>(requestedIds))
+                .failedIds(failedIds)
+                .build();
+    }
+
     /**
      * 업체 등록
      */
     public ApiResponse createCompany(CreateCompanyRequest request) {
         log.info("API 호출 시작: 업체 등록 - 업체명: {}", request.getName());
-        long startTime = System.currentTimeMillis();
-
         try {
             // 1. 사업자등록번호 중복 확인 (삭제되지 않은 업체만)
             if (companyRepository.existsByBusinessNumberAndDeletedAtIsNull(request.getBusinessNumber())) {
@@ -162,8 +193,7 @@ public class CompanyService {
             // 4. 저장
             Company savedCompany = companyRepository.save(company);
 
-            log.info("API 호출 완료: 업체 등록 - ID: {}, 업체명: {} ({}ms)",
-                savedCompany.getId(), savedCompany.getName(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 등록 - ID: {}, 업체명: {}", savedCompany.getId(), savedCompany.getName());
 
 
             return ApiResponse.success("업체가 성공적으로 등록되었습니다.");
@@ -179,8 +209,6 @@ public class CompanyService {
      */
     public ApiResponse approveCompany(Long companyId, String accountId, String password) {
         log.info("API 호출 시작: 업체 승인 - ID: {}", companyId);
-        long startTime = System.currentTimeMillis();
-
         try {
             Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다: " + companyId));
@@ -227,9 +255,9 @@ public class CompanyService {
             }
 
             companyRepository.save(company);
+            referenceDataChangePublisher.publishCompanyChanged(companyId);
 
-            log.info("API 호출 완료: 업체 승인 - ID: {}, 업체명: {} ({}ms)",
-                companyId, company.getName(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 승인 - ID: {}, 업체명: {}", companyId, company.getName());
 
             return ApiResponse.success("업체가 승인되었습니다.");
 
@@ -244,8 +272,6 @@ public class CompanyService {
      */
     public ApiResponse rejectCompany(Long companyId, String reason) {
         log.info("API 호출 시작: 업체 거절 - ID: {}", companyId);
-        long startTime = System.currentTimeMillis();
-
         try {
             Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다: " + companyId));
@@ -253,9 +279,9 @@ public class CompanyService {
             // 업체 거절 처리
             company.setStatus(CompanyStatus.REJECTED);
             companyRepository.save(company);
+            referenceDataChangePublisher.publishCompanyChanged(companyId);
 
-            log.info("API 호출 완료: 업체 거절 - ID: {}, 업체명: {}, 사유: {} ({}ms)",
-                companyId, company.getName(), reason, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 거절 - ID: {}, 업체명: {}, 사유: {}", companyId, company.getName(), reason);
 
             return ApiResponse.success("업체가 거절되었습니다.");
 
@@ -270,8 +296,6 @@ public class CompanyService {
      */
     public ApiResponse updateCompany(Long id, UpdateCompanyRequest request) {
         log.info("API 호출 시작: 업체 수정 - ID: {}", id);
-        long startTime = System.currentTimeMillis();
-
         try {
             Company company = companyRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다: " + id));
@@ -297,9 +321,9 @@ public class CompanyService {
             }
 
             companyRepository.save(company);
+            referenceDataChangePublisher.publishCompanyChanged(id);
 
-            log.info("API 호출 완료: 업체 수정 - ID: {}, 업체명: {} ({}ms)",
-                id, company.getName(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 수정 - ID: {}, 업체명: {}", id, company.getName());
 
             return ApiResponse.success("업체 정보가 수정되었습니다.");
 
@@ -314,8 +338,6 @@ public class CompanyService {
      */
     public ApiResponse deleteCompany(Long id) {
         log.info("API 호출 시작: 업체 삭제 (Soft Delete) - ID: {}", id);
-        long startTime = System.currentTimeMillis();
-
         try {
             Company company = companyRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다: " + id));
@@ -329,6 +351,7 @@ public class CompanyService {
             // 1. 업체 Soft Delete 수행 (관리자 ID는 임시로 1L 사용, 추후 Spring Security에서 가져오기)
             company.softDelete(1L);
             companyRepository.save(company);
+            referenceDataChangePublisher.publishCompanyChanged(id);
 
             // 2. auth-service 호출하여 업체 계정 비활성화
             try {
@@ -340,8 +363,7 @@ public class CompanyService {
                 // auth-service 호출 실패해도 업체 삭제는 유지
             }
 
-            log.info("API 호출 완료: 업체 삭제 (Soft Delete) - ID: {}, 업체명: {} ({}ms)",
-                id, company.getName(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 삭제 (Soft Delete) - ID: {}, 업체명: {}", id, company.getName());
 
             return ApiResponse.success("업체가 삭제되었습니다.");
 
@@ -357,8 +379,6 @@ public class CompanyService {
     @Transactional(readOnly = true)
     public CompanyStatsDto getCompanyStats(Long companyId) {
         log.info("API 호출 시작: 업체 통계 조회 - 업체 ID: {}", companyId);
-        long startTime = System.currentTimeMillis();
-
         try {
             // 업체 존재 확인
             if (!companyRepository.existsById(companyId)) {
@@ -395,8 +415,7 @@ public class CompanyService {
                 .averageServiceCost(averageServiceCost != null ? averageServiceCost : BigDecimal.ZERO)
                 .build();
 
-            log.info("API 호출 완료: 업체 통계 조회 - 업체 ID: {} ({}ms)",
-                companyId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 통계 조회 - 업체 ID: {}", companyId);
 
             return stats;
 
@@ -30,7 +30,6 @@ public class OperatorService {
      */
     public OperatorListResponse getAllOperators(String region, String serviceType) {
         log.info("API 호출 시작: 업체 목록 조회 (공개) - 지역: {}, 서비스: {}", region, serviceType);
-        long startTime = System.currentTimeMillis();
 
         try {
             // 승인된 업체만 조회 (삭제되지 않은 업체만)
@@ -47,8 +46,7 @@ public class OperatorService {
                 .map(OperatorDto::fromEntity)
                 .collect(Collectors.toList());
 
-            log.info("API 호출 완료: 업체 목록 조회 (공개) - 총 {}개 조회 ({}ms)",
-                operators.size(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 목록 조회 (공개) - 총 {}개 조회", operators.size());
 
             return OperatorListResponse.success(operators.size(), operators);
 
@@ -63,7 +61,6 @@ public class OperatorService {
      */
     public OperatorDto getOperatorById(Long id) {
         log.info("API 호출 시작: 업체 상세 조회 (공개) - ID: {}", id);
-        long startTime = System.currentTimeMillis();
 
         try {
             Company company = companyRepository.findById(id)
@@ -77,8 +74,7 @@ public class OperatorService {
 
             OperatorDto operator = OperatorDto.fromEntity(company);
 
-            log.info("API 호출 완료: 업체 상세 조회 (공개) - ID: {} ({}ms)",
-                id, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 상세 조회 (공개) - ID: {}", id);
 
             return operator;
 
@@ -93,7 +89,6 @@ public class OperatorService {
      */
     public OperatorListResponse searchOperators(String keyword) {
         log.info("API 호출 시작: 업체 검색 - 키워드: {}", keyword);
-        long startTime = System.currentTimeMillis();
 
         try {
             // 승인된 업체 중 이름으로 검색 (삭제되지 않은 업체만)
@@ -105,8 +100,7 @@ public class OperatorService {
                 .map(OperatorDto::fromEntity)
                 .collect(Collectors.toList());
 
-            log.info("API 호출 완료: 업체 검색 - 키워드: {}, 총 {}개 조회 ({}ms)",
-                keyword, operators.size(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 업체 검색 - 키워드: {}, 총 {}개 조회", keyword, operators.size());
 
             return OperatorListResponse.success(operators.size(), operators);
 
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -32,9 +33,17 @@ public class ServiceRecordService {
     public ServiceRecordDto createServiceRecord(CreateServiceRecordRequest request) {
         log.info("API 호출 시작: 서비스 이력 생성 - 업체 ID: {}, 타입: {}", request.getCompanyId(), request.getType());
 
-        long startTime = System.currentTimeMillis();
-
         try {
+            // 같은 멱등성 키로 이미 생성된 이력이 있으면 그대로 반환 (재전송)
+            if (request.getIdempotencyKey() != null) {
+                Optional<ServiceRecord> existing = serviceRecordRepository.findByIdempotencyKey(request.getIdempotencyKey());
+                if (existing.isPresent()) {
+                    log.info("API 호출 완료: 서비스 이력 생성 (기존 이력 반환) - 이력 ID: {}, 멱등성 키: {}",
+                            existing.get().getId(), request.getIdempotencyKey());
+                    return ServiceRecordDto.fromEntity(existing.get());
+                }
+            }
+
             // 업체 조회
             Company company = companyRepository.findById(request.getCompanyId())
                     .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다: " + request.getCompanyId()));
@@ -50,14 +59,14 @@ public class ServiceRecordService {
                     .performedAt(request.getPerformedAt())
                     .performedBy(request.getPerformedBy())
                     .cost(request.getCost())
+                    .idempotencyKey(request.getIdempotencyKey())
                     .company(company)
                     .build();
 
             // 저장
             ServiceRecord savedRecord = serviceRecordRepository.save(record);
 
-            log.info("API 호출 완료: 서비스 이력 생성 - 이력 ID: {} ({}ms)",
-                    savedRecord.getId(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 서비스 이력 생성 - 이력 ID: {}", savedRecord.getId());
 
             return ServiceRecordDto.fromEntity(savedRecord);
 
@@ -77,12 +86,9 @@ public class ServiceRecordService {
     public List<ServiceRecordDto> getCompanyServiceRecords(Long companyId) {
         log.info("API 호출 시작: 업체 서비스 이력 조회 - 업체 ID: {}", companyId);
 
-        long startTime = System.currentTimeMillis();
-
         List<ServiceRecord> records = serviceRecordRepository.findByCompanyId(companyId);
 
-        log.info("API 호출 완료: 업체 서비스 이력 조회 - {} 건 ({}ms)",
-                records.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 업체 서비스 이력 조회 - {} 건", records.size());
 
         return records.stream()
                 .map(ServiceRecordDto::fromEntity)
@@ -96,13 +102,10 @@ public class ServiceRecordService {
     public ServiceRecordDto getServiceRecord(Long id) {
         log.info("API 호출 시작: 서비스 이력 상세 조회 - 이력 ID: {}", id);
 
-        long startTime = System.currentTimeMillis();
-
         ServiceRecord record = serviceRecordRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("서비스 이력을 찾을 수 없습니다: " + id));
 
-        log.info("API 호출 완료: 서비스 이력 상세 조회 - 이력 ID: {} ({}ms)",
-                id, System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 서비스 이력 상세 조회 - 이력 ID: {}", id);
 
         return ServiceRecordDto.fromEntity(record);
     }
@@ -114,12 +117,9 @@ public class ServiceRecordService {
     public List<ServiceRecordDto> getAllServiceRecords() {
         log.info("API 호출 시작: 전체 서비스 이력 조회 (관리자)");
 
-        long startTime = System.currentTimeMillis();
-
         List<ServiceRecord> records = serviceRecordRepository.findAll();
 
-        log.info("API 호출 완료: 전체 서비스 이력 조회 - {} 건 ({}ms)",
-                records.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 전체 서비스 이력 조회 - {} 건", records.size());
 
         return records.stream()
                 .map(ServiceRecordDto::fromEntity)
@@ -133,12 +133,9 @@ public class ServiceRecordService {
     public List<ServiceRecordDto> getUserServiceRecords(String subjectId) {
         log.info("API 호출 시작: 사용자 서비스 이력 조회 - 사용자 ID: {}", subjectId);
 
-        long startTime = System.currentTimeMillis();
-
         List<ServiceRecord> records = serviceRecordRepository.findBySubjectId(subjectId);
 
-        log.info("API 호출 완료: 사용자 서비스 이력 조회 - {} 건 ({}ms)",
-                records.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 사용자 서비스 이력 조회 - {} 건", records.size());
 
         return records.stream()
                 .map(ServiceRecordDto::fromEntity)
@@ -152,12 +149,9 @@ public class ServiceRecordService {
     public List<ServiceRecordDto> getDeviceServiceRecords(String deviceId) {
         log.info("API 호출 시작: 장치 서비스 이력 조회 - 장치 ID: {}", deviceId);
 
-        long startTime = System.currentTimeMillis();
-
         List<ServiceRecord> records = serviceRecordRepository.findByDeviceId(deviceId);
 
-        log.info("API 호출 완료: 장치 서비스 이력 조회 - {} 건 ({}ms)",
-                records.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 장치 서비스 이력 조회 - {} 건", records.size());
 
         return records.stream()
                 .map(ServiceRecordDto::fromEntity)
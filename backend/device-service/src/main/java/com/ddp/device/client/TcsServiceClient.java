@@ -0,0 +1,25 @@
+package com.ddp.device.client;
+
+import com.ddp.device.client.dto.TcsLicenseActionRequest;
+import com.ddp.device.client.dto.TcsLicenseActionResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * TCS (경찰청 교통안전 시스템) 통신을 위한 Feign Client
+ * 개발 환경에서는 tcs-mock-service로 연결
+ */
+@FeignClient(name = "tcs-mock-service", fallbackFactory = TcsServiceClientFallbackFactory.class)
+public interface TcsServiceClient {
+
+    /**
+     * 면허 조치 일괄 전송
+     * 멱등성 키가 같은 요청은 TCS에서 기존 처리 결과를 반환
+     *
+     * @param request 면허 조치 목록
+     * @return 항목별 처리 결과
+     */
+    @PostMapping("/api/v1/tcs/license/actions")
+    TcsLicenseActionResponse processLicenseActions(@RequestBody TcsLicenseActionRequest request);
+}
@@ -0,0 +1,24 @@
+package com.ddp.device.client;
+
+import com.ddp.device.client.dto.TcsLicenseActionRequest;
+import com.ddp.device.client.dto.TcsLicenseActionResponse;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * tcs-mock-service 호출 폴백
+ * - 면허 조치 전송: 원래 예외 전달 (TcsOutboxRelay가 지수 백오프로 재시도)
+ */
+@Component
+public class TcsServiceClientFallbackFactory implements FallbackFactory<TcsServiceClient> {
+
+    @Override
+    public TcsServiceClient create(Throwable cause) {
+        return new TcsServiceClient() {
+            @Override
+            public TcsLicenseActionResponse processLicenseActions(TcsLicenseActionRequest request) {
+                throw FeignFallbacks.propagate("tcs-mock-service", cause);
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.ddp.device.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * TCS 면허 조치 일괄 요청 DTO (tcs-mock-service 호출용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TcsLicenseActionRequest {
+
+    // 조치 목록
+    private List<LicenseAction> actions;
+
+    /**
+     * 면허 조치 항목
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class LicenseAction {
+
+        // 멱등성 키 (조치 ID)
+        private String idempotencyKey;
+
+        // 대상 사용자 ID
+        private Long userId;
+
+        // 조치 유형
+        private String actionType;
+
+        // 조치 상세 내용
+        private String actionDetail;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ddp.device.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * TCS 면허 조치 일괄 응답 DTO (tcs-mock-service 응답)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TcsLicenseActionResponse {
+
+    // 항목별 처리 결과
+    private List<Result> results;
+
+    /**
+     * 항목별 처리 결과
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+
+        // 멱등성 키 (조치 ID)
+        private String idempotencyKey;
+
+        // 처리 성공 여부
+        private boolean success;
+
+        // 이미 처리된 요청 여부 (재전송)
+        private boolean duplicate;
+
+        // 처리 결과 메시지
+        private String message;
+
+        // 처리 일시
+        private LocalDateTime processedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ddp.device.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+
+/**
+ * MongoDB Change Stream 설정
+ * 대시보드 요약 컬렉션 증분 갱신용 (레플리카 셋 환경에서만 활성화)
+ */
+@Configuration
+@ConditionalOnProperty(name = "log.summary.change-stream.enabled", havingValue = "true")
+public class ChangeStreamConfig {
+
+    // 컨테이너는 SmartLifecycle로 애플리케이션 시작/종료 시 자동으로 구독 시작/중지
+    @Bean
+    public MessageListenerContainer summaryListenerContainer(MongoTemplate mongoTemplate) {
+        return new DefaultMessageListenerContainer(mongoTemplate);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ddp.device.config;
+
+import com.ddp.device.entity.Device;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장치 ID 시퀀스 보정
+ * IDENTITY → 시퀀스 풀링 전환 시 새 시퀀스가 기존 device_id보다 작은 값에서 시작하지 않도록
+ * 시작 시 최대 ID 이후로 시퀀스를 이동 (이미 앞서 있으면 변경하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceIdSequenceInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(device_id), 0) FROM devices", Long.class);
+            Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + Device.ID_SEQUENCE, Long.class);
+
+            if (maxId != null && lastValue != null && lastValue <= maxId) {
+                // 풀링 옵티마이저는 시퀀스 값을 할당 구간의 상한으로 사용하므로 최대 ID + 할당 크기로 설정
+                jdbcTemplate.queryForObject("SELECT setval('" + Device.ID_SEQUENCE + "', ?, true)", Long.class, maxId + 50);
+                log.info("장치 ID 시퀀스 보정: {} → {}", lastValue, maxId + 50);
+            }
+        } catch (Exception e) {
+            log.warn("장치 ID 시퀀스 보정 실패: {}", e.getMessage());
+        }
+    }
+}
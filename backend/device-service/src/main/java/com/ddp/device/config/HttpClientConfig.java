@@ -0,0 +1,35 @@
+package com.ddp.device.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 간 HTTP 연결 풀 설정
+ * - Feign 호출은 OpenFeign 자동 구성의 Apache HttpClient 5 연결 풀(keep-alive 재사용)을 사용
+ * - 장치 조회 캐시 무효화 전파(DeviceChangePublisher)도 같은 HttpClient(연결 풀)를 공유
+ * - 풀 크기 / 연결 재사용 시간: config-repo application.yml의 spring.cloud.openfeign.httpclient.*
+ * - HttpClient 자동 재시도 비활성화 (기본 전략은 POST도 503/429 응답 시 한 번 더 전송, 재시도는 호출부가 결정)
+ * - 풀 상태는 actuator metrics의 httpcomponents.httpclient.pool.* (httpclient=inter-service) 로 조회
+ * - 서비스 간 공통 모듈이 없어 auth/company/device/reservation-service에 같은 내용으로 둠 (변경 시 함께 수정)
+ */
+@Configuration
+public class HttpClientConfig {
+
+    // 연결 풀 메트릭 (최대/사용 중/유휴 연결 수, 연결 대기 요청 수)
+    @Bean
+    public MeterBinder interServiceConnectionPoolMetrics(HttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(
+                (PoolingHttpClientConnectionManager) connectionManager, "inter-service");
+    }
+
+    // 자동 재시도 비활성화 (비멱등 요청 중복 전송 방지, 서킷 브레이커 집계 왜곡 방지)
+    @Bean
+    public HttpClientBuilderCustomizer disableAutomaticRetries() {
+        return builder -> builder.disableAutomaticRetries();
+    }
+}
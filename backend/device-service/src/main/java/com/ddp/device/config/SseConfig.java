@@ -0,0 +1,74 @@
+package com.ddp.device.config;
+
+import com.ddp.device.sse.SseFanoutHub;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * SSE (Server-Sent Events) 설정
+ * - 공용 디스패처: 모든 허브의 전송을 소수 스레드로 처리 (연결 수와 무관)
+ * - closer: 느린 연결 종료 전용 (전송 중인 연결의 종료가 끝날 때까지 대기해도 다른 작업에 영향 없음)
+ * - 허브: 채널별 팬아웃 허브
+ */
+@Configuration
+public class SseConfig {
+
+    @Value("${sse.buffer-size:100}")
+    private int bufferSize;
+
+    @Value("${sse.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${sse.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    @Value("${sse.send-timeout-seconds:10}")
+    private long sendTimeoutSeconds;
+
+    // SSE 전송 디스패처
+    @Bean
+    public ThreadPoolTaskExecutor sseDispatcher(
+            @Value("${sse.dispatcher-threads:4}") int threads,
+            @Value("${sse.dispatcher-queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sse-dispatch-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 느린 연결 종료 실행기
+    @Bean
+    public ThreadPoolTaskExecutor sseCloser(
+            @Value("${sse.closer-threads:2}") int threads,
+            @Value("${sse.closer-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sse-close-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 이상 징후 로그 허브 (관리자 콘솔 전체 채널)
+    @Bean
+    public SseFanoutHub<String> flaggedLogHub(@Qualifier("sseDispatcher") ThreadPoolTaskExecutor sseDispatcher,
+                                              @Qualifier("sseCloser") ThreadPoolTaskExecutor sseCloser) {
+        return new SseFanoutHub<>("flagged-logs", bufferSize, timeoutMinutes * 60_000, maxSubscribers,
+                sendTimeoutSeconds * 1000, sseDispatcher, sseCloser);
+    }
+
+    // 관리자 조치 허브 (사용자 ID별 채널)
+    @Bean
+    public SseFanoutHub<Long> adminActionHub(@Qualifier("sseDispatcher") ThreadPoolTaskExecutor sseDispatcher,
+                                             @Qualifier("sseCloser") ThreadPoolTaskExecutor sseCloser) {
+        return new SseFanoutHub<>("admin-actions", bufferSize, timeoutMinutes * 60_000, maxSubscribers,
+                sendTimeoutSeconds * 1000, sseDispatcher, sseCloser);
+    }
+}
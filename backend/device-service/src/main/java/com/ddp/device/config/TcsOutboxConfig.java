@@ -0,0 +1,26 @@
+package com.ddp.device.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * TCS 전송 대기열(outbox) 설정
+ * 전송 동시성을 제한하는 전용 스레드 풀
+ */
+@Configuration
+public class TcsOutboxConfig {
+
+    // TCS 전송 스레드 풀 (동시 전송 요청 수 제한)
+    @Bean
+    public ThreadPoolTaskExecutor tcsRelayExecutor(@Value("${tcs.outbox.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("tcs-relay-");
+        executor.initialize();
+        return executor;
+    }
+}
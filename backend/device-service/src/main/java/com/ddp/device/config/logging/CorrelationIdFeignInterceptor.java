@@ -0,0 +1,21 @@
+package com.ddp.device.config.logging;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feign 요청에 추적 ID 전달 (서비스 간 호출 로그 연결)
+ */
+@Component
+public class CorrelationIdFeignInterceptor implements RequestInterceptor {
+
+    @Override
+    public void apply(RequestTemplate template) {
+        String requestId = MDC.get(CorrelationIdFilter.MDC_KEY);
+        if (requestId != null) {
+            template.header(CorrelationIdFilter.HEADER, requestId);
+        }
+    }
+}
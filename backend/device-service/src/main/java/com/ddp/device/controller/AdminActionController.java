@@ -4,14 +4,18 @@ import com.ddp.device.document.AdminAction;
 import com.ddp.device.document.ActionType;
 import com.ddp.device.dto.action.CreateActionRequest;
 import com.ddp.device.dto.action.MarkAsReadRequest;
+import com.ddp.device.dto.action.UnreadCountResponse;
 import com.ddp.device.service.AdminActionService;
+import com.ddp.device.service.UserActionNotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -27,6 +31,7 @@ import java.util.List;
 public class AdminActionController {
 
     private final AdminActionService adminActionService;
+    private final UserActionNotificationService userActionNotificationService;
 
     /**
      * 조치 생성 및 실행 (관리자용)
@@ -59,6 +64,33 @@ public class AdminActionController {
         return ResponseEntity.ok(actions);
     }
 
+    /**
+     * 미확인 조치 건수 조회 (사용자용)
+     */
+    @GetMapping("/users/{userId}/actions/unread-count")
+    @Operation(summary = "미확인 조치 건수 조회", description = "사용자의 미확인 관리자 조치 건수를 조회합니다")
+    public ResponseEntity<UnreadCountResponse> getUnreadCount(@PathVariable Long userId) {
+        long unreadCount = adminActionService.getUnreadCount(userId);
+        return ResponseEntity.ok(UnreadCountResponse.builder()
+                .userId(userId)
+                .unreadCount(unreadCount)
+                .build());
+    }
+
+    /**
+     * 신규 조치 실시간 구독 (사용자용)
+     */
+    @GetMapping(value = "/users/{userId}/actions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "신규 조치 실시간 구독", description = "사용자에게 새로 생성된 관리자 조치를 SSE로 수신합니다")
+    public ResponseEntity<SseEmitter> streamUserActions(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(userActionNotificationService.subscribe(userId));
+        } catch (IllegalStateException e) {
+            log.warn("조치 알림 구독 거부: userId={} - {}", userId, e.getMessage());
+            return ResponseEntity.status(503).build();
+        }
+    }
+
     /**
      * 조치 확인 처리 (사용자용)
      */
@@ -0,0 +1,65 @@
+package com.ddp.device.controller;
+
+import com.ddp.device.document.AdminActionSummary;
+import com.ddp.device.document.CompanyFlaggedSummary;
+import com.ddp.device.document.DailyRiskSummary;
+import com.ddp.device.service.DashboardSummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 대시보드 요약 컨트롤러
+ * Change Stream으로 유지되는 요약 문서 조회 (관리자용)
+ */
+@RestController
+@RequestMapping("/api/v1/logs/admin/summary")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "DashboardSummary", description = "대시보드 요약 API")
+public class DashboardSummaryController {
+
+    private final DashboardSummaryService dashboardSummaryService;
+
+    /**
+     * 일별 위험도 요약 조회
+     */
+    @GetMapping("/daily")
+    @Operation(summary = "일별 위험도 요약 조회", description = "최근 N일간 일별 제출/이상 징후/위험도별 건수를 조회합니다")
+    public ResponseEntity<List<DailyRiskSummary>> getDailyRiskSummaries(
+            @RequestParam(defaultValue = "30") int days) {
+
+        if (days < 1 || days > 365) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(dashboardSummaryService.getDailyRiskSummaries(days));
+    }
+
+    /**
+     * 업체별 이상 징후 요약 조회
+     */
+    @GetMapping("/companies/{companyId}")
+    @Operation(summary = "업체별 이상 징후 요약 조회", description = "업체가 설치한 장치의 이상 징후 로그 누적 건수를 조회합니다")
+    public ResponseEntity<CompanyFlaggedSummary> getCompanyFlaggedSummary(@PathVariable Long companyId) {
+        return dashboardSummaryService.getCompanyFlaggedSummary(companyId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 관리자 조치 요약 조회
+     */
+    @GetMapping("/actions")
+    @Operation(summary = "관리자 조치 요약 조회", description = "전체 조치 건수와 사용자 미확인 조치 건수를 조회합니다")
+    public ResponseEntity<AdminActionSummary> getAdminActionSummary() {
+        return dashboardSummaryService.getAdminActionSummary()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+}
@@ -1,17 +1,22 @@
 package com.ddp.device.controller;
 
+import com.ddp.device.dto.request.BulkRegisterDeviceRequest;
 import com.ddp.device.dto.request.RegisterDeviceRequest;
+import com.ddp.device.dto.response.BulkRegisterDeviceResponse;
 import com.ddp.device.dto.response.DeviceResponse;
 import com.ddp.device.dto.response.DeviceWithLogStatsResponse;
 import com.ddp.device.entity.Device;
+import com.ddp.device.service.DeviceImportService;
 import com.ddp.device.service.DeviceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +30,7 @@ import java.util.stream.Collectors;
 public class DeviceController {
 
     private final DeviceService deviceService;
+    private final DeviceImportService deviceImportService;
 
     // 장치 등록 (예약 완료 시 호출)
     @PostMapping
@@ -52,6 +58,47 @@ public class DeviceController {
         }
     }
 
+    // 장치 대량 등록 (제조사 입고 등)
+    @PostMapping("/bulk")
+    @Operation(summary = "장치 대량 등록", description = "장치 목록을 한 번에 등록합니다 (중복 시리얼 및 오류 항목은 제외)")
+    public ResponseEntity<BulkRegisterDeviceResponse> registerDevices(
+            @Valid @RequestBody BulkRegisterDeviceRequest request
+    ) {
+        log.info("장치 대량 등록 요청 - {} 건", request.getDevices().size());
+
+        try {
+            return ResponseEntity.ok(deviceImportService.importDevices(request.getDevices()));
+
+        } catch (IllegalArgumentException e) {
+            log.error("장치 대량 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("장치 대량 등록 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+
+    // 장치 대량 등록 (CSV 업로드)
+    @PostMapping(value = "/bulk/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "장치 대량 등록 (CSV)",
+            description = "CSV 파일로 장치를 등록합니다 (헤더: serialNumber,modelName,manufacturerId,userId,companyId,installDate,warrantyEndDate)")
+    public ResponseEntity<BulkRegisterDeviceResponse> registerDevicesFromCsv(
+            @RequestParam("file") MultipartFile file
+    ) {
+        log.info("장치 대량 등록 요청 (CSV) - 파일명: {}", file.getOriginalFilename());
+
+        try {
+            return ResponseEntity.ok(deviceImportService.importCsv(file));
+
+        } catch (IllegalArgumentException e) {
+            log.error("장치 대량 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("장치 대량 등록 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     // 장치 상세 조회
     @GetMapping("/{id}")
     @Operation(summary = "장치 상세 조회", description = "장치 ID로 장치 상세 정보를 조회합니다")
@@ -61,16 +108,14 @@ public class DeviceController {
         log.info("장치 상세 조회 - 장치 ID: {}", id);
 
         try {
-            Device device = deviceService.findById(id)
+            DeviceResponse response = deviceService.findById(id)
                     .orElse(null);
 
-            if (device == null) {
+            if (response == null) {
                 log.warn("장치를 찾을 수 없음: {}", id);
                 return ResponseEntity.notFound().build();
             }
 
-            DeviceResponse response = DeviceResponse.from(device);
-
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
@@ -88,11 +133,7 @@ public class DeviceController {
         log.info("사용자 장치 목록 조회 - 사용자 ID: {}", userId);
 
         try {
-            List<Device> devices = deviceService.findByUserId(userId);
-
-            List<DeviceResponse> responses = devices.stream()
-                    .map(DeviceResponse::from)
-                    .collect(Collectors.toList());
+            List<DeviceResponse> responses = deviceService.findByUserId(userId);
 
             return ResponseEntity.ok(responses);
 
@@ -0,0 +1,31 @@
+package com.ddp.device.controller;
+
+import com.ddp.device.dto.request.DeviceCacheEvictRequest;
+import com.ddp.device.service.DeviceRegistryCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 장치 조회 캐시 무효화 컨트롤러 (device-service 인스턴스 간 내부 호출 전용, Gateway 미노출)
+@RestController
+@RequestMapping("/internal/device-cache")
+@RequiredArgsConstructor
+@Tag(name = "Internal Device Cache", description = "장치 조회 캐시 무효화 API (내부용)")
+public class InternalDeviceCacheController {
+
+    private final DeviceRegistryCache deviceRegistryCache;
+
+    // 다른 device-service 인스턴스의 장치 변경 이벤트 수신
+    @PostMapping("/evictions")
+    @Operation(summary = "장치 캐시 무효화", description = "다른 device-service 인스턴스가 장치 변경 커밋 후 호출합니다")
+    public ResponseEntity<Void> evict(@RequestBody DeviceCacheEvictRequest request) {
+        deviceRegistryCache.evictLocal(
+                request.getDeviceIds() != null ? request.getDeviceIds() : List.of(),
+                request.getUserIds() != null ? request.getUserIds() : List.of());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,12 +1,24 @@
 package com.ddp.device.controller;
 
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.LogStatus;
+import com.ddp.device.document.RiskLevel;
+import com.ddp.device.dto.log.BacDistributionResponse;
 import com.ddp.device.dto.log.DrivingLogResponse;
+import com.ddp.device.dto.log.LogDashboardResponse;
+import com.ddp.device.dto.log.LogExportFormat;
+import com.ddp.device.dto.log.LogSearchResponse;
 import com.ddp.device.dto.log.ReviewLogRequest;
 import com.ddp.device.dto.log.SubmitLogRequest;
+import com.ddp.device.service.BacDistributionService;
 import com.ddp.device.service.DrivingLogService;
-import com.ddp.device.service.FileStorageService;
+import com.ddp.device.service.FlaggedLogStreamService;
+import com.ddp.device.service.LogDashboardService;
+import com.ddp.device.service.LogExportService;
+import com.ddp.device.service.LogSearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,11 +27,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.concurrent.Callable;
 
 /**
  * 운행기록 로그 컨트롤러
@@ -32,7 +53,11 @@ import org.springframework.web.multipart.MultipartFile;
 public class LogController {
 
     private final DrivingLogService drivingLogService;
-    private final FileStorageService fileStorageService;
+    private final LogDashboardService logDashboardService;
+    private final FlaggedLogStreamService flaggedLogStreamService;
+    private final LogExportService logExportService;
+    private final LogSearchService logSearchService;
+    private final BacDistributionService bacDistributionService;
 
     /**
      * 로그 제출 (사용자)
@@ -109,6 +134,20 @@ public class LogController {
         return ResponseEntity.ok(logs);
     }
 
+    /**
+     * 이상 징후 로그 실시간 구독 (관리자용)
+     */
+    @GetMapping(value = "/admin/flagged/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "이상 징후 로그 실시간 구독", description = "새로 제출된 FLAGGED/HIGH 위험도 로그를 SSE로 수신합니다")
+    public ResponseEntity<SseEmitter> streamFlaggedLogs() {
+        try {
+            return ResponseEntity.ok(flaggedLogStreamService.subscribe());
+        } catch (IllegalStateException e) {
+            log.warn("이상 징후 로그 구독 거부: {}", e.getMessage());
+            return ResponseEntity.status(503).build();
+        }
+    }
+
     /**
      * 검토 대기 로그 목록 조회 (관리자용)
      */
@@ -121,6 +160,121 @@ public class LogController {
         return ResponseEntity.ok(logs);
     }
 
+    /**
+     * 로그 대시보드 통계 조회 (관리자용)
+     */
+    @GetMapping("/admin/dashboard")
+    @Operation(summary = "로그 대시보드 통계 조회", description = "위험도/이상 징후/상태별 로그 수와 일별 제출 추이를 조회합니다")
+    public ResponseEntity<LogDashboardResponse> getDashboard(
+            @RequestParam(defaultValue = "30") int days) {
+
+        if (days < 1 || days > 365) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LogDashboardResponse response = logDashboardService.getDashboard(days);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 전체 BAC 분포 조회 (관리자용)
+     */
+    @GetMapping("/admin/bac-distribution")
+    @Operation(summary = "전체 BAC 분포 조회", description = "전체 장치의 혈중알코올농도 p50/p95/p99를 조회합니다")
+    public ResponseEntity<BacDistributionResponse> getFleetBacDistribution(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(bacDistributionService.getFleetDistribution(from, to));
+    }
+
+    /**
+     * 로그 복합 조건 검색 (관리자용)
+     */
+    @GetMapping("/admin/search")
+    @Operation(summary = "로그 복합 조건 검색",
+            description = "장치/사용자/업체, 기간, 위험도, 이상 징후, 상태, 조치 여부를 조합해 검색하고 항목별 건수를 함께 반환합니다")
+    public ResponseEntity<LogSearchResponse> searchLogs(
+            @RequestParam(required = false) Long deviceId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) RiskLevel riskLevel,
+            @RequestParam(required = false) AnomalyType anomalyType,
+            @RequestParam(required = false) LogStatus status,
+            @RequestParam(required = false) Boolean actionTaken,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (size < 1 || size > 100 || (from != null && to != null && from.isAfter(to))) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            LogSearchResponse response = logSearchService.search(deviceId, userId, companyId, from, to,
+                    riskLevel, anomalyType, status, actionTaken, cursor, size);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("로그 검색 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 로그 내보내기 (관리자용, 감사/규제 기관 제출)
+     */
+    @GetMapping("/admin/export")
+    @Operation(summary = "로그 내보내기", description = "조건에 맞는 로그를 NDJSON 또는 CSV로 스트리밍 다운로드합니다")
+    public ResponseEntity<StreamingResponseBody> exportLogs(
+            @RequestParam(defaultValue = "NDJSON") LogExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) Long deviceId,
+            @RequestParam(required = false) AnomalyType anomalyType,
+            @RequestParam(required = false) RiskLevel riskLevel,
+            @RequestParam(required = false) LogStatus status,
+            HttpServletRequest request) {
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LogExportService.ExportPermit permit;
+        try {
+            permit = logExportService.acquire();
+        } catch (IllegalStateException e) {
+            log.warn("로그 내보내기 거부: {}", e.getMessage());
+            return ResponseEntity.status(429).build();
+        }
+
+        // 본문이 실행되지 않고 끝난 경우(타임아웃, 연결 종료 등)에도 비동기 요청 완료 시 슬롯 반환
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(permit, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                permit.close();
+            }
+        });
+
+        StreamingResponseBody body = outputStream -> {
+            try (permit) {
+                logExportService.export(format, from, to, companyId, deviceId, anomalyType, riskLevel, status, outputStream);
+            }
+        };
+
+        String contentDisposition = "attachment; filename=\"driving-logs." + format.getExtension() + "\"";
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                .body(body);
+    }
+
     /**
      * 로그 검토 (관리자용)
      */
@@ -136,6 +290,23 @@ public class LogController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 장치별 BAC 분포 조회
+     */
+    @GetMapping("/device/{deviceId}/bac-distribution")
+    @Operation(summary = "장치별 BAC 분포 조회", description = "장치의 혈중알코올농도 p50/p95/p99를 조회합니다")
+    public ResponseEntity<BacDistributionResponse> getDeviceBacDistribution(
+            @PathVariable Long deviceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(bacDistributionService.getDeviceDistribution(deviceId, from, to));
+    }
+
     /**
      * 장치의 최근 로그 조회
      */
@@ -159,7 +330,6 @@ public class LogController {
             @RequestHeader(value = "X-User-Id", required = false) Long userId,
             @RequestHeader(value = "X-User-Role", required = false) String userRole) {
 
-        long startTime = System.currentTimeMillis();
         log.info("API 호출 시작: 로그 파일 다운로드 - logId: {}", logId);
 
         try {
@@ -174,13 +344,12 @@ public class LogController {
             }
 
             // 파일 로드
-            Resource resource = fileStorageService.loadFileAsResource(drivingLog.getFilePath());
+            Resource resource = drivingLogService.loadLogFile(logId);
 
             // Content-Disposition 헤더 설정
             String contentDisposition = "attachment; filename=\"" + drivingLog.getFileName() + "\"";
 
-            long endTime = System.currentTimeMillis();
-            log.info("API 호출 완료: 로그 파일 다운로드 ({}ms)", endTime - startTime);
+            log.info("API 호출 완료: 로그 파일 다운로드");
 
             return ResponseEntity.ok()
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
@@ -188,8 +357,7 @@ public class LogController {
                     .body(resource);
 
         } catch (Exception e) {
-            long endTime = System.currentTimeMillis();
-            log.error("API 호출 실패: 로그 파일 다운로드 ({}ms) - {}", endTime - startTime, e.getMessage());
+            log.error("API 호출 실패: 로그 파일 다운로드 - {}", e.getMessage());
             return ResponseEntity.status(500).build();
         }
     }
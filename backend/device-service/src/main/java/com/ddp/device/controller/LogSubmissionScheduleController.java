@@ -2,6 +2,7 @@ package com.ddp.device.controller;
 
 import com.ddp.device.document.LogSubmissionSchedule;
 import com.ddp.device.document.SubmissionFrequency;
+import com.ddp.device.dto.schedule.BatchDdayRequest;
 import com.ddp.device.dto.schedule.ChangeFrequencyRequest;
 import com.ddp.device.dto.schedule.CreateScheduleRequest;
 import com.ddp.device.dto.schedule.DdayResponse;
@@ -15,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 로그 제출 일정 컨트롤러
@@ -108,6 +110,25 @@ public class LogSubmissionScheduleController {
                 .build());
     }
 
+    /**
+     * D-day 일괄 계산 (관리자용)
+     * 대상자 목록 화면에서 사용자별 D-day 호출을 한 번으로 대체
+     */
+    @PostMapping("/admin/log-schedules/dday")
+    @Operation(summary = "D-day 일괄 계산", description = "여러 사용자(또는 업체 소속 사용자)의 D-day를 한 번에 계산합니다")
+    public ResponseEntity<Map<Long, Long>> calculateDdays(@Valid @RequestBody BatchDdayRequest request) {
+        int requested = request.getUserIds() != null ? request.getUserIds().size() : 0;
+        log.info("D-day 일괄 계산: userIds={}건, companyId={}", requested, request.getCompanyId());
+
+        try {
+            Map<Long, Long> ddays = scheduleService.calculateDdays(request.getUserIds(), request.getCompanyId());
+            return ResponseEntity.ok(ddays);
+        } catch (IllegalArgumentException e) {
+            log.warn("D-day 일괄 계산 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 전체 일정 목록 조회 (관리자용)
      */
@@ -2,6 +2,7 @@ package com.ddp.device.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -12,6 +13,8 @@ import java.time.LocalDateTime;
  * 이상 징후 발생 시 관리자가 취한 조치 내역을 저장
  */
 @Document(collection = "admin_actions")
+// TCS 전송 대상 점유 조회용 (동등 조건 → 정렬/범위 조건 순, 조치 유형은 인덱스 안에서 필터링)
+@CompoundIndex(name = "tcs_outbox_claim_idx", def = "{'tcsSynced': 1, 'status': 1, 'tcsNextAttemptAt': 1, 'actionType': 1}")
 @Getter
 @Setter
 @Builder
@@ -46,6 +49,10 @@ public class AdminAction {
     // TCS 연동 정보
     private Boolean tcsSynced; // TCS 연동 여부
     private String tcsResponse; // TCS 응답 내용
+    private Integer tcsAttempts; // TCS 전송 시도 횟수
+    private LocalDateTime tcsNextAttemptAt; // 다음 TCS 전송 가능 일시 (재시도 백오프, 전송 중에는 점유 만료 일시)
+    private String tcsClaimedBy; // 전송 중인 릴레이의 점유 토큰 (인스턴스 ID:회차)
+    private LocalDateTime tcsSyncedAt; // TCS 연동 완료 일시
 
     // 메타데이터
     @Indexed
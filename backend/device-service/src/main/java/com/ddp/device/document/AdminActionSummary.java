@@ -0,0 +1,30 @@
+package com.ddp.device.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 조치 요약 문서 (MongoDB)
+ * 전체 조치 건수 및 사용자 미확인 조치 건수
+ */
+@Document(collection = "admin_action_summaries")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdminActionSummary {
+
+    public static final String GLOBAL_ID = "global";
+
+    @Id
+    private String summaryId; // 요약 ID (전체: global)
+
+    private Long totalCount; // 전체 조치 건수
+    private Long unreadCount; // 미확인 조치 건수
+
+    private LocalDateTime updatedAt; // 마지막 갱신일시
+}
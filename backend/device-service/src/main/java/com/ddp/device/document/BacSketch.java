@@ -0,0 +1,137 @@
+package com.ddp.device.document;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 혈중알코올농도(BAC) 분포 스케치 (DDSketch 방식, 내장 문서)
+ * - 값 v를 ceil(log_γ(v)) 구간에 집계 (γ = (1+α)/(1-α)) → 분위수 상대 오차 α 이내
+ * - 같은 정확도의 스케치끼리 구간별 합산으로 병합 가능 (장치별/전체 분위수 계산용)
+ * - 측정 해상도 미만 값(대부분의 정상 측정)은 zeroCount로 별도 집계
+ */
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BacSketch {
+
+    // 저장된 스케치끼리 병합하려면 모든 로그가 같은 정확도를 사용해야 함
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    // 0으로 간주하는 최소 값 (측정 해상도)
+    private static final double MIN_INDEXABLE_VALUE = 0.0001;
+
+    private Double relativeAccuracy; // 상대 정확도 α
+    private Long count; // 전체 측정값 수
+    private Long zeroCount; // 측정 해상도 미만 값 수
+    private Double maxValue; // 최대 값
+    private List<Integer> binIndexes; // 구간 인덱스 (오름차순)
+    private List<Long> binCounts; // 구간별 값 수
+
+    /**
+     * 측정값 목록으로 스케치 생성
+     */
+    public static BacSketch of(Collection<Double> values, double relativeAccuracy) {
+        double logGamma = logGamma(relativeAccuracy);
+        TreeMap<Integer, Long> bins = new TreeMap<>();
+        long zeros = 0;
+        double max = 0.0;
+
+        for (Double value : values) {
+            if (value == null || value.isNaN() || value < 0) {
+                continue;
+            }
+            max = Math.max(max, value);
+            if (value < MIN_INDEXABLE_VALUE) {
+                zeros++;
+            } else {
+                bins.merge((int) Math.ceil(Math.log(value) / logGamma), 1L, Long::sum);
+            }
+        }
+
+        long total = zeros + bins.values().stream().mapToLong(Long::longValue).sum();
+        return fromBins(relativeAccuracy, total, zeros, max, bins);
+    }
+
+    /**
+     * 스케치 병합 (새 스케치 반환)
+     */
+    public BacSketch merge(BacSketch other) {
+        if (other == null || other.count == null || other.count == 0) {
+            return this;
+        }
+        if (count == null || count == 0) {
+            return other;
+        }
+        if (Double.compare(relativeAccuracy, other.relativeAccuracy) != 0) {
+            throw new IllegalArgumentException("정확도가 다른 스케치는 병합할 수 없습니다");
+        }
+
+        TreeMap<Integer, Long> bins = toBins();
+        for (int i = 0; i < other.binIndexes.size(); i++) {
+            bins.merge(other.binIndexes.get(i), other.binCounts.get(i), Long::sum);
+        }
+        return fromBins(relativeAccuracy, count + other.count, zeroCount + other.zeroCount,
+                Math.max(maxValue, other.maxValue), bins);
+    }
+
+    /**
+     * 분위수 계산
+     * @param quantile 0.0 ~ 1.0
+     * @return 분위수 값 (측정값이 없으면 null)
+     */
+    public Double quantile(double quantile) {
+        if (count == null || count == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.floor(quantile * (count - 1));
+        if (rank < zeroCount) {
+            return 0.0;
+        }
+
+        double gamma = Math.exp(logGamma(relativeAccuracy));
+        long seen = zeroCount;
+        for (int i = 0; i < binIndexes.size(); i++) {
+            seen += binCounts.get(i);
+            if (seen > rank) {
+                // 구간 [γ^(i-1), γ^i]의 대표값 (상대 오차 α 이내)
+                double value = 2 * Math.pow(gamma, binIndexes.get(i)) / (gamma + 1);
+                return Math.min(value, maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    private TreeMap<Integer, Long> toBins() {
+        TreeMap<Integer, Long> bins = new TreeMap<>();
+        for (int i = 0; i < binIndexes.size(); i++) {
+            bins.put(binIndexes.get(i), binCounts.get(i));
+        }
+        return bins;
+    }
+
+    private static BacSketch fromBins(double relativeAccuracy, long count, long zeroCount, double maxValue,
+                                      TreeMap<Integer, Long> bins) {
+        List<Integer> indexes = new ArrayList<>(bins.size());
+        List<Long> counts = new ArrayList<>(bins.size());
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            indexes.add(bin.getKey());
+            counts.add(bin.getValue());
+        }
+        return new BacSketch(relativeAccuracy, count, zeroCount, maxValue, indexes, counts);
+    }
+
+    private static double logGamma(double relativeAccuracy) {
+        return Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+}
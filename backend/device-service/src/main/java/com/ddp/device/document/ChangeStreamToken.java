@@ -0,0 +1,27 @@
+package com.ddp.device.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change Stream 재개 토큰 문서 (MongoDB)
+ * 재시작 시 마지막으로 처리한 이벤트 이후부터 이어서 구독하기 위해 저장
+ */
+@Document(collection = "change_stream_tokens")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChangeStreamToken {
+
+    @Id
+    private String streamName; // 구독 이름 (컬렉션별)
+
+    private String resumeToken; // 재개 토큰 (_data)
+
+    private LocalDateTime updatedAt; // 마지막 갱신일시
+}
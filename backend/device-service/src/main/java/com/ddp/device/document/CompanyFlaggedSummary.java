@@ -0,0 +1,28 @@
+package com.ddp.device.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업체별 이상 징후 요약 문서 (MongoDB)
+ * 장치 설치 업체 기준 이상 징후 로그 누적 건수
+ */
+@Document(collection = "company_flagged_summaries")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CompanyFlaggedSummary {
+
+    @Id
+    private Long companyId; // 업체 ID
+
+    private Long flaggedCount; // 이상 징후 로그 건수
+    private LocalDateTime lastFlaggedAt; // 마지막 이상 징후 제출일시
+
+    private LocalDateTime updatedAt; // 마지막 갱신일시
+}
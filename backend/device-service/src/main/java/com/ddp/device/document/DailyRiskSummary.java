@@ -0,0 +1,30 @@
+package com.ddp.device.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 일별 위험도 요약 문서 (MongoDB)
+ * Change Stream으로 로그 제출 시 증분 갱신되는 대시보드용 요약
+ */
+@Document(collection = "log_daily_risk_summaries")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DailyRiskSummary {
+
+    @Id
+    private String date; // 제출일 (yyyy-MM-dd)
+
+    private Long totalCount; // 제출 건수
+    private Long flaggedCount; // 이상 징후 건수
+    private Map<RiskLevel, Long> riskCounts; // 위험도별 건수
+
+    private LocalDateTime updatedAt; // 마지막 갱신일시
+}
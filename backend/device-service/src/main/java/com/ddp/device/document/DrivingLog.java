@@ -2,6 +2,7 @@ package com.ddp.device.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -13,6 +14,12 @@ import java.time.LocalDateTime;
  * 음주운전 방지장치의 운행 기록 및 측정 데이터를 저장
  */
 @Document(collection = "driving_logs")
+// 복합 검색 키셋 페이지네이션용 인덱스 (등호 조건 → 정렬 키 순서, auto-index-creation으로 시작 시 생성)
+@CompoundIndex(name = "submit_date_id_idx", def = "{'submitDate': -1, '_id': -1}")
+@CompoundIndex(name = "device_submit_date_idx", def = "{'deviceId': 1, 'submitDate': -1, '_id': -1}")
+@CompoundIndex(name = "user_submit_date_idx", def = "{'userId': 1, 'submitDate': -1, '_id': -1}")
+@CompoundIndex(name = "status_risk_submit_date_idx", def = "{'status': 1, 'riskLevel': 1, 'submitDate': -1, '_id': -1}")
+@CompoundIndex(name = "anomaly_submit_date_idx", def = "{'anomalyType': 1, 'submitDate': -1, '_id': -1}")
 @Getter
 @Setter
 @Builder
@@ -64,6 +71,11 @@ public class DrivingLog {
     private Boolean actionTaken; // 조치 취해짐 여부
     private String actionId; // 관련 조치 ID
 
+    // 아카이브 정보 (보관 기간 경과 시 월별·장치별 압축 번들로 이동)
+    private Boolean archived; // 아카이브 여부 (true면 원본 파일은 번들에만 존재)
+    private String archivePath; // 아카이브 번들 경로 (아카이브 디렉토리 기준 상대 경로)
+    private LocalDateTime archivedAt; // 아카이브 일시
+    private String archiveError; // 아카이브 제외 사유 (원본 파일 없음 등, 있으면 대상에서 제외)
 
     // 메타데이터
     private LocalDateTime createdAt; // 생성일시
@@ -88,5 +100,6 @@ public class DrivingLog {
         private Double averageBAC; // 평균 혈중알코올농도
         private Double maxBAC; // 최대 혈중알코올농도
         private Integer tamperingAttempts; // 조작 시도 횟수
+        private BacSketch bacSketch; // BAC 분포 스케치 (장치별/전체 분위수 병합용)
     }
 }
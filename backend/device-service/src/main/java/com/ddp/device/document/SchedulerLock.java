@@ -0,0 +1,29 @@
+package com.ddp.device.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 잠금 문서 (MongoDB)
+ * 여러 인스턴스 중 한 곳에서만 작업이 실행되도록 점유 인스턴스와 만료 일시를 기록
+ */
+@Document(collection = "scheduler_locks")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SchedulerLock {
+
+    @Id
+    private String name; // 작업 이름
+
+    private String owner; // 점유 인스턴스 ID
+
+    private LocalDateTime lockedAt; // 점유 일시
+
+    private LocalDateTime lockedUntil; // 점유 만료 일시 (인스턴스 종료 시 이후 다른 인스턴스가 점유)
+}
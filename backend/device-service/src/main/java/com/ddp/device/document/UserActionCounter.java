@@ -0,0 +1,28 @@
+package com.ddp.device.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 조치 카운터 문서 (MongoDB)
+ * 미확인 조치 건수를 조치 생성/확인 시점에 함께 갱신하여
+ * admin_actions 컬렉션 조회 없이 미확인 건수를 제공
+ */
+@Document(collection = "user_action_counters")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserActionCounter {
+
+    @Id
+    private Long userId; // 사용자 ID
+
+    private Long unreadCount; // 미확인 조치 건수
+
+    private LocalDateTime updatedAt; // 마지막 갱신일시
+}
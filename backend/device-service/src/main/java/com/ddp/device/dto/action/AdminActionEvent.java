@@ -0,0 +1,45 @@
+package com.ddp.device.dto.action;
+
+import com.ddp.device.document.ActionStatus;
+import com.ddp.device.document.ActionType;
+import com.ddp.device.document.AdminAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 조치 알림 이벤트 (SSE)
+ * 사용자 대시보드에 전송되는 신규 조치 요약 정보
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminActionEvent {
+
+    private String actionId;
+    private String logId;
+    private ActionType actionType;
+    private ActionStatus status;
+    private String actionDetail;
+    private LocalDateTime createdAt;
+    private Long unreadCount; // 전송 시점 미확인 조치 건수
+
+    /**
+     * AdminAction 문서를 알림 이벤트로 변환
+     */
+    public static AdminActionEvent from(AdminAction action, long unreadCount) {
+        return AdminActionEvent.builder()
+                .actionId(action.getActionId())
+                .logId(action.getLogId())
+                .actionType(action.getActionType())
+                .status(action.getStatus())
+                .actionDetail(action.getActionDetail())
+                .createdAt(action.getCreatedAt())
+                .unreadCount(unreadCount)
+                .build();
+    }
+}
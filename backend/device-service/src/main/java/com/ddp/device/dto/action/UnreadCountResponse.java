@@ -0,0 +1,24 @@
+package com.ddp.device.dto.action;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미확인 조치 건수 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "미확인 조치 건수 응답")
+public class UnreadCountResponse {
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "미확인 조치 건수", example = "2")
+    private Long unreadCount;
+}
@@ -0,0 +1,31 @@
+package com.ddp.device.dto.log;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * BAC 분포 응답 DTO
+ * 로그별 스케치를 병합해 계산한 분위수 (상대 오차 1% 이내)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacDistributionResponse {
+
+    private Long deviceId; // 장치 ID (전체 분포면 null)
+    private LocalDate from; // 조회 시작일 (없으면 전체 기간)
+    private LocalDate to; // 조회 종료일
+
+    private Long logCount; // 병합한 로그 수
+    private Long sampleCount; // 전체 측정값 수
+
+    private Double p50; // 중앙값
+    private Double p95; // 95 분위수
+    private Double p99; // 99 분위수
+    private Double max; // 최대값
+}
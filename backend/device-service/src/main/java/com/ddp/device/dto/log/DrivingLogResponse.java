@@ -52,6 +52,9 @@ public class DrivingLogResponse {
     private Boolean actionTaken;
     private String actionId;
 
+    // 아카이브 정보
+    private Boolean archived;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -81,6 +84,7 @@ public class DrivingLogResponse {
                 .reviewedAt(log.getReviewedAt())
                 .actionTaken(log.getActionTaken())
                 .actionId(log.getActionId())
+                .archived(log.getArchived())
                 .createdAt(log.getCreatedAt())
                 .updatedAt(log.getUpdatedAt());
 
@@ -0,0 +1,46 @@
+package com.ddp.device.dto.log;
+
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.DrivingLog;
+import com.ddp.device.document.LogStatus;
+import com.ddp.device.document.RiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이상 징후 로그 알림 이벤트 (SSE)
+ * 관리자 콘솔에 전송되는 요약 정보
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlaggedLogEvent {
+
+    private String logId;
+    private Long deviceId;
+    private Long userId;
+    private LocalDateTime submitDate;
+    private LogStatus status;
+    private AnomalyType anomalyType;
+    private RiskLevel riskLevel;
+
+    /**
+     * DrivingLog 문서를 알림 이벤트로 변환
+     */
+    public static FlaggedLogEvent from(DrivingLog log) {
+        return FlaggedLogEvent.builder()
+                .logId(log.getLogId())
+                .deviceId(log.getDeviceId())
+                .userId(log.getUserId())
+                .submitDate(log.getSubmitDate())
+                .status(log.getStatus())
+                .anomalyType(log.getAnomalyType())
+                .riskLevel(log.getRiskLevel())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.ddp.device.dto.log;
+
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.LogStatus;
+import com.ddp.device.document.RiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 로그 대시보드 응답 DTO
+ * 위험도/이상 징후/상태별 집계 및 일별 제출 추이
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogDashboardResponse {
+
+    private Long totalCount; // 전체 로그 수
+
+    private Map<RiskLevel, Long> riskLevelCounts; // 위험도별 로그 수
+    private Map<AnomalyType, Long> anomalyTypeCounts; // 이상 징후 유형별 로그 수
+    private Map<LogStatus, Long> statusCounts; // 상태별 로그 수
+
+    private List<DailySubmission> dailySubmissions; // 일별 제출 추이 (최근 N일)
+
+    private LocalDateTime generatedAt; // 집계 시각
+
+    /**
+     * 일별 제출 건수
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailySubmission {
+        private LocalDate date; // 제출일
+        private Long submittedCount; // 제출 건수
+        private Long flaggedCount; // 이상 징후 건수 (제출 시 anomalyType != NORMAL)
+    }
+}
@@ -0,0 +1,17 @@
+package com.ddp.device.dto.log;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LogExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 JSON 문서 1건
+    CSV("text/csv", "csv"); // 헤더 포함 CSV
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,34 @@
+package com.ddp.device.dto.log;
+
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.LogStatus;
+import com.ddp.device.document.RiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그 복합 조건 검색 응답 DTO
+ * 키셋 페이지 결과 + 검색 조건 전체에 대한 항목별 건수
+ * 항목별 건수는 첫 페이지(커서 없음)에서만 계산하고 이후 페이지에서는 null
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogSearchResponse {
+
+    private List<DrivingLogResponse> content; // 현재 페이지 로그 (제출일시 내림차순)
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+
+    private Long totalCount; // 검색 조건에 맞는 전체 로그 수
+    private Map<RiskLevel, Long> riskLevelCounts; // 위험도별 로그 수
+    private Map<AnomalyType, Long> anomalyTypeCounts; // 이상 징후 유형별 로그 수
+    private Map<LogStatus, Long> statusCounts; // 상태별 로그 수
+    private Long actionTakenCount; // 조치 완료 로그 수
+}
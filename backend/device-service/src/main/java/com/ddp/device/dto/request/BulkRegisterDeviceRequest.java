@@ -0,0 +1,24 @@
+package com.ddp.device.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 장치 대량 등록 요청 DTO (제조사 입고 등)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "장치 대량 등록 요청")
+public class BulkRegisterDeviceRequest {
+
+    // 등록할 장치 목록 (항목별 필수값 검증은 서비스에서 수행하여 오류 행만 제외)
+    @NotEmpty(message = "등록할 장치 목록은 필수입니다")
+    @Schema(description = "등록할 장치 목록", required = true)
+    private List<RegisterDeviceRequest> devices;
+}
@@ -0,0 +1,24 @@
+package com.ddp.device.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 장치 조회 캐시 무효화 요청 DTO (device-service 인스턴스 간 내부 호출용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeviceCacheEvictRequest {
+
+    // 무효화할 장치 ID 목록
+    private List<Long> deviceIds;
+
+    // 장치 목록을 무효화할 사용자 ID 목록
+    private List<Long> userIds;
+}
@@ -0,0 +1,34 @@
+package com.ddp.device.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 장치 대량 등록 결과 DTO
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "장치 대량 등록 결과")
+public class BulkRegisterDeviceResponse {
+
+    // 요청 건수
+    @Schema(description = "요청 건수", example = "10000")
+    private int requestedCount;
+
+    // 등록 건수
+    @Schema(description = "등록 건수", example = "9998")
+    private int registeredCount;
+
+    // 이미 등록되었거나 요청 내 중복된 시리얼 번호 (등록 제외)
+    @Schema(description = "중복으로 제외된 시리얼 번호")
+    private List<String> duplicateSerialNumbers;
+
+    // 형식 오류로 제외된 행 (CSV 행 번호 또는 요청 순번 포함)
+    @Schema(description = "형식 오류로 제외된 행")
+    private List<String> invalidRows;
+}
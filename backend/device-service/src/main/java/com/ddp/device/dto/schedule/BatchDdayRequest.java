@@ -0,0 +1,32 @@
+package com.ddp.device.dto.schedule;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * D-day 일괄 조회 요청 DTO
+ * userIds 또는 companyId 중 정확히 하나 지정 (업체 지정 시에도 대상 사용자는 최대 MAX_USERS명)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "D-day 일괄 조회 요청")
+public class BatchDdayRequest {
+
+    // 1회 최대 대상 사용자 수
+    public static final int MAX_USERS = 1000;
+
+    @Size(max = MAX_USERS, message = "한 번에 최대 1000명까지 조회할 수 있습니다")
+    @Schema(description = "사용자 ID 목록", example = "[1, 2, 3]")
+    private List<Long> userIds;
+
+    @Schema(description = "업체 ID (해당 업체 설치 장치의 사용자 전체)", example = "5")
+    private Long companyId;
+}
@@ -16,9 +16,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Device {
 
+    public static final String ID_SEQUENCE = "devices_id_seq";
+
     // 장치 ID (Primary Key)
+    // 시퀀스 풀링(50개 단위 할당)으로 대량 등록 시 JDBC 배치 INSERT 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "device_id_generator")
+    @SequenceGenerator(name = "device_id_generator", sequenceName = Device.ID_SEQUENCE, allocationSize = 50)
     @Column(name = "device_id")
     private Long deviceId;
 
@@ -2,10 +2,14 @@ package com.ddp.device.repository.jpa;
 
 import com.ddp.device.entity.Device;
 import com.ddp.device.entity.DeviceStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +28,10 @@ public interface DeviceRepository extends JpaRepository<Device, Long> {
     // 업체 ID로 장치 목록 조회
     List<Device> findByCompanyId(Long companyId);
 
+    // 업체 장치의 사용자 ID 조회 (중복 제외, 조회 개수 제한)
+    @Query("SELECT DISTINCT d.userId FROM Device d WHERE d.companyId = :companyId AND d.userId IS NOT NULL")
+    List<Long> findDistinctUserIdsByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
     // 상태로 장치 목록 조회
     List<Device> findByStatus(DeviceStatus status);
 
@@ -35,4 +43,8 @@ public interface DeviceRepository extends JpaRepository<Device, Long> {
 
     // 시리얼 번호 존재 여부 확인
     boolean existsBySerialNumber(String serialNumber);
+
+    // 이미 등록된 시리얼 번호 조회 (대량 등록 시 IN 쿼리 1회로 중복 확인)
+    @Query("SELECT d.serialNumber FROM Device d WHERE d.serialNumber IN :serialNumbers")
+    List<String> findExistingSerialNumbers(@Param("serialNumbers") Collection<String> serialNumbers);
 }
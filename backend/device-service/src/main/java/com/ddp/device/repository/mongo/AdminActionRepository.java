@@ -44,6 +44,11 @@ public interface AdminActionRepository extends MongoRepository<AdminAction, Stri
      */
     List<AdminAction> findByIsReadFalse();
 
+    /**
+     * 사용자별 미확인 조치 건수 (카운터 초기화용)
+     */
+    long countByUserIdAndIsReadFalse(Long userId);
+
     /**
      * TCS 연동 대기 조치 조회
      */
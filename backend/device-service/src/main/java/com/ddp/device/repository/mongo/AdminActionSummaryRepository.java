@@ -0,0 +1,12 @@
+package com.ddp.device.repository.mongo;
+
+import com.ddp.device.document.AdminActionSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 관리자 조치 요약 Repository
+ */
+@Repository
+public interface AdminActionSummaryRepository extends MongoRepository<AdminActionSummary, String> {
+}
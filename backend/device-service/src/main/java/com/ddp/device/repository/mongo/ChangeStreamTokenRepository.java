@@ -0,0 +1,12 @@
+package com.ddp.device.repository.mongo;
+
+import com.ddp.device.document.ChangeStreamToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Change Stream 재개 토큰 Repository
+ */
+@Repository
+public interface ChangeStreamTokenRepository extends MongoRepository<ChangeStreamToken, String> {
+}
@@ -0,0 +1,12 @@
+package com.ddp.device.repository.mongo;
+
+import com.ddp.device.document.CompanyFlaggedSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 업체별 이상 징후 요약 Repository
+ */
+@Repository
+public interface CompanyFlaggedSummaryRepository extends MongoRepository<CompanyFlaggedSummary, Long> {
+}
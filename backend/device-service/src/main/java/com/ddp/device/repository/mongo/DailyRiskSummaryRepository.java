@@ -0,0 +1,19 @@
+package com.ddp.device.repository.mongo;
+
+import com.ddp.device.document.DailyRiskSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 일별 위험도 요약 Repository
+ */
+@Repository
+public interface DailyRiskSummaryRepository extends MongoRepository<DailyRiskSummary, String> {
+
+    /**
+     * 기간별 요약 조회 (날짜 문자열 범위, 오름차순)
+     */
+    List<DailyRiskSummary> findByDateBetweenOrderByDateAsc(String from, String to);
+}
@@ -3,9 +3,11 @@ package com.ddp.device.repository.mongo;
 import com.ddp.device.document.LogSubmissionSchedule;
 import com.ddp.device.document.SubmissionFrequency;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,4 +41,11 @@ public interface LogSubmissionScheduleRepository extends MongoRepository<LogSubm
      * 미제출 횟수가 특정 값 이상인 일정 조회
      */
     List<LogSubmissionSchedule> findByMissedSubmissionsGreaterThanEqual(Integer count);
+
+    /**
+     * 여러 사용자의 다음 제출 기한 일괄 조회
+     * $in 단일 쿼리 + userId/nextDueDate 프로젝션 (D-day 일괄 계산용)
+     */
+    @Query(value = "{ 'userId': { $in: ?0 } }", fields = "{ 'userId': 1, 'nextDueDate': 1 }")
+    List<LogSubmissionSchedule> findDueDatesByUserIdIn(Collection<Long> userIds);
 }
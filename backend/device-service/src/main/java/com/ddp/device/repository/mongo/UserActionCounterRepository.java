@@ -0,0 +1,12 @@
+package com.ddp.device.repository.mongo;
+
+import com.ddp.device.document.UserActionCounter;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 조치 카운터 Repository
+ */
+@Repository
+public interface UserActionCounterRepository extends MongoRepository<UserActionCounter, Long> {
+}
@@ -7,6 +7,10 @@ import com.ddp.device.repository.mongo.AdminActionRepository;
 import com.ddp.device.repository.mongo.DrivingLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,8 +26,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminActionService {
 
+    // TCS 연동이 필요한 면허 관련 조치 유형
+    static final List<ActionType> LICENSE_ACTION_TYPES = List.of(
+            ActionType.LICENSE_STATUS_CHANGE,
+            ActionType.LICENSE_SUSPENSION,
+            ActionType.LICENSE_REVOCATION
+    );
+
     private final AdminActionRepository adminActionRepository;
     private final DrivingLogRepository drivingLogRepository;
+    private final UserActionNotificationService userActionNotificationService;
+    private final MongoTemplate mongoTemplate;
 
     /**
      * 조치 생성 및 실행
@@ -45,6 +58,9 @@ public class AdminActionService {
         log.info("관리자 조치 생성: logId={}, userId={}, adminId={}, actionType={}",
                 logId, userId, adminId, actionType);
 
+        // 미확인 카운터 준비 (조치 저장 전에 생성해야 집계와 증가가 겹치지 않음)
+        userActionNotificationService.prepareCounter(userId);
+
         // 조치 생성
         AdminAction action = AdminAction.builder()
                 .logId(logId)
@@ -72,7 +88,12 @@ public class AdminActionService {
         });
 
         // 즉시 실행
-        return executeAction(savedAction.getActionId());
+        AdminAction executedAction = executeAction(savedAction.getActionId());
+
+        // 미확인 카운터 증가 및 사용자 알림
+        userActionNotificationService.onActionCreated(executedAction);
+
+        return executedAction;
     }
 
     /**
@@ -92,20 +113,17 @@ public class AdminActionService {
         action.setExecutedAt(LocalDateTime.now());
         action.setUpdatedAt(LocalDateTime.now());
 
-        try {
-            // 면허 관련 조치인 경우 TCS 연동
-            if (isLicenseRelatedAction(action.getActionType())) {
-                executeLicenseAction(action);
-            }
-
+        if (isLicenseRelatedAction(action.getActionType())) {
+            // 면허 관련 조치는 TCS 전송 대기열에 적재 (TcsOutboxRelay가 비동기 전송 후 완료 처리)
+            action.setTcsSynced(false);
+            action.setTcsAttempts(0);
+            action.setTcsNextAttemptAt(LocalDateTime.now());
+            log.info("TCS 연동 대기열 적재: actionId={}", actionId);
+        } else {
             // 조치 완료
             action.setStatus(ActionStatus.COMPLETED);
             action.setCompletedAt(LocalDateTime.now());
             log.info("조치 실행 완료: actionId={}", actionId);
-
-        } catch (Exception e) {
-            log.error("조치 실행 실패: actionId={}", actionId, e);
-            action.setStatus(ActionStatus.FAILED);
         }
 
         action.setUpdatedAt(LocalDateTime.now());
@@ -123,6 +141,15 @@ public class AdminActionService {
         return adminActionRepository.findByUserIdOrderByIsReadAscCreatedAtDesc(userId);
     }
 
+    /**
+     * 사용자별 미확인 조치 건수 조회
+     * @param userId 사용자 ID
+     * @return 미확인 조치 건수
+     */
+    public long getUnreadCount(Long userId) {
+        return userActionNotificationService.getUnreadCount(userId);
+    }
+
     /**
      * 조치 확인 처리
      * 사용자가 대시보드에서 조치를 확인했을 때 호출
@@ -148,15 +175,28 @@ public class AdminActionService {
             return action;
         }
 
-        // 확인 처리
+        // 미확인 카운터 준비 (확인 전환 전에 생성해야 집계와 감소가 겹치지 않음)
+        userActionNotificationService.prepareCounter(userId);
+
+        // 확인 처리 (미확인 → 확인 전환만 반영하는 부분 갱신, 동시 요청 시 한 번만 성공)
+        LocalDateTime now = LocalDateTime.now();
+        long modified = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(actionId).and("isRead").ne(true)),
+                new Update().set("isRead", true).set("readAt", now).set("updatedAt", now),
+                AdminAction.class).getModifiedCount();
+
         action.setIsRead(true);
-        action.setReadAt(LocalDateTime.now());
-        action.setUpdatedAt(LocalDateTime.now());
+        action.setReadAt(now);
+        action.setUpdatedAt(now);
 
-        AdminAction updatedAction = adminActionRepository.save(action);
-        log.info("조치 확인 완료: actionId={}", actionId);
+        if (modified > 0) {
+            userActionNotificationService.onActionRead(userId);
+            log.info("조치 확인 완료: actionId={}", actionId);
+        } else {
+            log.info("이미 확인된 조치입니다: actionId={}", actionId);
+        }
 
-        return updatedAction;
+        return action;
     }
 
     /**
@@ -188,42 +228,12 @@ public class AdminActionService {
         return adminActionRepository.findByAdminId(adminId);
     }
 
-    /**
-     * 면허 관련 조치 실행 (TCS 연동)
-     * @param action 조치
-     */
-    private void executeLicenseAction(AdminAction action) {
-        log.info("면허 관련 조치 실행: actionType={}", action.getActionType());
-
-        try {
-            // TODO: 실제 TCS 연동 구현
-            // 현재는 Mock 응답 저장
-            String mockResponse = String.format(
-                    "{\"success\": true, \"message\": \"면허 조치 완료\", \"actionType\": \"%s\", \"userId\": %d}",
-                    action.getActionType(),
-                    action.getUserId()
-            );
-
-            action.setTcsSynced(true);
-            action.setTcsResponse(mockResponse);
-
-            log.info("TCS 연동 완료 (Mock): actionId={}", action.getActionId());
-
-        } catch (Exception e) {
-            log.error("TCS 연동 실패: actionId={}", action.getActionId(), e);
-            action.setTcsSynced(false);
-            action.setTcsResponse("TCS 연동 실패: " + e.getMessage());
-        }
-    }
-
     /**
      * 면허 관련 조치 여부 확인
      * @param actionType 조치 유형
      * @return 면허 관련 조치 여부
      */
     private boolean isLicenseRelatedAction(ActionType actionType) {
-        return actionType == ActionType.LICENSE_STATUS_CHANGE ||
-               actionType == ActionType.LICENSE_SUSPENSION ||
-               actionType == ActionType.LICENSE_REVOCATION;
+        return LICENSE_ACTION_TYPES.contains(actionType);
     }
 }
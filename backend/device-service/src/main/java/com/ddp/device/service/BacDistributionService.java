@@ -0,0 +1,91 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.BacSketch;
+import com.ddp.device.document.DrivingLog;
+import com.ddp.device.dto.log.BacDistributionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * BAC 분포 서비스
+ * 로그 제출 시 저장한 스케치만 병합하므로 원본 로그 파일을 다시 읽지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BacDistributionService {
+
+    private static final String SKETCH_FIELD = "statistics.bacSketch";
+
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 장치별 BAC 분포 조회
+     */
+    public BacDistributionResponse getDeviceDistribution(Long deviceId, LocalDate from, LocalDate to) {
+        return aggregate(deviceId, from, to);
+    }
+
+    /**
+     * 전체 BAC 분포 조회
+     */
+    public BacDistributionResponse getFleetDistribution(LocalDate from, LocalDate to) {
+        return aggregate(null, from, to);
+    }
+
+    private BacDistributionResponse aggregate(Long deviceId, LocalDate from, LocalDate to) {
+        log.info("API 호출 시작: BAC 분포 조회 - 장치 ID: {}, 기간: {} ~ {}", deviceId, from, to);
+
+        List<Criteria> conditions = new ArrayList<>();
+        conditions.add(Criteria.where(SKETCH_FIELD).exists(true));
+        if (deviceId != null) {
+            conditions.add(Criteria.where("deviceId").is(deviceId));
+        }
+        if (from != null) {
+            conditions.add(Criteria.where("submitDate").gte(from.atStartOfDay()));
+        }
+        if (to != null) {
+            conditions.add(Criteria.where("submitDate").lt(to.plusDays(1).atStartOfDay()));
+        }
+
+        Query query = Query.query(new Criteria().andOperator(conditions)).cursorBatchSize(CURSOR_BATCH_SIZE);
+        query.fields().include(SKETCH_FIELD);
+
+        BacSketch merged = null;
+        long logCount = 0;
+        try (Stream<DrivingLog> logs = mongoTemplate.stream(query, DrivingLog.class)) {
+            for (DrivingLog drivingLog : (Iterable<DrivingLog>) logs::iterator) {
+                BacSketch sketch = drivingLog.getStatistics().getBacSketch();
+                merged = merged == null ? sketch : merged.merge(sketch);
+                logCount++;
+            }
+        }
+
+        BacDistributionResponse response = BacDistributionResponse.builder()
+                .deviceId(deviceId)
+                .from(from)
+                .to(to)
+                .logCount(logCount)
+                .sampleCount(merged != null ? merged.getCount() : 0L)
+                .p50(merged != null ? merged.quantile(0.50) : null)
+                .p95(merged != null ? merged.quantile(0.95) : null)
+                .p99(merged != null ? merged.quantile(0.99) : null)
+                .max(merged != null ? merged.getMaxValue() : null)
+                .build();
+
+        log.info("API 호출 완료: BAC 분포 조회 - 로그 {} 건, 측정값 {} 건", logCount, response.getSampleCount());
+
+        return response;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.DrivingLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * BAC 스케치 백필 서비스 (일회성)
+ * 스케치 도입 이전에 제출된 로그는 분포 조회에서 제외되므로, 원본 파일을 다시 파싱해 스케치만 채움
+ * - 실행 주기마다 batch-size 건씩 처리 (공용 스케줄러 스레드를 오래 점유하지 않음)
+ * - 아카이브된 로그는 번들에서 복원한 파일로 파싱
+ * - 파싱 실패 로그는 이번 프로세스에서는 다시 시도하지 않음 (_id 키셋으로 진행)
+ * - 여러 인스턴스 중 잠금을 점유한 한 곳에서만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "log.bac-sketch.backfill.enabled", havingValue = "true")
+public class BacSketchBackfillService {
+
+    private static final String LOCK_NAME = "bac-sketch-backfill";
+    private static final String SKETCH_FIELD = "statistics.bacSketch";
+
+    private final MongoTemplate mongoTemplate;
+    private final LogAnalysisService logAnalysisService;
+    private final LogArchiveService logArchiveService;
+    private final FileStorageService fileStorageService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${log.bac-sketch.backfill.batch-size:500}")
+    private int batchSize;
+
+    // 이번 프로세스에서 마지막으로 확인한 로그 ID
+    private volatile ObjectId lastSeenId;
+
+    /**
+     * 스케치가 없는 로그 백필 (대상이 없으면 조회 한 번으로 종료)
+     */
+    @Scheduled(fixedDelayString = "${log.bac-sketch.backfill.interval-ms:60000}")
+    public void backfill() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, Duration.ofMinutes(10))) {
+            return;
+        }
+
+        try {
+            Criteria criteria = Criteria.where(SKETCH_FIELD).exists(false)
+                    .and("statistics").ne(null)
+                    .and("filePath").exists(true);
+            if (lastSeenId != null) {
+                criteria.and("_id").gt(lastSeenId);
+            }
+            Query query = Query.query(criteria)
+                    .with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(batchSize);
+            query.fields().include("filePath", "archived", "archivePath");
+
+            List<DrivingLog> logs = mongoTemplate.find(query, DrivingLog.class);
+            if (logs.isEmpty()) {
+                return;
+            }
+
+            int filled = 0;
+            for (DrivingLog drivingLog : logs) {
+                if (fill(drivingLog)) {
+                    filled++;
+                }
+            }
+            lastSeenId = new ObjectId(logs.get(logs.size() - 1).getLogId());
+
+            log.info("BAC 스케치 백필: {}건 중 {}건 완료", logs.size(), filled);
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    private boolean fill(DrivingLog drivingLog) {
+        try {
+            Path file = Boolean.TRUE.equals(drivingLog.getArchived())
+                    ? logArchiveService.rehydrate(drivingLog)
+                    : fileStorageService.getFilePath(drivingLog.getFilePath());
+            DrivingLog.LogStatistics statistics = logAnalysisService.parseLogFile(file);
+
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(drivingLog.getLogId()).and(SKETCH_FIELD).exists(false)),
+                    new Update().set(SKETCH_FIELD, statistics.getBacSketch()),
+                    DrivingLog.class);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("BAC 스케치 백필 실패: logId={} - {}", drivingLog.getLogId(), e.getMessage());
+            return false;
+        }
+    }
+}
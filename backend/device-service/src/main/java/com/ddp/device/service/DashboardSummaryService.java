@@ -0,0 +1,63 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.AdminActionSummary;
+import com.ddp.device.document.CompanyFlaggedSummary;
+import com.ddp.device.document.DailyRiskSummary;
+import com.ddp.device.repository.mongo.AdminActionSummaryRepository;
+import com.ddp.device.repository.mongo.CompanyFlaggedSummaryRepository;
+import com.ddp.device.repository.mongo.DailyRiskSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 대시보드 요약 조회 서비스
+ * Change Stream으로 미리 갱신된 요약 문서를 조회 (원본 컬렉션 스캔 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardSummaryService {
+
+    private final DailyRiskSummaryRepository dailyRiskSummaryRepository;
+    private final CompanyFlaggedSummaryRepository companyFlaggedSummaryRepository;
+    private final AdminActionSummaryRepository adminActionSummaryRepository;
+
+    @Value("${log.dashboard.timezone:Asia/Seoul}")
+    private String timezone;
+
+    /**
+     * 최근 N일 일별 위험도 요약 조회
+     * @param days 조회 기간 (일)
+     * @return 일별 요약 목록 (날짜 오름차순)
+     */
+    public List<DailyRiskSummary> getDailyRiskSummaries(int days) {
+        LocalDate today = LocalDate.now(ZoneId.of(timezone));
+        String from = today.minusDays(days - 1L).toString();
+        log.debug("일별 위험도 요약 조회: {} ~ {}", from, today);
+        return dailyRiskSummaryRepository.findByDateBetweenOrderByDateAsc(from, today.toString());
+    }
+
+    /**
+     * 업체별 이상 징후 요약 조회
+     * @param companyId 업체 ID
+     * @return 업체 요약 (이상 징후 이력이 없으면 empty)
+     */
+    public Optional<CompanyFlaggedSummary> getCompanyFlaggedSummary(Long companyId) {
+        return companyFlaggedSummaryRepository.findById(companyId);
+    }
+
+    /**
+     * 관리자 조치 요약 조회 (전체/미확인 건수)
+     * @return 조치 요약 (집계 전이면 empty)
+     */
+    public Optional<AdminActionSummary> getAdminActionSummary() {
+        return adminActionSummaryRepository.findById(AdminActionSummary.GLOBAL_ID);
+    }
+}
@@ -0,0 +1,321 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.AdminActionSummary;
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.ChangeStreamToken;
+import com.ddp.device.document.CompanyFlaggedSummary;
+import com.ddp.device.document.DailyRiskSummary;
+import com.ddp.device.entity.Device;
+import com.ddp.device.repository.jpa.DeviceRepository;
+import com.ddp.device.repository.mongo.ChangeStreamTokenRepository;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 대시보드 요약 Change Stream 서비스
+ * driving_logs / admin_actions 변경 이벤트를 구독하여 요약 컬렉션을 증분 갱신
+ * - 일별 위험도 건수 (log_daily_risk_summaries)
+ * - 업체별 이상 징후 건수 (company_flagged_summaries)
+ * - 미확인 조치 건수 (admin_action_summaries)
+ * 요약 갱신과 재개 토큰 저장을 하나의 트랜잭션으로 처리하여 재시작 시 누락/중복 집계 없이 이어서 구독
+ * 반복 실패한 이벤트는 건너뛰지 않고 구독을 중단한 뒤, 주기적으로 마지막 저장 토큰부터 다시 구독
+ * admin_actions 문서 전체 교체(save)는 변경 전 문서(pre-image, MongoDB 6.0+)와 비교하여 증감만 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "log.summary.change-stream.enabled", havingValue = "true")
+public class DashboardSummaryStreamService {
+
+    static final String DRIVING_LOG_STREAM = "driving_logs.summary";
+    static final String ADMIN_ACTION_STREAM = "admin_actions.summary";
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 200;
+
+    private final MessageListenerContainer summaryListenerContainer;
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamTokenRepository tokenRepository;
+    private final DeviceRepository deviceRepository;
+
+    @Value("${log.dashboard.timezone:Asia/Seoul}")
+    private String timezone;
+
+    // 스트림 이름 → 현재 구독 상태
+    private final Map<String, StreamSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    private record StreamDefinition(String collection, String streamName, List<String> operationTypes,
+                                    boolean preImages,
+                                    BiConsumer<MongoTemplate, ChangeStreamDocument<Document>> handler) {
+    }
+
+    private static final class StreamSubscription {
+        private final StreamDefinition definition;
+        private volatile Subscription subscription;
+        private volatile boolean suspended;
+
+        private StreamSubscription(StreamDefinition definition) {
+            this.definition = definition;
+        }
+    }
+
+    /**
+     * 구독 등록 (컨테이너 시작 시 실제 구독 시작)
+     */
+    @PostConstruct
+    public void subscribe() {
+        enablePreImages("admin_actions");
+        register(new StreamDefinition("driving_logs", DRIVING_LOG_STREAM,
+                List.of("insert"), false, this::applyDrivingLogEvent));
+        register(new StreamDefinition("admin_actions", ADMIN_ACTION_STREAM,
+                List.of("insert", "update", "replace"), true, this::applyAdminActionEvent));
+    }
+
+    /**
+     * 중단된 구독 재개 (마지막으로 저장된 토큰부터 실패 이벤트를 다시 수신)
+     */
+    @Scheduled(fixedDelayString = "${log.summary.change-stream.resume-interval-ms:30000}")
+    public void resumeSuspended() {
+        subscriptions.values().stream()
+                .filter(state -> state.suspended)
+                .map(state -> state.definition)
+                .toList()
+                .forEach(definition -> {
+                    log.info("중단된 Change Stream 재구독: stream={}", definition.streamName());
+                    register(definition);
+                });
+    }
+
+    private void register(StreamDefinition definition) {
+        String streamName = definition.streamName();
+        StreamSubscription state = new StreamSubscription(definition);
+        StreamSubscription previous = subscriptions.put(streamName, state);
+        if (previous != null) {
+            previous.suspended = true;
+            if (previous.subscription != null) {
+                summaryListenerContainer.remove(previous.subscription);
+            }
+        }
+
+        MessageListener<ChangeStreamDocument<Document>, Document> listener = message -> {
+            if (state.suspended) {
+                // 중단된 구독에 남은 이벤트는 재구독 시 다시 수신
+                return;
+            }
+            ChangeStreamDocument<Document> event = message.getRaw();
+            if (!applyWithRetry(definition, event)) {
+                state.suspended = true;
+                log.error("요약 갱신 반복 실패 - 구독 중단 후 재시도 예정: stream={}, 이벤트={}",
+                        streamName, event.getOperationType());
+            }
+        };
+
+        ChangeStreamRequest.ChangeStreamRequestBuilder<Document> builder = ChangeStreamRequest.builder(listener);
+        builder.collection(definition.collection());
+        builder.filter(Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("operationType").in(definition.operationTypes()))));
+        builder.fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+        if (definition.preImages()) {
+            builder.fullDocumentBeforeChangeLookup(FullDocumentBeforeChange.WHEN_AVAILABLE);
+        }
+
+        BsonValue resumeToken = loadResumeToken(streamName);
+        if (resumeToken != null) {
+            builder.resumeToken(resumeToken);
+            log.info("Change Stream 재개: stream={}", streamName);
+        } else {
+            log.warn("저장된 재개 토큰 없음 - 현재 시점부터 구독: stream={}", streamName);
+        }
+
+        state.subscription = summaryListenerContainer.register(builder.build(), Document.class,
+                error -> log.error("Change Stream 오류: stream={} - {}", streamName, error.getMessage()));
+    }
+
+    /**
+     * 요약 갱신 + 재개 토큰 저장 (트랜잭션, 실패 시 재시도)
+     * @return 반영 성공 여부
+     */
+    private boolean applyWithRetry(StreamDefinition definition, ChangeStreamDocument<Document> event) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try (ClientSession session = mongoTemplate.getMongoDatabaseFactory()
+                    .getSession(ClientSessionOptions.builder().build())) {
+                session.withTransaction(() -> {
+                    MongoTemplate sessionTemplate = mongoTemplate.withSession(session);
+                    definition.handler().accept(sessionTemplate, event);
+                    saveResumeToken(sessionTemplate, definition.streamName(), event.getResumeToken());
+                    return null;
+                });
+                return true;
+            } catch (Exception e) {
+                log.warn("요약 갱신 실패 ({}/{}): stream={}, 이벤트={}", attempt, MAX_ATTEMPTS,
+                        definition.streamName(), event.getOperationType(), e);
+            }
+            try {
+                Thread.sleep(RETRY_BACKOFF_MS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 운행기록 로그 삽입 이벤트 반영
+     */
+    void applyDrivingLogEvent(MongoTemplate ops, ChangeStreamDocument<Document> event) {
+        Document logDocument = event.getFullDocument();
+        if (logDocument == null) {
+            return;
+        }
+
+        Date submitDate = logDocument.getDate("submitDate");
+        LocalDateTime submittedAt = submitDate != null
+                ? LocalDateTime.ofInstant(submitDate.toInstant(), ZoneId.of(timezone))
+                : LocalDateTime.now();
+        LocalDate day = submittedAt.toLocalDate();
+
+        String anomalyType = logDocument.getString("anomalyType");
+        boolean flagged = anomalyType != null && !AnomalyType.NORMAL.name().equals(anomalyType);
+
+        Update dailyUpdate = new Update()
+                .inc("totalCount", 1)
+                .inc("flaggedCount", flagged ? 1 : 0)
+                .set("updatedAt", LocalDateTime.now());
+        String riskLevel = logDocument.getString("riskLevel");
+        if (riskLevel != null) {
+            dailyUpdate.inc("riskCounts." + riskLevel, 1);
+        }
+        ops.upsert(byId(day.toString()), dailyUpdate, DailyRiskSummary.class);
+
+        if (flagged && logDocument.get("deviceId") instanceof Number deviceId) {
+            deviceRepository.findById(deviceId.longValue())
+                    .map(Device::getCompanyId)
+                    .ifPresent(companyId -> ops.upsert(byId(companyId),
+                            new Update()
+                                    .inc("flaggedCount", 1)
+                                    .max("lastFlaggedAt", submittedAt)
+                                    .set("updatedAt", LocalDateTime.now()),
+                            CompanyFlaggedSummary.class));
+        }
+    }
+
+    /**
+     * 관리자 조치 삽입/수정/교체 이벤트 반영
+     * 문서 전체 교체(save)는 변경 전/후 문서의 확인 여부를 비교하여 증감 (컬렉션 재집계 없음)
+     */
+    void applyAdminActionEvent(MongoTemplate ops, ChangeStreamDocument<Document> event) {
+        Update update = new Update().set("updatedAt", LocalDateTime.now());
+
+        switch (event.getOperationType()) {
+            case INSERT -> {
+                Document action = event.getFullDocument();
+                boolean read = action != null && Boolean.TRUE.equals(action.getBoolean("isRead"));
+                update.inc("totalCount", 1).inc("unreadCount", read ? 0 : 1);
+            }
+            case UPDATE -> {
+                // 사용자 확인 처리(isRead: false → true)만 반영
+                UpdateDescription description = event.getUpdateDescription();
+                BsonDocument updatedFields = description != null ? description.getUpdatedFields() : null;
+                if (updatedFields == null || !updatedFields.isBoolean("isRead")
+                        || !updatedFields.getBoolean("isRead").getValue()) {
+                    return;
+                }
+                update.inc("unreadCount", -1);
+            }
+            case REPLACE -> {
+                Document before = event.getFullDocumentBeforeChange();
+                Document after = event.getFullDocument();
+                if (before == null || after == null) {
+                    log.warn("교체 이벤트에 변경 전 문서 없음 - 미확인 건수 반영 생략: key={}", event.getDocumentKey());
+                    return;
+                }
+                int delta = unread(after) - unread(before);
+                if (delta == 0) {
+                    return;
+                }
+                update.inc("unreadCount", delta);
+            }
+            default -> {
+                return;
+            }
+        }
+
+        ops.upsert(byId(AdminActionSummary.GLOBAL_ID), update, AdminActionSummary.class);
+    }
+
+    private int unread(Document action) {
+        return Boolean.TRUE.equals(action.getBoolean("isRead")) ? 0 : 1;
+    }
+
+    /**
+     * 컬렉션의 변경 전 문서(pre-image) 기록 활성화 (교체 이벤트 증감 계산용, MongoDB 6.0+)
+     */
+    private void enablePreImages(String collection) {
+        try {
+            if (!mongoTemplate.collectionExists(collection)) {
+                mongoTemplate.createCollection(collection);
+            }
+            mongoTemplate.executeCommand(new Document("collMod", collection)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        } catch (RuntimeException e) {
+            log.warn("변경 전 문서 기록 활성화 실패 - 교체 이벤트는 반영되지 않음: collection={} - {}",
+                    collection, e.getMessage());
+        }
+    }
+
+    private BsonValue loadResumeToken(String streamName) {
+        return tokenRepository.findById(streamName)
+                .map(ChangeStreamToken::getResumeToken)
+                .map(data -> (BsonValue) new BsonDocument("_data", new BsonString(data)))
+                .orElse(null);
+    }
+
+    private void saveResumeToken(MongoTemplate ops, String streamName, BsonDocument resumeToken) {
+        if (resumeToken == null || !resumeToken.isString("_data")) {
+            return;
+        }
+        ops.save(ChangeStreamToken.builder()
+                .streamName(streamName)
+                .resumeToken(resumeToken.getString("_data").getValue())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Query byId(Object id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
@@ -0,0 +1,265 @@
+package com.ddp.device.service;
+
+import com.ddp.device.dto.request.RegisterDeviceRequest;
+import com.ddp.device.dto.response.BulkRegisterDeviceResponse;
+import com.ddp.device.entity.Device;
+import com.ddp.device.entity.DeviceStatus;
+import com.ddp.device.repository.jpa.DeviceRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 장치 대량 등록 서비스 (제조사 입고 등)
+ * - 시리얼 중복 확인: IN 쿼리 (청크 단위)
+ * - 등록: 시퀀스 풀링 + JDBC 배치 INSERT, 배치마다 영속성 컨텍스트 정리
+ * - 배치별 트랜잭션: 동시 등록으로 시리얼이 충돌하면 해당 행만 중복 처리 후 나머지 배치 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeviceImportService {
+
+    // CSV 헤더 (이름 기준 매핑, 순서 무관)
+    private static final String[] CSV_HEADERS = {
+            "serialNumber", "modelName", "manufacturerId", "userId", "companyId", "installDate", "warrantyEndDate"
+    };
+
+    private final DeviceRepository deviceRepository;
+    private final DeviceRegistryCache deviceRegistryCache;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${device.import.batch-size:500}")
+    private int batchSize;
+
+    // IN 절 최대 파라미터 수 (PostgreSQL 바인드 파라미터 제한 32767 이내)
+    @Value("${device.import.lookup-chunk-size:5000}")
+    private int lookupChunkSize;
+
+    @Value("${device.import.max-rows:50000}")
+    private int maxRows;
+
+    /**
+     * CSV 파일로 장치 대량 등록
+     * @param file CSV 파일 (첫 행 헤더: serialNumber,modelName,manufacturerId,userId,companyId,installDate,warrantyEndDate)
+     * @throws IllegalArgumentException 필수 헤더가 없거나 파일을 읽을 수 없는 경우
+     */
+    public BulkRegisterDeviceResponse importCsv(MultipartFile file) {
+        List<String> invalidRows = new ArrayList<>();
+        Map<String, RegisterDeviceRequest> requests = new LinkedHashMap<>();
+        List<String> duplicates = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+             CSVParser csvParser = new CSVParser(reader, CSVFormat.DEFAULT.builder()
+                     .setHeader()
+                     .setSkipHeaderRecord(true)
+                     .setIgnoreEmptyLines(true)
+                     .setTrim(true)
+                     .build())) {
+
+            List<String> missingHeaders = Arrays.stream(CSV_HEADERS)
+                    .filter(header -> !csvParser.getHeaderMap().containsKey(header))
+                    .toList();
+            if (!missingHeaders.isEmpty()) {
+                throw new IllegalArgumentException("CSV 헤더가 올바르지 않습니다. 누락: " + String.join(", ", missingHeaders));
+            }
+
+            int rows = 0;
+            for (CSVRecord record : csvParser) {
+                if (++rows > maxRows) {
+                    throw new IllegalArgumentException("한 번에 등록할 수 있는 장치는 최대 " + maxRows + "건입니다");
+                }
+                try {
+                    RegisterDeviceRequest request = RegisterDeviceRequest.builder()
+                            .serialNumber(record.get("serialNumber"))
+                            .modelName(record.get("modelName"))
+                            .manufacturerId(parseLong(record.get("manufacturerId")))
+                            .userId(parseLong(record.get("userId")))
+                            .companyId(parseLong(record.get("companyId")))
+                            .installDate(parseDate(record.get("installDate")))
+                            .warrantyEndDate(parseDate(record.get("warrantyEndDate")))
+                            .build();
+                    collect(request, "행 " + (record.getRecordNumber() + 1), requests, duplicates, invalidRows);
+                } catch (RuntimeException e) {
+                    invalidRows.add("행 " + (record.getRecordNumber() + 1) + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("CSV 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+
+        return register(requests, duplicates, invalidRows, requests.size() + duplicates.size() + invalidRows.size());
+    }
+
+    /**
+     * 요청 목록으로 장치 대량 등록
+     */
+    public BulkRegisterDeviceResponse importDevices(List<RegisterDeviceRequest> devices) {
+        if (devices.size() > maxRows) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 장치는 최대 " + maxRows + "건입니다");
+        }
+
+        List<String> invalidRows = new ArrayList<>();
+        Map<String, RegisterDeviceRequest> requests = new LinkedHashMap<>();
+        List<String> duplicates = new ArrayList<>();
+
+        for (int i = 0; i < devices.size(); i++) {
+            collect(devices.get(i), "항목 " + (i + 1), requests, duplicates, invalidRows);
+        }
+
+        return register(requests, duplicates, invalidRows, devices.size());
+    }
+
+    /**
+     * 필수값 검증 및 요청 내 시리얼 중복 제거
+     */
+    private void collect(RegisterDeviceRequest request, String rowLabel, Map<String, RegisterDeviceRequest> requests,
+                         List<String> duplicates, List<String> invalidRows) {
+        if (!StringUtils.hasText(request.getSerialNumber()) || !StringUtils.hasText(request.getModelName())
+                || request.getCompanyId() == null) {
+            invalidRows.add(rowLabel + ": 시리얼 번호, 모델명, 업체 ID는 필수입니다");
+            return;
+        }
+        if (requests.putIfAbsent(request.getSerialNumber(), request) != null) {
+            duplicates.add(request.getSerialNumber());
+        }
+    }
+
+    /**
+     * 기존 시리얼 제외 후 배치 INSERT
+     */
+    private BulkRegisterDeviceResponse register(Map<String, RegisterDeviceRequest> requests, List<String> duplicates,
+                                                List<String> invalidRows, int requestedCount) {
+        log.info("API 호출 시작: 장치 대량 등록 - 요청 {}건", requestedCount);
+
+        // 이미 등록된 시리얼 제외
+        Set<String> existing = findExistingSerialNumbers(requests.keySet());
+        existing.forEach(serialNumber -> {
+            requests.remove(serialNumber);
+            duplicates.add(serialNumber);
+        });
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<RegisterDeviceRequest> batch = new ArrayList<>(batchSize);
+        List<Device> registered = new ArrayList<>(requests.size());
+        for (RegisterDeviceRequest request : requests.values()) {
+            batch.add(request);
+            if (batch.size() == batchSize) {
+                registered.addAll(saveBatch(transactionTemplate, batch, duplicates));
+                batch.clear();
+            }
+        }
+        registered.addAll(saveBatch(transactionTemplate, batch, duplicates));
+
+        deviceRegistryCache.evictAll(registered);
+
+        log.info("API 호출 완료: 장치 대량 등록 - 등록 {}건, 중복 {}건, 오류 {}건",
+                registered.size(), duplicates.size(), invalidRows.size());
+
+        return BulkRegisterDeviceResponse.builder()
+                .requestedCount(requestedCount)
+                .registeredCount(registered.size())
+                .duplicateSerialNumbers(duplicates)
+                .invalidRows(invalidRows)
+                .build();
+    }
+
+    private Set<String> findExistingSerialNumbers(Set<String> serialNumbers) {
+        Set<String> existing = new HashSet<>();
+        List<String> all = new ArrayList<>(serialNumbers);
+        for (int from = 0; from < all.size(); from += lookupChunkSize) {
+            List<String> chunk = all.subList(from, Math.min(from + lookupChunkSize, all.size()));
+            existing.addAll(deviceRepository.findExistingSerialNumbers(chunk));
+        }
+        return existing;
+    }
+
+    /**
+     * 배치 저장 (배치별 트랜잭션)
+     * 다른 요청이 먼저 등록한 시리얼과 충돌하면 충돌 행을 중복으로 분류하고 나머지만 다시 저장
+     */
+    private List<Device> saveBatch(TransactionTemplate transactionTemplate, List<RegisterDeviceRequest> batch,
+                                   List<String> duplicates) {
+        List<RegisterDeviceRequest> pending = new ArrayList<>(batch);
+        while (!pending.isEmpty()) {
+            try {
+                return transactionTemplate.execute(status -> flushBatch(pending));
+            } catch (DataIntegrityViolationException e) {
+                Set<String> taken = findExistingSerialNumbers(pending.stream()
+                        .map(RegisterDeviceRequest::getSerialNumber)
+                        .collect(Collectors.toSet()));
+                if (taken.isEmpty()) {
+                    throw e;
+                }
+                log.warn("장치 대량 등록 중 동시 등록된 시리얼 {}건 - 중복 처리 후 재시도", taken.size());
+                pending.removeIf(request -> taken.contains(request.getSerialNumber()));
+                duplicates.addAll(taken);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 배치 저장 후 영속성 컨텍스트 정리 (1차 캐시가 커지지 않도록)
+     * 재시도 시 ID가 새로 할당되도록 매번 새 엔티티 생성
+     * flush는 리포지토리를 통해 호출 (유니크 제약 위반이 DataIntegrityViolationException으로 변환되어야 saveBatch에서 재시도)
+     */
+    private List<Device> flushBatch(List<RegisterDeviceRequest> batch) {
+        List<Device> saved = deviceRepository.saveAllAndFlush(batch.stream().map(this::toDevice).toList());
+        entityManager.clear();
+        return saved;
+    }
+
+    // 단건 등록(DeviceService.registerDevice)과 동일한 초기 상태 설정
+    private Device toDevice(RegisterDeviceRequest request) {
+        Device device = Device.builder()
+                .serialNumber(request.getSerialNumber())
+                .modelName(request.getModelName())
+                .manufacturerId(request.getManufacturerId())
+                .userId(request.getUserId())
+                .companyId(request.getCompanyId())
+                .status(request.getUserId() != null ? DeviceStatus.INSTALLED : DeviceStatus.AVAILABLE)
+                .installDate(request.getInstallDate())
+                .warrantyEndDate(request.getWarrantyEndDate())
+                .build();
+
+        if (request.getInstallDate() != null && request.getUserId() != null) {
+            device.setLastInspectionDate(request.getInstallDate());
+            device.setNextInspectionDate(request.getInstallDate().plusMonths(6));
+        }
+        return device;
+    }
+
+    private Long parseLong(String value) {
+        return StringUtils.hasText(value) ? Long.valueOf(value) : null;
+    }
+
+    private LocalDate parseDate(String value) {
+        return StringUtils.hasText(value) ? LocalDate.parse(value) : null;
+    }
+}
@@ -0,0 +1,160 @@
+package com.ddp.device.service;
+
+import com.ddp.device.client.DeviceChangePublisher;
+import com.ddp.device.dto.response.DeviceResponse;
+import com.ddp.device.entity.Device;
+import com.ddp.device.repository.jpa.DeviceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 장치 조회 캐시 (read-through)
+ * - 장치 ID → 장치, 사용자 ID → 장치 목록, 시리얼 번호 → 등록 여부
+ * - 엔티티 대신 조회 시점의 응답 DTO를 캐시하고 호출자에게는 복사본을 반환 (캐시 값 공유/변경 방지)
+ * - 변경 시 커밋 후 로컬 캐시를 무효화하고 다른 인스턴스에도 무효화 요청 전송 (DeviceChangePublisher)
+ * - 크기 제한 + 쓰기 후 만료로 메모리 사용량과 무효화 요청 유실 시 인스턴스 간 불일치 시간을 제한
+ * - 적중률은 actuator metrics의 cache.gets / cache.evictions 로 노출
+ */
+@Slf4j
+@Component
+public class DeviceRegistryCache {
+
+    private final DeviceRepository deviceRepository;
+    private final DeviceChangePublisher changePublisher;
+
+    private final Cache<Long, DeviceResponse> devicesById;
+    private final Cache<Long, List<DeviceResponse>> devicesByUserId;
+    // 등록된 시리얼만 캐시 (미등록 결과는 다른 인스턴스의 등록을 놓칠 수 있어 캐시하지 않음)
+    private final Cache<String, Boolean> registeredSerials;
+
+    public DeviceRegistryCache(
+            DeviceRepository deviceRepository,
+            DeviceChangePublisher changePublisher,
+            MeterRegistry meterRegistry,
+            @Value("${device.cache.maximum-size:10000}") long maximumSize,
+            @Value("${device.cache.expire-after-write-minutes:5}") long expireMinutes) {
+        this.deviceRepository = deviceRepository;
+        this.changePublisher = changePublisher;
+        this.devicesById = buildCache(meterRegistry, "device.byId", maximumSize, expireMinutes);
+        this.devicesByUserId = buildCache(meterRegistry, "device.byUserId", maximumSize, expireMinutes);
+        this.registeredSerials = buildCache(meterRegistry, "device.bySerialNumber", maximumSize, expireMinutes);
+    }
+
+    /**
+     * 장치 ID로 조회
+     */
+    public Optional<DeviceResponse> findById(Long deviceId) {
+        return Optional.ofNullable(devicesById.get(deviceId,
+                        id -> deviceRepository.findById(id).map(DeviceResponse::from).orElse(null)))
+                .map(DeviceRegistryCache::copy);
+    }
+
+    /**
+     * 사용자 ID로 장치 목록 조회
+     */
+    public List<DeviceResponse> findByUserId(Long userId) {
+        List<DeviceResponse> devices = devicesByUserId.get(userId,
+                id -> deviceRepository.findByUserId(id).stream().map(DeviceResponse::from).toList());
+        return devices.stream().map(DeviceRegistryCache::copy).toList();
+    }
+
+    /**
+     * 시리얼 번호 등록 여부 확인
+     */
+    public boolean existsBySerialNumber(String serialNumber) {
+        if (registeredSerials.getIfPresent(serialNumber) != null) {
+            return true;
+        }
+        boolean exists = deviceRepository.existsBySerialNumber(serialNumber);
+        if (exists) {
+            registeredSerials.put(serialNumber, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    /**
+     * 장치 변경 시 캐시 무효화 (트랜잭션 커밋 후 적용)
+     * 커밋 전에 무효화하면 동시 조회가 변경 전 값을 다시 캐시할 수 있음
+     * @param device 변경된 장치
+     */
+    public void evict(Device device) {
+        Long deviceId = device.getDeviceId();
+        Long userId = device.getUserId();
+        String serialNumber = device.getSerialNumber();
+
+        runAfterCommit(() -> {
+            List<Long> userIds = userId != null ? List.of(userId) : List.of();
+            evictLocal(List.of(deviceId), userIds);
+            registeredSerials.put(serialNumber, Boolean.TRUE);
+            changePublisher.publishDevicesChanged(List.of(deviceId), userIds);
+        });
+    }
+
+    /**
+     * 대량 등록 시 캐시 무효화 (커밋 후 1회 적용)
+     * @param devices 등록된 장치 목록
+     */
+    public void evictAll(Collection<Device> devices) {
+        List<Long> userIds = devices.stream().map(Device::getUserId).filter(Objects::nonNull).distinct().toList();
+        List<String> serialNumbers = devices.stream().map(Device::getSerialNumber).toList();
+
+        runAfterCommit(() -> {
+            evictLocal(List.of(), userIds);
+            serialNumbers.forEach(serialNumber -> registeredSerials.put(serialNumber, Boolean.TRUE));
+            changePublisher.publishDevicesChanged(List.of(), userIds);
+        });
+    }
+
+    /**
+     * 로컬 캐시 무효화 (다른 인스턴스의 변경 알림 수신 시에도 사용)
+     * 시리얼 등록 여부는 등록된 시리얼만 캐시하고 등록 해제가 없으므로 무효화 대상이 아님
+     * @param deviceIds 무효화할 장치 ID 목록
+     * @param userIds 장치 목록을 무효화할 사용자 ID 목록
+     */
+    public void evictLocal(Collection<Long> deviceIds, Collection<Long> userIds) {
+        devicesById.invalidateAll(deviceIds);
+        devicesByUserId.invalidateAll(userIds);
+        log.debug("장치 캐시 무효화 - 장치 ID: {}, 사용자 ID: {}", deviceIds, userIds);
+    }
+
+    // 캐시 값은 모든 호출자가 공유하므로 호출자에게는 복사본 반환
+    private static DeviceResponse copy(DeviceResponse device) {
+        return device.toBuilder().build();
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static <K, V> Cache<K, V> buildCache(MeterRegistry meterRegistry, String name,
+                                                 long maximumSize, long expireMinutes) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -28,16 +29,23 @@ public class DeviceService {
 
     private final DeviceRepository deviceRepository;
     private final DrivingLogRepository drivingLogRepository;
+    private final DeviceRegistryCache deviceRegistryCache;
 
     // 장치 등록 (예약 완료 시 호출)
     public Device registerDevice(RegisterDeviceRequest request) {
         log.info("API 호출 시작: 장치 등록 - 시리얼 번호: {}", request.getSerialNumber());
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 시리얼 번호 중복 확인
-            if (deviceRepository.existsBySerialNumber(request.getSerialNumber())) {
+            if (deviceRegistryCache.existsBySerialNumber(request.getSerialNumber())) {
+                // 같은 사용자/업체로 이미 등록된 장치면 재요청(예약 완료 후속 처리 재전송)으로 보고 기존 장치 반환
+                Optional<Device> existing = deviceRepository.findBySerialNumber(request.getSerialNumber());
+                if (existing.isPresent()
+                        && Objects.equals(existing.get().getUserId(), request.getUserId())
+                        && Objects.equals(existing.get().getCompanyId(), request.getCompanyId())) {
+                    log.info("API 호출 완료: 장치 등록 (기존 장치 반환) - 장치 ID: {}", existing.get().getDeviceId());
+                    return existing.get();
+                }
                 throw new IllegalArgumentException("이미 등록된 시리얼 번호입니다: " + request.getSerialNumber());
             }
 
@@ -61,9 +69,9 @@ public class DeviceService {
 
             // 장치 저장
             Device savedDevice = deviceRepository.save(device);
+            deviceRegistryCache.evict(savedDevice);
 
-            log.info("API 호출 완료: 장치 등록 - 장치 ID: {} ({}ms)",
-                    savedDevice.getDeviceId(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 장치 등록 - 장치 ID: {}", savedDevice.getDeviceId());
 
             return savedDevice;
 
@@ -78,22 +86,19 @@ public class DeviceService {
 
     // 장치 조회 (ID로)
     @Transactional(readOnly = true)
-    public Optional<Device> findById(Long deviceId) {
+    public Optional<DeviceResponse> findById(Long deviceId) {
         log.debug("장치 조회 - 장치 ID: {}", deviceId);
-        return deviceRepository.findById(deviceId);
+        return deviceRegistryCache.findById(deviceId);
     }
 
     // 사용자의 장치 목록 조회
     @Transactional(readOnly = true)
-    public List<Device> findByUserId(Long userId) {
+    public List<DeviceResponse> findByUserId(Long userId) {
         log.info("API 호출 시작: 사용자 장치 목록 조회 - 사용자 ID: {}", userId);
 
-        long startTime = System.currentTimeMillis();
-
-        List<Device> devices = deviceRepository.findByUserId(userId);
+        List<DeviceResponse> devices = deviceRegistryCache.findByUserId(userId);
 
-        log.info("API 호출 완료: 사용자 장치 목록 조회 - {} 건 ({}ms)",
-                devices.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 사용자 장치 목록 조회 - {} 건", devices.size());
 
         return devices;
     }
@@ -103,12 +108,9 @@ public class DeviceService {
     public List<Device> findByCompanyId(Long companyId) {
         log.info("API 호출 시작: 업체 장치 목록 조회 - 업체 ID: {}", companyId);
 
-        long startTime = System.currentTimeMillis();
-
         List<Device> devices = deviceRepository.findByCompanyId(companyId);
 
-        log.info("API 호출 완료: 업체 장치 목록 조회 - {} 건 ({}ms)",
-                devices.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 업체 장치 목록 조회 - {} 건", devices.size());
 
         return devices;
     }
@@ -118,12 +120,9 @@ public class DeviceService {
     public List<Device> findAll() {
         log.info("API 호출 시작: 전체 장치 목록 조회 (관리자)");
 
-        long startTime = System.currentTimeMillis();
-
         List<Device> devices = deviceRepository.findAll();
 
-        log.info("API 호출 완료: 전체 장치 목록 조회 - {} 건 ({}ms)",
-                devices.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 전체 장치 목록 조회 - {} 건", devices.size());
 
         return devices;
     }
@@ -132,8 +131,6 @@ public class DeviceService {
     public Device updateStatus(Long deviceId, DeviceStatus newStatus) {
         log.info("API 호출 시작: 장치 상태 업데이트 - 장치 ID: {}, 새 상태: {}", deviceId, newStatus);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             Device device = deviceRepository.findById(deviceId)
                     .orElseThrow(() -> new IllegalArgumentException("장치를 찾을 수 없습니다: " + deviceId));
@@ -141,9 +138,9 @@ public class DeviceService {
             device.setStatus(newStatus);
 
             Device savedDevice = deviceRepository.save(device);
+            deviceRegistryCache.evict(savedDevice);
 
-            log.info("API 호출 완료: 장치 상태 업데이트 - 장치 ID: {} ({}ms)",
-                    deviceId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 장치 상태 업데이트 - 장치 ID: {}", deviceId);
 
             return savedDevice;
 
@@ -163,8 +160,6 @@ public class DeviceService {
     public DeviceWithLogStatsResponse getDeviceWithLogStats(Long deviceId) {
         log.info("API 호출 시작: 장치 상세 + 로그 통계 조회 - 장치 ID: {}", deviceId);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 장치 조회
             Device device = deviceRepository.findById(deviceId)
@@ -206,8 +201,7 @@ public class DeviceService {
                     .logStats(logStats)
                     .build();
 
-            log.info("API 호출 완료: 장치 상세 + 로그 통계 조회 - 총 로그: {} 건 ({}ms)",
-                    totalLogCount, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 장치 상세 + 로그 통계 조회 - 총 로그: {} 건", totalLogCount);
 
             return response;
 
@@ -9,12 +9,14 @@ import com.ddp.device.dto.log.SubmitLogRequest;
 import com.ddp.device.repository.mongo.DrivingLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -31,6 +33,9 @@ public class DrivingLogService {
     private final DrivingLogRepository drivingLogRepository;
     private final FileStorageService fileStorageService;
     private final LogAnalysisService logAnalysisService;
+    private final LogDashboardService logDashboardService;
+    private final FlaggedLogStreamService flaggedLogStreamService;
+    private final LogArchiveService logArchiveService;
 
     /**
      * 로그 제출
@@ -42,8 +47,6 @@ public class DrivingLogService {
         log.info("API 호출 시작: 로그 제출 - 사용자 ID: {}, 장치 ID: {}",
                 request.getUserId(), request.getDeviceId());
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 파일 검증
             if (file == null || file.isEmpty()) {
@@ -113,11 +116,12 @@ public class DrivingLogService {
 
             // MongoDB에 저장
             DrivingLog savedLog = drivingLogRepository.save(drivingLog);
+            logDashboardService.evictCache();
+            flaggedLogStreamService.publishIfFlagged(savedLog);
 
-            log.info("API 호출 완료: 로그 제출 - 로그 ID: {}, 상태: {} ({}ms)",
-                    savedLog.getLogId(), savedLog.getStatus(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 로그 제출 - 로그 ID: {}, 상태: {}", savedLog.getLogId(), savedLog.getStatus());
 
-            return DrivingLogResponse.from(savedLog);
+            return toResponse(savedLog);
 
         } catch (IllegalArgumentException e) {
             log.error("로그 제출 실패: {}", e.getMessage());
@@ -135,14 +139,18 @@ public class DrivingLogService {
     public DrivingLogResponse getLog(String logId) {
         log.info("API 호출 시작: 로그 조회 - 로그 ID: {}", logId);
 
-        long startTime = System.currentTimeMillis();
-
         DrivingLog drivingLog = drivingLogRepository.findById(logId)
                 .orElseThrow(() -> new IllegalArgumentException("로그를 찾을 수 없습니다: " + logId));
 
-        log.info("API 호출 완료: 로그 조회 ({}ms)", System.currentTimeMillis() - startTime);
+        DrivingLogResponse response = toResponse(drivingLog);
+        if (Boolean.TRUE.equals(drivingLog.getArchived())) {
+            // 아카이브 stub은 상세 텍스트를 번들에서 복원
+            response.setAnomalyDetails(logArchiveService.loadArchivedDetails(drivingLog).get("anomalyDetails"));
+        }
+
+        log.info("API 호출 완료: 로그 조회");
 
-        return DrivingLogResponse.from(drivingLog);
+        return response;
     }
 
     /**
@@ -152,14 +160,11 @@ public class DrivingLogService {
     public Page<DrivingLogResponse> getLogsByDevice(Long deviceId, Pageable pageable) {
         log.info("API 호출 시작: 장치별 로그 목록 조회 - 장치 ID: {}", deviceId);
 
-        long startTime = System.currentTimeMillis();
-
         Page<DrivingLog> logs = drivingLogRepository.findByDeviceId(deviceId, pageable);
 
-        log.info("API 호출 완료: 장치별 로그 목록 조회 - {} 건 ({}ms)",
-                logs.getTotalElements(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 장치별 로그 목록 조회 - {} 건", logs.getTotalElements());
 
-        return logs.map(DrivingLogResponse::from);
+        return logs.map(this::toResponse);
     }
 
     /**
@@ -169,14 +174,11 @@ public class DrivingLogService {
     public Page<DrivingLogResponse> getLogsByUser(Long userId, Pageable pageable) {
         log.info("API 호출 시작: 사용자별 로그 목록 조회 - 사용자 ID: {}", userId);
 
-        long startTime = System.currentTimeMillis();
-
         Page<DrivingLog> logs = drivingLogRepository.findByUserId(userId, pageable);
 
-        log.info("API 호출 완료: 사용자별 로그 목록 조회 - {} 건 ({}ms)",
-                logs.getTotalElements(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 사용자별 로그 목록 조회 - {} 건", logs.getTotalElements());
 
-        return logs.map(DrivingLogResponse::from);
+        return logs.map(this::toResponse);
     }
 
     /**
@@ -186,14 +188,11 @@ public class DrivingLogService {
     public Page<DrivingLogResponse> getAllLogs(Pageable pageable) {
         log.info("API 호출 시작: 전체 로그 목록 조회 (관리자)");
 
-        long startTime = System.currentTimeMillis();
-
         Page<DrivingLog> logs = drivingLogRepository.findAll(pageable);
 
-        log.info("API 호출 완료: 전체 로그 목록 조회 - {} 건 ({}ms)",
-                logs.getTotalElements(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 전체 로그 목록 조회 - {} 건", logs.getTotalElements());
 
-        return logs.map(DrivingLogResponse::from);
+        return logs.map(this::toResponse);
     }
 
     /**
@@ -203,14 +202,11 @@ public class DrivingLogService {
     public Page<DrivingLogResponse> getFlaggedLogs(Pageable pageable) {
         log.info("API 호출 시작: 이상 징후 로그 목록 조회");
 
-        long startTime = System.currentTimeMillis();
-
         Page<DrivingLog> logs = drivingLogRepository.findByAnomalyTypeNot(AnomalyType.NORMAL, pageable);
 
-        log.info("API 호출 완료: 이상 징후 로그 목록 조회 - {} 건 ({}ms)",
-                logs.getTotalElements(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 이상 징후 로그 목록 조회 - {} 건", logs.getTotalElements());
 
-        return logs.map(DrivingLogResponse::from);
+        return logs.map(this::toResponse);
     }
 
     /**
@@ -220,15 +216,12 @@ public class DrivingLogService {
     public Page<DrivingLogResponse> getPendingReviewLogs(Pageable pageable) {
         log.info("API 호출 시작: 검토 대기 로그 목록 조회");
 
-        long startTime = System.currentTimeMillis();
-
         List<LogStatus> pendingStatuses = Arrays.asList(LogStatus.FLAGGED, LogStatus.UNDER_REVIEW);
         Page<DrivingLog> logs = drivingLogRepository.findByStatusIn(pendingStatuses, pageable);
 
-        log.info("API 호출 완료: 검토 대기 로그 목록 조회 - {} 건 ({}ms)",
-                logs.getTotalElements(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 검토 대기 로그 목록 조회 - {} 건", logs.getTotalElements());
 
-        return logs.map(DrivingLogResponse::from);
+        return logs.map(this::toResponse);
     }
 
     /**
@@ -238,8 +231,6 @@ public class DrivingLogService {
         log.info("API 호출 시작: 로그 검토 - 로그 ID: {}, 검토자 ID: {}",
                 logId, request.getReviewerId());
 
-        long startTime = System.currentTimeMillis();
-
         try {
             DrivingLog drivingLog = drivingLogRepository.findById(logId)
                     .orElseThrow(() -> new IllegalArgumentException("로그를 찾을 수 없습니다: " + logId));
@@ -252,11 +243,11 @@ public class DrivingLogService {
             drivingLog.setUpdatedAt(LocalDateTime.now());
 
             DrivingLog savedLog = drivingLogRepository.save(drivingLog);
+            logDashboardService.evictCache();
 
-            log.info("API 호출 완료: 로그 검토 - 로그 ID: {}, 상태: {} ({}ms)",
-                    logId, request.getStatus(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 로그 검토 - 로그 ID: {}, 상태: {}", logId, request.getStatus());
 
-            return DrivingLogResponse.from(savedLog);
+            return toResponse(savedLog);
 
         } catch (IllegalArgumentException e) {
             log.error("로그 검토 실패: {}", e.getMessage());
@@ -280,7 +271,7 @@ public class DrivingLogService {
             return null;
         }
 
-        return DrivingLogResponse.from(latestLog);
+        return toResponse(latestLog);
     }
 
     /**
@@ -290,4 +281,28 @@ public class DrivingLogService {
     public long countLogsByDevice(Long deviceId) {
         return drivingLogRepository.countByDeviceId(deviceId);
     }
+
+    /**
+     * 로그 파일 로드 (아카이브된 로그는 번들에서 복원)
+     */
+    @Transactional(readOnly = true)
+    public Resource loadLogFile(String logId) throws IOException {
+        DrivingLog drivingLog = drivingLogRepository.findById(logId)
+                .orElseThrow(() -> new IllegalArgumentException("로그를 찾을 수 없습니다: " + logId));
+
+        return logArchiveService.loadLogFile(drivingLog);
+    }
+
+    /**
+     * 응답 변환 (아카이브 stub은 통계로부터 분석 결과 재생성)
+     */
+    DrivingLogResponse toResponse(DrivingLog drivingLog) {
+        DrivingLogResponse response = DrivingLogResponse.from(drivingLog);
+        if (Boolean.TRUE.equals(drivingLog.getArchived()) && drivingLog.getAnalysisResult() == null
+                && drivingLog.getStatistics() != null) {
+            response.setAnalysisResult(logAnalysisService.generateAnalysisResult(
+                    drivingLog.getStatistics(), drivingLog.getAnomalyType()));
+        }
+        return response;
+    }
 }
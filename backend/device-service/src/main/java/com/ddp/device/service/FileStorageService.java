@@ -55,8 +55,6 @@ public class FileStorageService {
         log.info("API 호출 시작: 파일 저장 - 파일명: {}, 장치 ID: {}, 사용자 ID: {}",
                 file.getOriginalFilename(), deviceId, userId);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 파일명 검증
             String originalFilename = file.getOriginalFilename();
@@ -88,8 +86,7 @@ public class FileStorageService {
             // 상대 경로 반환 (DB 저장용)
             String relativePath = dateDir + "/" + uniqueFileName;
 
-            log.info("API 호출 완료: 파일 저장 - 경로: {} ({}ms)",
-                    relativePath, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 파일 저장 - 경로: {}", relativePath);
 
             return relativePath;
 
@@ -106,14 +103,11 @@ public class FileStorageService {
     public void deleteFile(String filePath) {
         log.info("API 호출 시작: 파일 삭제 - 경로: {}", filePath);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             Path targetPath = Paths.get(uploadDir, filePath);
             Files.deleteIfExists(targetPath);
 
-            log.info("API 호출 완료: 파일 삭제 ({}ms)",
-                    System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 파일 삭제");
 
         } catch (IOException e) {
             log.error("파일 삭제 실패: {}", e.getMessage(), e);
@@ -137,7 +131,6 @@ public class FileStorageService {
      * @throws IOException 파일을 찾을 수 없거나 읽을 수 없는 경우
      */
     public Resource loadFileAsResource(String filePath) throws IOException {
-        long startTime = System.currentTimeMillis();
         log.info("API 호출 시작: 파일 다운로드 - {}", filePath);
 
         try {
@@ -155,18 +148,15 @@ public class FileStorageService {
                 throw new IOException("파일을 읽을 수 없습니다: " + filePath);
             }
 
-            long endTime = System.currentTimeMillis();
-            log.info("API 호출 완료: 파일 다운로드 ({}ms)", endTime - startTime);
+            log.info("API 호출 완료: 파일 다운로드");
 
             return resource;
 
         } catch (MalformedURLException e) {
-            long endTime = System.currentTimeMillis();
-            log.error("API 호출 실패: 파일 다운로드 ({}ms) - {}", endTime - startTime, e.getMessage());
+            log.error("API 호출 실패: 파일 다운로드 - {}", e.getMessage());
             throw new IOException("파일 경로가 잘못되었습니다: " + e.getMessage(), e);
         } catch (Exception e) {
-            long endTime = System.currentTimeMillis();
-            log.error("API 호출 실패: 파일 다운로드 ({}ms) - {}", endTime - startTime, e.getMessage());
+            log.error("API 호출 실패: 파일 다운로드 - {}", e.getMessage());
             throw new IOException("파일 다운로드 중 오류 발생: " + e.getMessage(), e);
         }
     }
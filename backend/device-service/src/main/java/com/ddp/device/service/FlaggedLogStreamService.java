@@ -0,0 +1,51 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.DrivingLog;
+import com.ddp.device.document.LogStatus;
+import com.ddp.device.document.RiskLevel;
+import com.ddp.device.dto.log.FlaggedLogEvent;
+import com.ddp.device.sse.SseFanoutHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이상 징후 로그 실시간 알림 서비스
+ * 로그 제출 시 FLAGGED 또는 HIGH 위험도 로그를 관리자 콘솔에 SSE로 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlaggedLogStreamService {
+
+    private static final String CHANNEL = "admin";
+    private static final String EVENT_NAME = "flagged-log";
+
+    private final SseFanoutHub<String> flaggedLogHub;
+
+    /**
+     * 관리자 콘솔 구독
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe() {
+        return flaggedLogHub.subscribe(CHANNEL);
+    }
+
+    /**
+     * 이상 징후 로그 알림 전송 (대상이 아니면 무시)
+     * @param drivingLog 저장된 로그
+     */
+    public void publishIfFlagged(DrivingLog drivingLog) {
+        if (drivingLog.getStatus() != LogStatus.FLAGGED && drivingLog.getRiskLevel() != RiskLevel.HIGH) {
+            return;
+        }
+        if (flaggedLogHub.getSubscriberCount() == 0) {
+            return;
+        }
+
+        flaggedLogHub.publish(CHANNEL, EVENT_NAME, FlaggedLogEvent.from(drivingLog));
+        log.debug("이상 징후 로그 알림 전송: logId={}, 연결 수={}",
+                drivingLog.getLogId(), flaggedLogHub.getSubscriberCount());
+    }
+}
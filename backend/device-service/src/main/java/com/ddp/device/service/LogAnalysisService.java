@@ -1,6 +1,7 @@
 package com.ddp.device.service;
 
 import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.BacSketch;
 import com.ddp.device.document.DrivingLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,19 +34,22 @@ public class LogAnalysisService {
 
     @Value("${file.upload.dir:./uploads/logs}")
     private String uploadDir;
-
     /**
      * CSV 로그 파일 파싱 및 통계 계산
      */
     public DrivingLog.LogStatistics parseLogFile(String filePath) throws IOException {
-        long startTime = System.currentTimeMillis();
-        log.info("API 호출 시작: 로그 파일 파싱 - {}", filePath);
+        return parseLogFile(Paths.get(uploadDir, filePath));
+    }
 
-        Path fullPath = Paths.get(uploadDir, filePath);
+    /**
+     * CSV 로그 파일 파싱 및 통계 계산 (전체 경로, 아카이브 복원 파일 등)
+     */
+    public DrivingLog.LogStatistics parseLogFile(Path fullPath) throws IOException {
+        log.info("API 호출 시작: 로그 파일 파싱 - {}", fullPath);
 
         if (!Files.exists(fullPath)) {
             log.error("파일을 찾을 수 없습니다: {}", fullPath);
-            throw new IOException("파일을 찾을 수 없습니다: " + filePath);
+            throw new IOException("파일을 찾을 수 없습니다: " + fullPath.getFileName());
         }
 
         try (BufferedReader reader = Files.newBufferedReader(fullPath);
@@ -112,16 +116,15 @@ public class LogAnalysisService {
                     .averageBAC(BigDecimal.valueOf(averageBAC).setScale(4, RoundingMode.HALF_UP).doubleValue())
                     .maxBAC(BigDecimal.valueOf(maxBAC).setScale(4, RoundingMode.HALF_UP).doubleValue())
                     .tamperingAttempts(tamperingAttempts)
+                    .bacSketch(BacSketch.of(bacValues, BacSketch.DEFAULT_RELATIVE_ACCURACY))
                     .build();
 
-            long endTime = System.currentTimeMillis();
-            log.info("API 호출 완료: 로그 파일 파싱 ({}ms) - 총 {}개 레코드", endTime - startTime, totalTests);
+            log.info("API 호출 완료: 로그 파일 파싱 - 총 {}개 레코드", totalTests);
 
             return statistics;
 
         } catch (Exception e) {
-            long endTime = System.currentTimeMillis();
-            log.error("API 호출 실패: 로그 파일 파싱 ({}ms) - {}", endTime - startTime, e.getMessage());
+            log.error("API 호출 실패: 로그 파일 파싱 - {}", e.getMessage());
             throw new IOException("로그 파일 파싱 중 오류 발생: " + e.getMessage(), e);
         }
     }
@@ -135,7 +138,6 @@ public class LogAnalysisService {
             LocalDate periodEnd,
             long fileSize
     ) {
-        long startTime = System.currentTimeMillis();
         log.info("API 호출 시작: 이상 징후 탐지");
 
         try {
@@ -186,8 +188,7 @@ public class LogAnalysisService {
             return AnomalyType.NORMAL;
 
         } finally {
-            long endTime = System.currentTimeMillis();
-            log.info("API 호출 완료: 이상 징후 탐지 ({}ms)", endTime - startTime);
+            log.info("API 호출 완료: 이상 징후 탐지");
         }
     }
 
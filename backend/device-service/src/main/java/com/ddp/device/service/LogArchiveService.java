@@ -0,0 +1,448 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.DrivingLog;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 운행기록 로그 아카이브 서비스
+ * 보관 기간이 지난 로그 파일을 월별·장치별 압축 번들로 옮기고
+ * MongoDB 문서는 조회용 필드만 남긴 경량 문서(stub)로 전환
+ * - 상세 텍스트(이상 징후 상세, 검토 메모)는 번들의 {logId}.json 항목으로 옮기고 상세 조회 시 복원
+ * - 분석 결과는 통계로부터 재생성하므로 보관하지 않음
+ * - 배치마다 번들 파일을 새로 한 번만 기록 (기존 번들을 다시 쓰지 않음)
+ * - (제출일시, ID) 키셋으로 진행하여 실패 건이 있어도 같은 배치를 반복하지 않음
+ * - 여러 인스턴스 중 잠금을 점유한 한 곳에서만 실행
+ * 아카이브된 파일은 다운로드 시 번들에서 꺼내 임시 디렉토리에 복원 (일정 시간 후 정리)
+ * 원본 파일을 삭제하는 작업이므로 기본 비활성화 (log.archive.enabled)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogArchiveService {
+
+    private static final DateTimeFormatter MONTH_DIR = DateTimeFormatter.ofPattern("yyyy/MM");
+    private static final String LOCK_NAME = "log-archive";
+    private static final String DETAILS_SUFFIX = ".json";
+
+    private final MongoTemplate mongoTemplate;
+    private final FileStorageService fileStorageService;
+    private final SchedulerLockService schedulerLockService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${log.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${log.archive.age-days:365}")
+    private int ageDays;
+
+    @Value("${log.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${log.archive.dir:./uploads/archive}")
+    private String archiveDir;
+
+    @Value("${log.archive.rehydrate-dir:./uploads/rehydrated}")
+    private String rehydrateDir;
+
+    @Value("${log.archive.rehydrate-ttl-minutes:60}")
+    private long rehydrateTtlMinutes;
+
+    @Value("${log.archive.lock-lease-minutes:30}")
+    private long lockLeaseMinutes;
+
+    /**
+     * 보관 기간 경과 로그 아카이브 (매일 새벽 실행)
+     */
+    @Scheduled(cron = "${log.archive.cron:0 30 3 * * *}")
+    public void archiveAgedLogs() {
+        if (!enabled) {
+            return;
+        }
+
+        Duration lease = Duration.ofMinutes(lockLeaseMinutes);
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, lease)) {
+            log.info("로그 아카이브 건너뜀: 다른 인스턴스에서 실행 중");
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(ageDays);
+        log.info("로그 아카이브 시작: 기준일 {} 이전", cutoff.toLocalDate());
+
+        int archived = 0;
+        try {
+            DrivingLog last = null;
+            List<DrivingLog> batch;
+            do {
+                batch = findArchiveCandidates(cutoff, last);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                archived += archiveBatch(batch);
+                last = batch.get(batch.size() - 1);
+
+                // 배치마다 잠금 연장 (점유를 잃었으면 중단)
+                if (!schedulerLockService.tryAcquire(LOCK_NAME, lease)) {
+                    log.warn("로그 아카이브 중단: 작업 잠금 만료");
+                    break;
+                }
+            } while (batch.size() == batchSize);
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+
+        log.info("로그 아카이브 완료: {}건", archived);
+    }
+
+    /**
+     * 로그 파일 로드 (아카이브된 경우 번들에서 복원)
+     * @param drivingLog 로그 문서
+     * @return 파일 Resource
+     * @throws IOException 파일을 찾을 수 없거나 읽을 수 없는 경우
+     */
+    public Resource loadLogFile(DrivingLog drivingLog) throws IOException {
+        if (!Boolean.TRUE.equals(drivingLog.getArchived())) {
+            return fileStorageService.loadFileAsResource(drivingLog.getFilePath());
+        }
+        return new UrlResource(rehydrate(drivingLog).toUri());
+    }
+
+    /**
+     * 아카이브된 로그 파일 복원
+     * 이미 복원된 파일이 있으면 재사용
+     * @param drivingLog 로그 문서
+     * @return 복원된 파일 경로
+     */
+    public Path rehydrate(DrivingLog drivingLog) throws IOException {
+        Path target = Paths.get(rehydrateDir, drivingLog.getLogId());
+        if (Files.exists(target)) {
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return target;
+        }
+
+        Path bundle = Paths.get(archiveDir).resolve(drivingLog.getArchivePath()).normalize();
+        if (!Files.exists(bundle)) {
+            throw new IOException("아카이브 번들을 찾을 수 없습니다: " + drivingLog.getArchivePath());
+        }
+
+        Files.createDirectories(target.getParent());
+
+        try (ZipFile zipFile = new ZipFile(bundle.toFile())) {
+            ZipEntry entry = zipFile.getEntry(drivingLog.getLogId());
+            if (entry == null) {
+                throw new IOException("아카이브 번들에 로그가 없습니다: " + drivingLog.getLogId());
+            }
+
+            Path temp = Files.createTempFile(target.getParent(), drivingLog.getLogId(), ".tmp");
+            try (InputStream in = zipFile.getInputStream(entry)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        log.info("아카이브 로그 복원: logId={}", drivingLog.getLogId());
+        return target;
+    }
+
+    /**
+     * 아카이브된 로그의 상세 필드 복원 (번들의 {logId}.json 항목)
+     * @param drivingLog 로그 문서
+     * @return 필드명 → 값 (아카이브되지 않았거나 읽을 수 없으면 빈 Map)
+     */
+    public Map<String, String> loadArchivedDetails(DrivingLog drivingLog) {
+        if (!Boolean.TRUE.equals(drivingLog.getArchived()) || drivingLog.getArchivePath() == null) {
+            return Map.of();
+        }
+
+        Path bundle = Paths.get(archiveDir).resolve(drivingLog.getArchivePath()).normalize();
+        try (ZipFile zipFile = new ZipFile(bundle.toFile())) {
+            ZipEntry entry = zipFile.getEntry(drivingLog.getLogId() + DETAILS_SUFFIX);
+            if (entry == null) {
+                return Map.of();
+            }
+            try (InputStream in = zipFile.getInputStream(entry)) {
+                return objectMapper.readValue(in, new TypeReference<Map<String, String>>() { });
+            }
+        } catch (IOException e) {
+            log.warn("아카이브 상세 정보 복원 실패: logId={} - {}", drivingLog.getLogId(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 복원 파일 정리 (TTL 경과 파일 삭제)
+     */
+    @Scheduled(fixedDelayString = "${log.archive.rehydrate-cleanup-ms:600000}")
+    public void cleanupRehydratedFiles() {
+        Path dir = Paths.get(rehydrateDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        Instant expiry = Instant.now().minus(Duration.ofMinutes(rehydrateTtlMinutes));
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(file -> isOlderThan(file, expiry)).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("복원 파일 삭제 실패: {}", file);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("복원 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 아카이브 대상 조회 (이전 배치의 마지막 로그 이후부터)
+     * 처리하지 못한 로그가 남아 있어도 다음 배치로 넘어가므로 같은 배치를 반복 조회하지 않음
+     */
+    private List<DrivingLog> findArchiveCandidates(LocalDateTime cutoff, DrivingLog last) {
+        Criteria criteria = Criteria.where("submitDate").lt(cutoff)
+                .and("archived").ne(true)
+                .and("archiveError").exists(false);
+        if (last != null) {
+            criteria.orOperator(
+                    Criteria.where("submitDate").gt(last.getSubmitDate()),
+                    Criteria.where("submitDate").is(last.getSubmitDate()).and("_id").gt(idValue(last.getLogId())));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "submitDate", "_id"))
+                .limit(batchSize);
+        query.fields().include("deviceId", "submitDate", "filePath", "anomalyDetails", "reviewNotes");
+        return mongoTemplate.find(query, DrivingLog.class);
+    }
+
+    /**
+     * 배치 아카이브: 번들 기록 → 문서 stub 전환 → 원본 파일 삭제 순서로 처리
+     * 문서 반영이 일부만 성공하면 반영된 로그는 아카이브 완료로 처리하고, 반영된 로그가 없는 번들만 삭제
+     * (반영되지 않은 로그는 원본 파일이 남아 다음 실행에서 새 번들로 다시 처리)
+     * 원본 파일이 없는 로그는 사유를 기록하여 이후 대상에서 제외
+     */
+    private int archiveBatch(List<DrivingLog> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 월별·장치별 번들 그룹핑 (배치마다 새 번들 파일)
+        String batchId = Long.toString(System.currentTimeMillis(), 36);
+        Map<String, List<DrivingLog>> bundles = batch.stream().collect(Collectors.groupingBy(
+                drivingLog -> bundlePath(drivingLog, batchId), LinkedHashMap::new, Collectors.toList()));
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DrivingLog.class);
+        List<DrivingLog> archivedLogs = new ArrayList<>();
+        List<String> writtenBundles = new ArrayList<>();
+        boolean hasUpdates = false;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Map.Entry<String, List<DrivingLog>> bundle : bundles.entrySet()) {
+            List<DrivingLog> missing = new ArrayList<>();
+            try {
+                List<DrivingLog> written = writeBundle(bundle.getKey(), bundle.getValue(), missing);
+                if (!written.isEmpty()) {
+                    writtenBundles.add(bundle.getKey());
+                }
+                for (DrivingLog drivingLog : written) {
+                    bulkOps.updateOne(
+                            Query.query(Criteria.where("_id").is(drivingLog.getLogId())),
+                            new Update()
+                                    .set("archived", true)
+                                    .set("archivePath", bundle.getKey())
+                                    .set("archivedAt", now)
+                                    .unset("analysisResult") // 통계로부터 재생성 가능
+                                    .unset("anomalyDetails") // 번들의 상세 항목으로 이동
+                                    .unset("reviewNotes")
+                                    .set("updatedAt", now));
+                }
+                archivedLogs.addAll(written);
+            } catch (IOException e) {
+                // 일시적 오류로 보고 다음 실행에서 다시 처리
+                log.error("아카이브 번들 기록 실패: {} - {}", bundle.getKey(), e.getMessage());
+            }
+
+            for (DrivingLog drivingLog : missing) {
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("_id").is(drivingLog.getLogId())),
+                        new Update().set("archiveError", "원본 파일 없음").set("updatedAt", now));
+            }
+            hasUpdates |= !archivedLogs.isEmpty() || !missing.isEmpty();
+        }
+
+        if (!hasUpdates) {
+            return 0;
+        }
+
+        try {
+            bulkOps.execute();
+        } catch (RuntimeException e) {
+            // UNORDERED 실행이므로 일부 문서는 이미 번들을 가리킬 수 있음
+            log.error("아카이브 문서 반영 실패 - 반영된 문서 확인 후 정리: {}", e.getMessage());
+            cleanUpPartialBatch(archivedLogs, writtenBundles);
+            throw e;
+        }
+        archivedLogs.forEach(drivingLog -> fileStorageService.deleteFile(drivingLog.getFilePath()));
+        return archivedLogs.size();
+    }
+
+    /**
+     * 문서 반영 일부 실패 정리
+     * - 반영된 로그: 번들 유지, 원본 파일 삭제 (아카이브 완료)
+     * - 반영된 로그가 없는 번들: 삭제 (해당 로그는 원본 파일 유지, 다음 실행에서 다시 처리)
+     * 반영 여부를 조회할 수 없으면 번들을 모두 유지 (참조 중인 번들을 지우지 않도록)
+     */
+    private void cleanUpPartialBatch(List<DrivingLog> archivedLogs, List<String> writtenBundles) {
+        if (archivedLogs.isEmpty()) {
+            return;
+        }
+
+        List<DrivingLog> applied;
+        try {
+            Query query = Query.query(Criteria.where("_id")
+                    .in(archivedLogs.stream().map(drivingLog -> idValue(drivingLog.getLogId())).toList())
+                    .and("archived").is(true));
+            query.fields().include("archivePath");
+            applied = mongoTemplate.find(query, DrivingLog.class);
+        } catch (RuntimeException e) {
+            log.error("아카이브 반영 여부 조회 실패 - 번들 유지: {}", e.getMessage());
+            return;
+        }
+
+        Set<String> appliedIds = new HashSet<>();
+        Set<String> referencedBundles = new HashSet<>();
+        applied.forEach(drivingLog -> {
+            appliedIds.add(drivingLog.getLogId());
+            referencedBundles.add(drivingLog.getArchivePath());
+        });
+
+        archivedLogs.stream()
+                .filter(drivingLog -> appliedIds.contains(drivingLog.getLogId()))
+                .forEach(drivingLog -> fileStorageService.deleteFile(drivingLog.getFilePath()));
+        List<String> orphanBundles = writtenBundles.stream()
+                .filter(bundle -> !referencedBundles.contains(bundle))
+                .toList();
+        orphanBundles.forEach(this::deleteBundle);
+
+        log.warn("아카이브 일부 반영: 반영 {}건 / 대상 {}건, 삭제한 번들 {}개",
+                appliedIds.size(), archivedLogs.size(), orphanBundles.size());
+    }
+
+    /**
+     * 번들 파일 기록 (배치별 새 파일로 한 번만 기록)
+     * @param missing 원본 파일이 없는 로그를 담을 목록
+     * @return 번들에 기록된 로그 목록
+     */
+    private List<DrivingLog> writeBundle(String relativeBundlePath, List<DrivingLog> logs,
+                                         List<DrivingLog> missing) throws IOException {
+        Path bundle = Paths.get(archiveDir).resolve(relativeBundlePath).normalize();
+        Files.createDirectories(bundle.getParent());
+
+        List<DrivingLog> written = new ArrayList<>();
+        Path temp = Files.createTempFile(bundle.getParent(), bundle.getFileName().toString(), ".tmp");
+
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(temp))) {
+            for (DrivingLog drivingLog : logs) {
+                Path source = fileStorageService.getFilePath(drivingLog.getFilePath());
+                if (!Files.exists(source)) {
+                    log.warn("아카이브 대상 원본 파일 없음: logId={}, path={}", drivingLog.getLogId(), drivingLog.getFilePath());
+                    missing.add(drivingLog);
+                    continue;
+                }
+                out.putNextEntry(new ZipEntry(drivingLog.getLogId()));
+                Files.copy(source, out);
+                out.closeEntry();
+
+                Map<String, String> details = details(drivingLog);
+                if (!details.isEmpty()) {
+                    out.putNextEntry(new ZipEntry(drivingLog.getLogId() + DETAILS_SUFFIX));
+                    out.write(objectMapper.writeValueAsBytes(details));
+                    out.closeEntry();
+                }
+                written.add(drivingLog);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (written.isEmpty()) {
+            Files.deleteIfExists(temp);
+            return written;
+        }
+        Files.move(temp, bundle, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    private Map<String, String> details(DrivingLog drivingLog) {
+        Map<String, String> details = new LinkedHashMap<>();
+        if (drivingLog.getAnomalyDetails() != null) {
+            details.put("anomalyDetails", drivingLog.getAnomalyDetails());
+        }
+        if (drivingLog.getReviewNotes() != null) {
+            details.put("reviewNotes", drivingLog.getReviewNotes());
+        }
+        return details;
+    }
+
+    private void deleteBundle(String relativeBundlePath) {
+        try {
+            Files.deleteIfExists(Paths.get(archiveDir).resolve(relativeBundlePath).normalize());
+        } catch (IOException e) {
+            log.warn("아카이브 번들 삭제 실패: {}", relativeBundlePath);
+        }
+    }
+
+    private String bundlePath(DrivingLog drivingLog, String batchId) {
+        return drivingLog.getSubmitDate().format(MONTH_DIR)
+                + "/device-" + drivingLog.getDeviceId() + "-" + batchId + ".zip";
+    }
+
+    private Object idValue(String logId) {
+        return ObjectId.isValid(logId) ? new ObjectId(logId) : logId;
+    }
+
+    private boolean isOlderThan(Path file, Instant expiry) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(expiry);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.DrivingLog;
+import com.ddp.device.document.LogStatus;
+import com.ddp.device.document.RiskLevel;
+import com.ddp.device.dto.log.LogDashboardResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 로그 대시보드 서비스
+ * $facet 단일 집계로 대시보드 통계를 계산하고 짧은 TTL로 캐시
+ * (로그 제출/검토 시 캐시 무효화)
+ * 일별 이상 징후 건수는 제출 시 판정(anomalyType != NORMAL) 기준 - 검토 후에도 변하지 않으며
+ * Change Stream 요약(DashboardSummaryStreamService)과 같은 정의
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogDashboardService {
+
+    private static final String DAY_FORMAT = "%Y-%m-%d";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${log.dashboard.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    @Value("${log.dashboard.timezone:Asia/Seoul}")
+    private String timezone;
+
+    // 조회 기간(일) → 캐시된 집계 결과
+    private final Map<Integer, CachedDashboard> cache = new ConcurrentHashMap<>();
+
+    // 캐시 세대 (무효화마다 증가, 무효화 전에 시작된 집계 결과는 이전 세대로 저장되어 사용되지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 대시보드 통계 조회
+     * @param days 일별 추이 조회 기간 (일)
+     * @return 대시보드 통계
+     */
+    public LogDashboardResponse getDashboard(int days) {
+        long currentGeneration = generation.get();
+        CachedDashboard cached = cache.get(days);
+        if (cached != null && cached.generation() == currentGeneration && !cached.isExpired(cacheTtlSeconds)) {
+            log.debug("대시보드 통계 캐시 적중: days={}", days);
+            return cached.response();
+        }
+
+        LogDashboardResponse response = aggregate(days);
+        cache.put(days, new CachedDashboard(response, currentGeneration, System.currentTimeMillis()));
+        return response;
+    }
+
+    /**
+     * 캐시 무효화 (로그 제출/검토 시 호출)
+     */
+    public void evictCache() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * $facet 집계 실행
+     */
+    private LogDashboardResponse aggregate(int days) {
+        log.info("API 호출 시작: 대시보드 통계 집계 - 최근 {}일", days);
+
+        // 집계 기준 시간대의 자정 → 저장 시각(서버 기본 시간대 LocalDateTime)으로 변환
+        ZoneId zone = ZoneId.of(timezone);
+        LocalDateTime since = LocalDate.now(zone).minusDays(days - 1L).atStartOfDay(zone)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.facet(Aggregation.count().as("count")).as("total")
+                        .and(Aggregation.group("riskLevel").count().as("count")).as("byRiskLevel")
+                        .and(Aggregation.group("anomalyType").count().as("count")).as("byAnomalyType")
+                        .and(Aggregation.group("status").count().as("count")).as("byStatus")
+                        .and(
+                                Aggregation.match(Criteria.where("submitDate").gte(since)),
+                                Aggregation.project()
+                                        .and(DateOperators.DateToString.dateOf("submitDate")
+                                                .toString(DAY_FORMAT)
+                                                .withTimezone(DateOperators.Timezone.valueOf(timezone)))
+                                        .as("day")
+                                        .and(ConditionalOperators.when(ComparisonOperators.Ne.valueOf(
+                                                        ConditionalOperators.ifNull("anomalyType").then(AnomalyType.NORMAL.name()))
+                                                        .notEqualToValue(AnomalyType.NORMAL.name()))
+                                                .then(1)
+                                                .otherwise(0))
+                                        .as("flagged"),
+                                Aggregation.group("day")
+                                        .count().as("count")
+                                        .sum("flagged").as("flagged"),
+                                Aggregation.sort(Sort.Direction.ASC, "_id")
+                        ).as("daily")
+        );
+
+        AggregationResults<Document> results =
+                mongoTemplate.aggregate(aggregation, DrivingLog.class, Document.class);
+        Document facets = results.getUniqueMappedResult();
+
+        LogDashboardResponse response = LogDashboardResponse.builder()
+                .totalCount(facets != null ? readTotal(facets) : 0L)
+                .riskLevelCounts(toEnumCounts(facets, "byRiskLevel", RiskLevel.class))
+                .anomalyTypeCounts(toEnumCounts(facets, "byAnomalyType", AnomalyType.class))
+                .statusCounts(toEnumCounts(facets, "byStatus", LogStatus.class))
+                .dailySubmissions(toDailySubmissions(facets))
+                .generatedAt(LocalDateTime.now())
+                .build();
+
+        log.info("API 호출 완료: 대시보드 통계 집계 - 총 {} 건", response.getTotalCount());
+
+        return response;
+    }
+
+    private long readTotal(Document facets) {
+        List<Document> total = facets.getList("total", Document.class);
+        return total == null || total.isEmpty() ? 0L : toLong(total.get(0).get("count"));
+    }
+
+    private <E extends Enum<E>> Map<E, Long> toEnumCounts(Document facets, String facet, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        if (facets == null) {
+            return counts;
+        }
+
+        for (Document bucket : facets.getList(facet, Document.class)) {
+            Object key = bucket.get("_id");
+            if (key != null) {
+                counts.put(Enum.valueOf(type, key.toString()), toLong(bucket.get("count")));
+            }
+        }
+        return counts;
+    }
+
+    private List<LogDashboardResponse.DailySubmission> toDailySubmissions(Document facets) {
+        List<LogDashboardResponse.DailySubmission> daily = new ArrayList<>();
+        if (facets == null) {
+            return daily;
+        }
+
+        for (Document bucket : facets.getList("daily", Document.class)) {
+            daily.add(LogDashboardResponse.DailySubmission.builder()
+                    .date(LocalDate.parse(bucket.getString("_id")))
+                    .submittedCount(toLong(bucket.get("count")))
+                    .flaggedCount(toLong(bucket.get("flagged")))
+                    .build());
+        }
+        return daily;
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * 캐시 항목 (집계 결과 + 생성 시각)
+     */
+    private record CachedDashboard(LogDashboardResponse response, long generation, long createdAtMillis) {
+        boolean isExpired(long ttlSeconds) {
+            return System.currentTimeMillis() - createdAtMillis > ttlSeconds * 1000;
+        }
+    }
+}
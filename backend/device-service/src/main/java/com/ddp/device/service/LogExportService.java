@@ -0,0 +1,212 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.DrivingLog;
+import com.ddp.device.document.LogStatus;
+import com.ddp.device.document.RiskLevel;
+import com.ddp.device.dto.log.LogExportFormat;
+import com.ddp.device.entity.Device;
+import com.ddp.device.repository.jpa.DeviceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 운행기록 로그 내보내기 서비스 (감사/규제 기관 제출용)
+ * MongoDB 커서를 배치 단위로 읽으면서 응답 스트림에 바로 기록하므로
+ * 건수와 무관하게 메모리 사용량이 일정 (느린 클라이언트는 소켓 쓰기에서 자연스럽게 대기)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogExportService {
+
+    private static final String[] COLUMNS = {
+            "logId", "deviceId", "userId", "submitDate", "periodStart", "periodEnd",
+            "status", "anomalyType", "riskLevel", "actionTaken", "reviewedBy", "reviewedAt",
+            "totalTests", "passedTests", "failedTests", "skippedTests", "averageBAC", "maxBAC",
+            "tamperingAttempts", "archived"
+    };
+
+    private final MongoTemplate mongoTemplate;
+    private final DeviceRepository deviceRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${log.export.cursor-batch-size:1000}")
+    private int cursorBatchSize;
+
+    @Value("${log.export.flush-interval:1000}")
+    private int flushInterval;
+
+    @Value("${log.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    // 동시 내보내기 제한 (장시간 커서·스레드 점유 방지)
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 슬롯 확보 (실패 시 IllegalStateException)
+     * 반환된 슬롯은 호출 측에서 닫아야 하며, 여러 번 닫아도 한 번만 반환
+     */
+    public ExportPermit acquire() {
+        if (!permits.tryAcquire()) {
+            throw new IllegalStateException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요");
+        }
+        return new ExportPermit();
+    }
+
+    /**
+     * 내보내기 슬롯 (스트리밍 종료 또는 비동기 요청 완료·타임아웃 중 먼저 도달한 시점에 반환)
+     */
+    public final class ExportPermit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private ExportPermit() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 로그를 스트림에 기록 (acquire로 확보한 슬롯 안에서 호출)
+     * @return 기록한 건수
+     */
+    public long export(LogExportFormat format, LocalDate from, LocalDate to, Long companyId, Long deviceId,
+                       AnomalyType anomalyType, RiskLevel riskLevel, LogStatus status,
+                       OutputStream outputStream) throws IOException {
+        log.info("API 호출 시작: 로그 내보내기 - 형식: {}, 기간: {} ~ {}, 업체 ID: {}, 이상 징후: {}",
+                format, from, to, companyId, anomalyType);
+
+        long count = 0;
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+             Stream<DrivingLog> logs = mongoTemplate.stream(
+                     buildQuery(from, to, companyId, deviceId, anomalyType, riskLevel, status), DrivingLog.class)) {
+
+            CSVPrinter csvPrinter = format == LogExportFormat.CSV
+                    ? new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(COLUMNS).build())
+                    : null;
+
+            for (DrivingLog drivingLog : (Iterable<DrivingLog>) logs::iterator) {
+                Map<String, Object> row = toRow(drivingLog);
+                if (csvPrinter != null) {
+                    csvPrinter.printRecord(row.values());
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                if (++count % flushInterval == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        }
+
+        log.info("API 호출 완료: 로그 내보내기 - {} 건", count);
+        return count;
+    }
+
+    private Query buildQuery(LocalDate from, LocalDate to, Long companyId, Long deviceId,
+                             AnomalyType anomalyType, RiskLevel riskLevel, LogStatus status) {
+        List<Criteria> conditions = new ArrayList<>();
+
+        if (from != null) {
+            conditions.add(Criteria.where("submitDate").gte(from.atStartOfDay()));
+        }
+        if (to != null) {
+            conditions.add(Criteria.where("submitDate").lt(to.plusDays(1).atStartOfDay()));
+        }
+        if (deviceId != null) {
+            conditions.add(Criteria.where("deviceId").is(deviceId));
+        } else if (companyId != null) {
+            // 로그에는 업체 정보가 없으므로 업체 장치 목록으로 변환
+            List<Long> deviceIds = deviceRepository.findByCompanyId(companyId).stream()
+                    .map(Device::getDeviceId)
+                    .toList();
+            conditions.add(Criteria.where("deviceId").in(deviceIds));
+        }
+        if (anomalyType != null) {
+            conditions.add(Criteria.where("anomalyType").is(anomalyType));
+        }
+        if (riskLevel != null) {
+            conditions.add(Criteria.where("riskLevel").is(riskLevel));
+        }
+        if (status != null) {
+            conditions.add(Criteria.where("status").is(status));
+        }
+
+        Criteria criteria = conditions.isEmpty() ? new Criteria() : new Criteria().andOperator(conditions);
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "submitDate"))
+                .cursorBatchSize(cursorBatchSize);
+        // 대용량 텍스트 필드는 제외
+        query.fields().exclude("analysisResult", "anomalyDetails", "reviewNotes");
+        return query;
+    }
+
+    private Map<String, Object> toRow(DrivingLog drivingLog) {
+        DrivingLog.LogStatistics stats = drivingLog.getStatistics();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("logId", drivingLog.getLogId());
+        row.put("deviceId", drivingLog.getDeviceId());
+        row.put("userId", drivingLog.getUserId());
+        row.put("submitDate", toText(drivingLog.getSubmitDate()));
+        row.put("periodStart", toText(drivingLog.getPeriodStart()));
+        row.put("periodEnd", toText(drivingLog.getPeriodEnd()));
+        row.put("status", drivingLog.getStatus());
+        row.put("anomalyType", drivingLog.getAnomalyType());
+        row.put("riskLevel", drivingLog.getRiskLevel());
+        row.put("actionTaken", drivingLog.getActionTaken());
+        row.put("reviewedBy", drivingLog.getReviewedBy());
+        row.put("reviewedAt", toText(drivingLog.getReviewedAt()));
+        row.put("totalTests", stats != null ? stats.getTotalTests() : null);
+        row.put("passedTests", stats != null ? stats.getPassedTests() : null);
+        row.put("failedTests", stats != null ? stats.getFailedTests() : null);
+        row.put("skippedTests", stats != null ? stats.getSkippedTests() : null);
+        row.put("averageBAC", stats != null ? stats.getAverageBAC() : null);
+        row.put("maxBAC", stats != null ? stats.getMaxBAC() : null);
+        row.put("tamperingAttempts", stats != null ? stats.getTamperingAttempts() : null);
+        row.put("archived", Boolean.TRUE.equals(drivingLog.getArchived()));
+        return row;
+    }
+
+    private String toText(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,210 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.DrivingLog;
+import com.ddp.device.document.LogStatus;
+import com.ddp.device.document.RiskLevel;
+import com.ddp.device.dto.log.DrivingLogResponse;
+import com.ddp.device.dto.log.LogSearchResponse;
+import com.ddp.device.entity.Device;
+import com.ddp.device.repository.jpa.DeviceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그 복합 조건 검색 서비스 (관리자 조사용)
+ * - 페이지: 검색 조건 + 커서 조건 + 정렬(submitDate, _id) + limit 단일 조회 (복합 인덱스 범위 스캔)
+ * - 항목별 건수: 첫 페이지에서만 별도 집계 ($match 후 $facet: 위험도 / 이상 징후 / 상태 / 조치 여부 / 전체 건수)
+ *   (다음 페이지 요청마다 조건 전체를 다시 집계하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogSearchService {
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final MongoTemplate mongoTemplate;
+    private final DeviceRepository deviceRepository;
+    private final DrivingLogService drivingLogService;
+
+    /**
+     * 로그 검색
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    public LogSearchResponse search(Long deviceId, Long userId, Long companyId, LocalDate from, LocalDate to,
+                                    RiskLevel riskLevel, AnomalyType anomalyType, LogStatus status,
+                                    Boolean actionTaken, String cursor, int size) {
+        log.info("API 호출 시작: 로그 검색 - 장치: {}, 사용자: {}, 업체: {}, 기간: {} ~ {}, 위험도: {}, 이상 징후: {}, 상태: {}",
+                deviceId, userId, companyId, from, to, riskLevel, anomalyType, status);
+
+        Criteria criteria = buildCriteria(deviceId, userId, companyId, from, to,
+                riskLevel, anomalyType, status, actionTaken);
+
+        Query pageQuery = Query.query(cursor != null ? new Criteria().andOperator(criteria, afterCursor(cursor)) : criteria)
+                .with(Sort.by(Sort.Direction.DESC, "submitDate", "_id"))
+                .limit(size + 1);
+        List<DrivingLog> logs = mongoTemplate.find(pageQuery, DrivingLog.class);
+
+        boolean hasNext = logs.size() > size;
+        if (hasNext) {
+            logs = logs.subList(0, size);
+        }
+        List<DrivingLogResponse> content = logs.stream().map(drivingLogService::toResponse).toList();
+
+        LogSearchResponse.LogSearchResponseBuilder builder = LogSearchResponse.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(logs.get(logs.size() - 1)) : null);
+
+        if (cursor == null) {
+            Document facets = countFacets(criteria);
+            builder.totalCount(readCount(facets, "total"))
+                    .riskLevelCounts(toEnumCounts(facets, "byRiskLevel", RiskLevel.class))
+                    .anomalyTypeCounts(toEnumCounts(facets, "byAnomalyType", AnomalyType.class))
+                    .statusCounts(toEnumCounts(facets, "byStatus", LogStatus.class))
+                    .actionTakenCount(readCount(facets, "actionTaken"));
+        }
+        LogSearchResponse response = builder.build();
+
+        log.info("API 호출 완료: 로그 검색 - 전체 {} 건 중 {} 건", response.getTotalCount(), content.size());
+
+        return response;
+    }
+
+    /**
+     * 검색 조건 전체의 항목별 건수 집계 (정렬 없이 그룹 집계만 수행)
+     */
+    private Document countFacets(Criteria criteria) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.facet(Aggregation.count().as("count")).as("total")
+                        .and(Aggregation.group("riskLevel").count().as("count")).as("byRiskLevel")
+                        .and(Aggregation.group("anomalyType").count().as("count")).as("byAnomalyType")
+                        .and(Aggregation.group("status").count().as("count")).as("byStatus")
+                        .and(Aggregation.match(Criteria.where("actionTaken").is(true)),
+                                Aggregation.count().as("count")).as("actionTaken")
+        );
+        return mongoTemplate.aggregate(aggregation, DrivingLog.class, Document.class).getUniqueMappedResult();
+    }
+
+    private Criteria buildCriteria(Long deviceId, Long userId, Long companyId, LocalDate from, LocalDate to,
+                                   RiskLevel riskLevel, AnomalyType anomalyType, LogStatus status,
+                                   Boolean actionTaken) {
+        List<Criteria> conditions = new ArrayList<>();
+
+        if (deviceId != null) {
+            conditions.add(Criteria.where("deviceId").is(deviceId));
+        }
+        if (userId != null) {
+            conditions.add(Criteria.where("userId").is(userId));
+        }
+        if (companyId != null) {
+            // 로그에는 업체 정보가 없으므로 업체 장치 목록으로 변환
+            List<Long> deviceIds = deviceRepository.findByCompanyId(companyId).stream()
+                    .map(Device::getDeviceId)
+                    .toList();
+            conditions.add(Criteria.where("deviceId").in(deviceIds));
+        }
+        if (from != null) {
+            conditions.add(Criteria.where("submitDate").gte(from.atStartOfDay()));
+        }
+        if (to != null) {
+            conditions.add(Criteria.where("submitDate").lt(to.plusDays(1).atStartOfDay()));
+        }
+        if (riskLevel != null) {
+            conditions.add(Criteria.where("riskLevel").is(riskLevel));
+        }
+        if (anomalyType != null) {
+            conditions.add(Criteria.where("anomalyType").is(anomalyType));
+        }
+        if (status != null) {
+            conditions.add(Criteria.where("status").is(status));
+        }
+        if (actionTaken != null) {
+            // 조치 전 로그는 필드가 없을 수 있으므로 false 조건은 ne(true)로 검색
+            conditions.add(actionTaken
+                    ? Criteria.where("actionTaken").is(true)
+                    : Criteria.where("actionTaken").ne(true));
+        }
+
+        return conditions.isEmpty() ? new Criteria() : new Criteria().andOperator(conditions);
+    }
+
+    /**
+     * 커서 이후 조건: (submitDate, _id) < (커서 제출일시, 커서 ID)
+     */
+    private Criteria afterCursor(String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+
+        int separator = decoded.indexOf(CURSOR_SEPARATOR);
+        if (separator < 0 || !ObjectId.isValid(decoded.substring(separator + 1))) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+
+        LocalDateTime submitDate = LocalDateTime.parse(decoded.substring(0, separator));
+        ObjectId logId = new ObjectId(decoded.substring(separator + 1));
+
+        return new Criteria().orOperator(
+                Criteria.where("submitDate").lt(submitDate),
+                Criteria.where("submitDate").is(submitDate).and("_id").lt(logId));
+    }
+
+    private String encodeCursor(DrivingLog last) {
+        String raw = last.getSubmitDate() + CURSOR_SEPARATOR + last.getLogId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long readCount(Document facets, String facet) {
+        if (facets == null) {
+            return 0L;
+        }
+        List<Document> count = facets.getList(facet, Document.class);
+        return count == null || count.isEmpty() ? 0L : toLong(count.get(0).get("count"));
+    }
+
+    private <E extends Enum<E>> Map<E, Long> toEnumCounts(Document facets, String facet, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        if (facets == null) {
+            return counts;
+        }
+
+        for (Document bucket : facets.getList(facet, Document.class)) {
+            Object key = bucket.get("_id");
+            if (key != null) {
+                counts.put(Enum.valueOf(type, key.toString()), toLong(bucket.get("count")));
+            }
+        }
+        return counts;
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -2,16 +2,25 @@ package com.ddp.device.service;
 
 import com.ddp.device.document.LogSubmissionSchedule;
 import com.ddp.device.document.SubmissionFrequency;
+import com.ddp.device.dto.schedule.BatchDdayRequest;
+import com.ddp.device.repository.jpa.DeviceRepository;
 import com.ddp.device.repository.mongo.LogSubmissionScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 로그 제출 일정 서비스
@@ -23,6 +32,7 @@ import java.util.List;
 public class LogSubmissionScheduleService {
 
     private final LogSubmissionScheduleRepository scheduleRepository;
+    private final DeviceRepository deviceRepository;
 
     /**
      * 사용자별 일정 조회
@@ -198,6 +208,52 @@ public class LogSubmissionScheduleService {
         return ChronoUnit.DAYS.between(today, schedule.getNextDueDate());
     }
 
+    /**
+     * D-day 일괄 계산
+     * 사용자별 개별 조회 대신 $in 단일 쿼리로 다음 제출 기한만 읽어 계산
+     * @param userIds 사용자 ID 목록 (companyId와 둘 중 하나만 지정)
+     * @param companyId 업체 ID (지정 시 해당 업체 장치 사용자 전체, 최대 BatchDdayRequest.MAX_USERS명)
+     * @return 사용자 ID → D-day 맵 (일정이 없으면 null)
+     */
+    public Map<Long, Long> calculateDdays(Collection<Long> userIds, Long companyId) {
+        boolean hasUserIds = userIds != null && !userIds.isEmpty();
+        if (hasUserIds == (companyId != null)) {
+            throw new IllegalArgumentException("userIds와 companyId 중 하나만 지정해야 합니다");
+        }
+
+        Set<Long> targetUserIds = new LinkedHashSet<>();
+        if (hasUserIds) {
+            userIds.stream().filter(Objects::nonNull).forEach(targetUserIds::add);
+        } else {
+            // 한도 + 1명까지만 읽어 초과 여부 판단
+            List<Long> companyUserIds = deviceRepository.findDistinctUserIdsByCompanyId(
+                    companyId, PageRequest.of(0, BatchDdayRequest.MAX_USERS + 1));
+            if (companyUserIds.size() > BatchDdayRequest.MAX_USERS) {
+                throw new IllegalArgumentException("업체 소속 사용자가 " + BatchDdayRequest.MAX_USERS
+                        + "명을 초과합니다. 사용자 ID 목록으로 나눠 조회하세요");
+            }
+            targetUserIds.addAll(companyUserIds);
+        }
+
+        log.info("D-day 일괄 계산: 대상 사용자 {}명, companyId={}", targetUserIds.size(), companyId);
+
+        Map<Long, Long> ddays = new LinkedHashMap<>();
+        if (targetUserIds.isEmpty()) {
+            return ddays;
+        }
+
+        targetUserIds.forEach(userId -> ddays.put(userId, null));
+
+        LocalDate today = LocalDate.now();
+        for (LogSubmissionSchedule schedule : scheduleRepository.findDueDatesByUserIdIn(targetUserIds)) {
+            if (schedule.getNextDueDate() != null) {
+                ddays.put(schedule.getUserId(), ChronoUnit.DAYS.between(today, schedule.getNextDueDate()));
+            }
+        }
+
+        return ddays;
+    }
+
     /**
      * 미제출 횟수가 특정 값 이상인 사용자 조회
      * @param count 미제출 횟수
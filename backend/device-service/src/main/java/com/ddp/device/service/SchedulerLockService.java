@@ -0,0 +1,66 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스케줄 작업 잠금 서비스
+ * MongoDB 문서 upsert로 작업별 잠금을 원자적으로 점유 (만료 전까지 다른 인스턴스는 실행하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+    private final MongoTemplate mongoTemplate;
+
+    // 인스턴스 ID (점유 표시)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 잠금 점유 또는 연장
+     * @param name 작업 이름
+     * @param lease 점유 유지 시간
+     * @return 점유 성공 여부 (다른 인스턴스가 점유 중이면 false)
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("_id").is(name).orOperator(
+                Criteria.where("lockedUntil").lte(now),
+                Criteria.where("owner").is(instanceId)));
+        Update update = new Update()
+                .set("owner", instanceId)
+                .set("lockedAt", now)
+                .set("lockedUntil", now.plus(lease));
+
+        try {
+            mongoTemplate.upsert(query, update, SchedulerLock.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 잠금 문서는 있으나 조건 불일치 → 다른 인스턴스가 점유 중
+            log.debug("작업 잠금 점유 실패 (다른 인스턴스 실행 중): {}", name);
+            return false;
+        }
+    }
+
+    /**
+     * 잠금 해제 (점유 중인 경우에만)
+     */
+    public void release(String name) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(name).and("owner").is(instanceId)),
+                new Update().set("lockedUntil", LocalDateTime.now()),
+                SchedulerLock.class);
+    }
+}
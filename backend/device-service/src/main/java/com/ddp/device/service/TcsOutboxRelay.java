@@ -0,0 +1,242 @@
+package com.ddp.device.service;
+
+import com.ddp.device.client.TcsServiceClient;
+import com.ddp.device.client.dto.TcsLicenseActionRequest;
+import com.ddp.device.client.dto.TcsLicenseActionResponse;
+import com.ddp.device.document.ActionStatus;
+import com.ddp.device.document.AdminAction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * TCS 전송 대기열(outbox) 릴레이
+ * 미연동 면허 관련 조치를 주기적으로 묶어 TCS에 전송
+ * - 일괄 점유(updateMulti): 점유 토큰(인스턴스 ID + 회차) 기록 + 재시도 시각을 점유 만료 시각으로 연장 후 토큰으로 재조회
+ *   (여러 인스턴스가 같은 조치를 동시에 전송하지 않으며, 전송 중 종료되면 만료 후 다른 인스턴스가 이어받음)
+ * - 조치 ID를 멱등성 키로 사용 (재전송 시 중복 처리 없음)
+ * - 청크 단위 병렬 전송 (동시성 제한)
+ * - 실패 시 지수 백오프 재시도, 최대 시도 초과 시 FAILED 처리
+ * - 결과는 bulk update로 일괄 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TcsOutboxRelay {
+
+    private final MongoTemplate mongoTemplate;
+    private final TcsServiceClient tcsServiceClient;
+    private final ThreadPoolTaskExecutor tcsRelayExecutor; // 빈 이름으로 주입 (TcsOutboxConfig)
+
+    @Value("${tcs.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${tcs.outbox.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${tcs.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${tcs.outbox.initial-backoff-seconds:5}")
+    private long initialBackoffSeconds;
+
+    @Value("${tcs.outbox.max-backoff-seconds:1800}")
+    private long maxBackoffSeconds;
+
+    @Value("${tcs.outbox.claim-lease-seconds:120}")
+    private long claimLeaseSeconds;
+
+    // 릴레이 인스턴스 ID (점유 토큰 접두사)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 점유 회차 (relay는 fixedDelay로 한 번에 하나만 실행)
+    private long claimSequence;
+
+    /**
+     * 대기열 전송 (이전 실행 종료 후 일정 간격으로 반복)
+     */
+    @Scheduled(fixedDelayString = "${tcs.outbox.poll-interval-ms:5000}")
+    public void relay() {
+        String claimToken = instanceId + ":" + (++claimSequence);
+        List<AdminAction> pending = claimBatch(claimToken);
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        log.info("TCS 전송 시작: {}건", pending.size());
+
+        List<CompletableFuture<ChunkResult>> futures = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<AdminAction> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> send(chunk), tcsRelayExecutor));
+        }
+
+        List<ChunkResult> results = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        int synced = applyResults(results, claimToken);
+
+        log.info("TCS 전송 완료: 성공 {}건, 실패 {}건", synced, pending.size() - synced);
+    }
+
+    /**
+     * 전송 대상 점유
+     * 연동 대기(IN_PROGRESS) 중이며 재시도 시각이 도래한 조치를 오래된 순으로 골라 한 번의 updateMulti로 점유
+     * - 후보 조회와 점유 사이에 다른 인스턴스가 먼저 점유한 조치는 재시도 시각이 미래로 바뀌어 조건에서 빠짐
+     *   (문서 단위 갱신은 원자적이므로 같은 조치를 두 인스턴스가 점유하지 않음)
+     * - 실제 점유한 조치만 점유 토큰으로 재조회
+     * @param claimToken 이번 회차 점유 토큰
+     */
+    private List<AdminAction> claimBatch(String claimToken) {
+        LocalDateTime now = LocalDateTime.now();
+        Criteria due = Criteria.where("tcsSynced").is(false)
+                .and("status").is(ActionStatus.IN_PROGRESS)
+                .and("tcsNextAttemptAt").lte(now)
+                .and("actionType").in(AdminActionService.LICENSE_ACTION_TYPES);
+
+        Query candidates = Query.query(due)
+                .with(Sort.by("tcsNextAttemptAt"))
+                .limit(batchSize);
+        candidates.fields().include("_id");
+        List<String> candidateIds = mongoTemplate.find(candidates, AdminAction.class).stream()
+                .map(AdminAction::getActionId)
+                .collect(Collectors.toList());
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        Query claimable = Query.query(Criteria.where("_id").in(candidateIds)
+                .andOperator(due));
+        Update claim = new Update()
+                .set("tcsClaimedBy", claimToken)
+                .set("tcsNextAttemptAt", now.plusSeconds(claimLeaseSeconds));
+        long claimedCount = mongoTemplate.updateMulti(claimable, claim, AdminAction.class).getModifiedCount();
+        if (claimedCount == 0) {
+            return List.of();
+        }
+
+        Query claimed = Query.query(Criteria.where("_id").in(candidateIds)
+                        .and("tcsClaimedBy").is(claimToken))
+                .with(Sort.by("tcsNextAttemptAt"));
+        return mongoTemplate.find(claimed, AdminAction.class);
+    }
+
+    /**
+     * 청크 전송 (예외는 청크 전체 실패로 처리)
+     */
+    private ChunkResult send(List<AdminAction> chunk) {
+        TcsLicenseActionRequest request = TcsLicenseActionRequest.builder()
+                .actions(chunk.stream()
+                        .map(action -> TcsLicenseActionRequest.LicenseAction.builder()
+                                .idempotencyKey(action.getActionId())
+                                .userId(action.getUserId())
+                                .actionType(action.getActionType().name())
+                                .actionDetail(action.getActionDetail())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+
+        try {
+            TcsLicenseActionResponse response = tcsServiceClient.processLicenseActions(request);
+            Map<String, TcsLicenseActionResponse.Result> byKey = response != null && response.getResults() != null
+                    ? response.getResults().stream().collect(Collectors.toMap(
+                            TcsLicenseActionResponse.Result::getIdempotencyKey, Function.identity(), (a, b) -> a))
+                    : Map.of();
+            return new ChunkResult(chunk, byKey, null);
+        } catch (Exception e) {
+            log.warn("TCS 전송 실패: {}건 - {}", chunk.size(), e.getMessage());
+            return new ChunkResult(chunk, Map.of(), e.getMessage());
+        }
+    }
+
+    /**
+     * 전송 결과 일괄 반영
+     * @param claimToken 점유 토큰 (점유가 만료되어 다른 인스턴스가 가져간 조치는 갱신하지 않음)
+     * @return 연동 완료 건수
+     */
+    private int applyResults(List<ChunkResult> results, String claimToken) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AdminAction.class);
+        LocalDateTime now = LocalDateTime.now();
+        int synced = 0;
+
+        for (ChunkResult result : results) {
+            for (AdminAction action : result.actions()) {
+                TcsLicenseActionResponse.Result itemResult = result.results().get(action.getActionId());
+                // 점유가 만료되어 다른 인스턴스가 가져간 조치는 갱신하지 않음
+                Query query = Query.query(Criteria.where("_id").is(action.getActionId())
+                        .and("tcsSynced").is(false)
+                        .and("tcsClaimedBy").is(claimToken));
+
+                if (itemResult != null && itemResult.isSuccess()) {
+                    bulkOps.updateOne(query, new Update()
+                            .set("tcsSynced", true)
+                            .set("tcsSyncedAt", now)
+                            .set("tcsResponse", itemResult.getMessage())
+                            .set("status", ActionStatus.COMPLETED)
+                            .set("completedAt", now)
+                            .set("updatedAt", now)
+                            .unset("tcsClaimedBy")
+                            .inc("tcsAttempts", 1));
+                    synced++;
+                    continue;
+                }
+
+                String error = result.error() != null ? result.error()
+                        : itemResult != null ? itemResult.getMessage() : "TCS 응답 누락";
+                bulkOps.updateOne(query, failureUpdate(action, error, now));
+            }
+        }
+
+        bulkOps.execute();
+        return synced;
+    }
+
+    /**
+     * 실패 반영: 시도 횟수 증가 + 지수 백오프, 최대 시도 초과 시 FAILED
+     */
+    private Update failureUpdate(AdminAction action, String error, LocalDateTime now) {
+        int attempts = (action.getTcsAttempts() != null ? action.getTcsAttempts() : 0) + 1;
+        Update update = new Update()
+                .set("tcsAttempts", attempts)
+                .set("tcsResponse", "TCS 연동 실패: " + error)
+                .set("updatedAt", now)
+                .unset("tcsClaimedBy");
+
+        if (attempts >= maxAttempts) {
+            log.error("TCS 연동 최종 실패: actionId={}, 시도 {}회", action.getActionId(), attempts);
+            return update.set("status", ActionStatus.FAILED);
+        }
+
+        long backoffSeconds = Math.min(initialBackoffSeconds << Math.min(attempts - 1, 20), maxBackoffSeconds);
+        return update.set("tcsNextAttemptAt", now.plus(Duration.ofSeconds(backoffSeconds)));
+    }
+
+    /**
+     * 청크 전송 결과
+     */
+    private record ChunkResult(List<AdminAction> actions,
+                               Map<String, TcsLicenseActionResponse.Result> results,
+                               String error) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.ddp.device.service;
+
+import com.ddp.device.document.AdminAction;
+import com.ddp.device.document.UserActionCounter;
+import com.ddp.device.dto.action.AdminActionEvent;
+import com.ddp.device.repository.mongo.AdminActionRepository;
+import com.ddp.device.repository.mongo.UserActionCounterRepository;
+import com.ddp.device.sse.SseFanoutHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 조치 알림 서비스
+ * - 사용자별 미확인 조치 카운터 관리 (조치 생성/확인 시 원자적 증감)
+ * - 카운터가 없는 사용자는 조치 저장/확인 전에 먼저 집계 후 생성 (prepareCounter)
+ *   조치 변경은 항상 카운터 생성 후에 일어나므로, 변경된 조치를 본 집계는 이미 생성된 카운터를 덮어쓰지 못함
+ *   ($setOnInsert) → 변경분은 증감으로 정확히 한 번만 반영
+ * - 신규 조치 SSE 실시간 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserActionNotificationService {
+
+    private static final String EVENT_NAME = "admin-action";
+
+    private final MongoTemplate mongoTemplate;
+    private final UserActionCounterRepository counterRepository;
+    private final AdminActionRepository adminActionRepository;
+    private final SseFanoutHub<Long> adminActionHub;
+
+    /**
+     * 사용자 조치 알림 구독
+     * @param userId 사용자 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long userId) {
+        return adminActionHub.subscribe(userId);
+    }
+
+    /**
+     * 미확인 조치 건수 조회
+     * 카운터 문서만 조회하며, 카운터가 없는 기존 사용자만 최초 1회 집계 후 생성
+     * @param userId 사용자 ID
+     * @return 미확인 조치 건수
+     */
+    public long getUnreadCount(Long userId) {
+        return counterRepository.findById(userId)
+                .map(UserActionCounter::getUnreadCount)
+                .orElseGet(() -> initializeCounter(userId));
+    }
+
+    /**
+     * 조치 저장/확인 전 카운터 준비 (없으면 현재 미확인 건수로 생성)
+     * @param userId 사용자 ID
+     */
+    public void prepareCounter(Long userId) {
+        if (!counterRepository.existsById(userId)) {
+            initializeCounter(userId);
+        }
+    }
+
+    /**
+     * 신규 조치 반영: 미확인 건수 증가 후 구독 중인 사용자에게 전송
+     * @param action 생성된 조치
+     */
+    public void onActionCreated(AdminAction action) {
+        long unreadCount = Boolean.TRUE.equals(action.getIsRead())
+                ? getUnreadCount(action.getUserId())
+                : incrementUnread(action.getUserId());
+
+        adminActionHub.publish(action.getUserId(), EVENT_NAME, AdminActionEvent.from(action, unreadCount));
+        log.debug("조치 알림 전송: userId={}, actionId={}, unreadCount={}",
+                action.getUserId(), action.getActionId(), unreadCount);
+    }
+
+    /**
+     * 조치 확인 반영: 미확인 건수 감소 (0 미만으로 내려가지 않음)
+     * @param userId 사용자 ID
+     */
+    public void onActionRead(Long userId) {
+        UserActionCounter counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(userId).and("unreadCount").gt(0)),
+                new Update().inc("unreadCount", -1).set("updatedAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                UserActionCounter.class);
+
+        if (counter == null) {
+            log.debug("미확인 조치 카운터 감소 대상 없음: userId={}", userId);
+        }
+    }
+
+    // 카운터는 조치 저장 전에 준비됨 (prepareCounter)
+    private long incrementUnread(Long userId) {
+        UserActionCounter counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("unreadCount", 1).set("updatedAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                UserActionCounter.class);
+
+        return counter != null && counter.getUnreadCount() != null ? counter.getUnreadCount() : 0L;
+    }
+
+    private long initializeCounter(Long userId) {
+        long unreadCount = adminActionRepository.countByUserIdAndIsReadFalse(userId);
+
+        // 동시 초기화 시 먼저 생성된 카운터를 유지
+        UserActionCounter counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(userId)),
+                new Update()
+                        .setOnInsert("unreadCount", unreadCount)
+                        .setOnInsert("updatedAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                UserActionCounter.class);
+
+        log.info("미확인 조치 카운터 초기화: userId={}, unreadCount={}", userId, unreadCount);
+        return counter != null && counter.getUnreadCount() != null ? counter.getUnreadCount() : unreadCount;
+    }
+}
@@ -0,0 +1,256 @@
+package com.ddp.device.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 팬아웃 허브
+ * 구독 키(전체 채널, 사용자 ID 등)별로 SSE 연결을 보관하고 이벤트를 전파
+ * - 연결별 버퍼 크기 제한 (가득 차면 전송이 밀린 느린 연결로 보고 연결 종료, 클라이언트가 재연결)
+ * - 유휴 연결은 스레드를 점유하지 않으며, 전송은 공용 디스패처 스레드에서 수행
+ * - 한 번의 전송 작업은 최대 bufferSize건까지만 보내고 양보하여 연결 간 공정하게 처리
+ * - 전송이 sendTimeout 이상 멈춘 연결은 하트비트 시점에 종료
+ * - 연결 종료(completeWithError)는 별도 closer 스레드에서 수행
+ *   (SseEmitter는 전송 중 잠금을 잡고 있어, 멈춘 연결을 호출 스레드에서 종료하면 공용 스케줄러/발행 스레드가 함께 멈춤)
+ * @param <K> 구독 키 타입
+ */
+@Slf4j
+public class SseFanoutHub<K> {
+
+    private final String name;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final long sendTimeoutNanos;
+    private final Executor dispatcher;
+    private final Executor closer;
+
+    private final Map<K, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public SseFanoutHub(String name, int bufferSize, long timeoutMillis, int maxSubscribers,
+                        long sendTimeoutMillis, Executor dispatcher, Executor closer) {
+        this.name = name;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.dispatcher = dispatcher;
+        this.closer = closer;
+    }
+
+    /**
+     * 구독 등록
+     * @param key 구독 키
+     * @return SSE 연결
+     * @throws IllegalStateException 최대 연결 수 초과 시
+     */
+    public SseEmitter subscribe(K key) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("SSE 최대 연결 수를 초과했습니다: " + name);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(key, emitter);
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        log.debug("SSE 구독 등록: hub={}, key={}, 연결 수={}", name, key, subscriberCount.get());
+
+        // 연결 직후 프록시 버퍼링을 풀기 위한 초기 이벤트
+        subscriber.enqueue(SseEmitter.event().name("connected").data(name));
+        return emitter;
+    }
+
+    /**
+     * 특정 키의 구독자에게 이벤트 전송
+     */
+    public void publish(K key, String eventName, Object payload) {
+        Set<Subscriber> targets = subscribers.get(key);
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            subscriber.enqueue(SseEmitter.event().name(eventName).data(payload));
+        }
+    }
+
+    /**
+     * 전체 구독자에게 이벤트 전송
+     */
+    public void broadcast(String eventName, Object payload) {
+        subscribers.keySet().forEach(key -> publish(key, eventName, payload));
+    }
+
+    /**
+     * 하트비트 전송 (SSE 주석 이벤트)
+     * 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주기적으로 호출
+     * 전송이 멈춘 연결은 이 시점에 종료
+     */
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                if (subscriber.isStalled(now)) {
+                    subscriber.close("전송 지연");
+                    continue;
+                }
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    /**
+     * 현재 연결 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscriberCount.decrementAndGet();
+        log.debug("SSE 구독 해제: hub={}, key={}, 연결 수={}", name, subscriber.key, subscriberCount.get());
+    }
+
+    /**
+     * 구독자 (연결별 제한 버퍼)
+     */
+    private final class Subscriber {
+        private final K key;
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private volatile long sendStartedNanos; // 진행 중인 전송 시작 시각 (0이면 전송 중 아님)
+
+        private Subscriber(K key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            boolean overflow;
+            synchronized (buffer) {
+                overflow = buffer.size() >= bufferSize;
+                if (!overflow) {
+                    buffer.addLast(event);
+                }
+            }
+            if (overflow) {
+                // 느린 구독자: 디스패처를 계속 점유하지 않도록 연결 종료 (클라이언트 재연결 시 최신 상태부터 수신)
+                close("버퍼 초과");
+                return;
+            }
+            scheduleDrain();
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = sendStartedNanos;
+            return startedAt != 0 && now - startedAt > sendTimeoutNanos;
+        }
+
+        void close(String reason) {
+            if (closed.get()) {
+                return;
+            }
+            log.warn("SSE 느린 연결 종료: hub={}, key={}, 사유={}", name, key, reason);
+            remove(this);
+            synchronized (buffer) {
+                buffer.clear();
+            }
+            // 호출 스레드(하트비트 스케줄러, 이벤트 발행 스레드)는 목록에서 제거만 하고 바로 반환
+            try {
+                closer.execute(() -> complete(reason));
+            } catch (RejectedExecutionException e) {
+                // closer 포화: 목록에서는 이미 제거됨, 연결은 전송 실패 또는 타임아웃 시 정리
+                log.warn("SSE 연결 종료 작업 거부: hub={}, key={}", name, key);
+            }
+        }
+
+        private void complete(String reason) {
+            try {
+                emitter.completeWithError(new IOException("SSE 연결 종료: " + reason));
+            } catch (IllegalStateException e) {
+                // 이미 완료된 연결
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 디스패처 포화: 다음 이벤트 적재 시 다시 시도
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                int sent = 0;
+                while (sent < bufferSize && !closed.get() && (event = poll()) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    emitter.send(event);
+                    sendStartedNanos = 0;
+                    sent++;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                sendStartedNanos = 0;
+                draining.set(false);
+            }
+
+            // 남은 이벤트 또는 drain 종료 직전에 적재된 이벤트 처리 (다른 연결 뒤로 재등록)
+            if (!closed.get() && hasPending()) {
+                scheduleDrain();
+            }
+        }
+
+        private SseEmitter.SseEventBuilder poll() {
+            synchronized (buffer) {
+                return buffer.pollFirst();
+            }
+        }
+
+        private boolean hasPending() {
+            synchronized (buffer) {
+                return !buffer.isEmpty();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ddp.device.sse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 하트비트 스케줄러
+ * 등록된 모든 허브의 연결에 주기적으로 하트비트 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+    private final List<SseFanoutHub<?>> hubs;
+
+    @Scheduled(fixedDelayString = "${sse.heartbeat-seconds:15}", timeUnit = TimeUnit.SECONDS)
+    public void sendHeartbeats() {
+        for (SseFanoutHub<?> hub : hubs) {
+            if (hub.getSubscriberCount() > 0) {
+                hub.heartbeat();
+                log.debug("SSE 하트비트 전송: hub={}, 연결 수={}", hub.getName(), hub.getSubscriberCount());
+            }
+        }
+    }
+}
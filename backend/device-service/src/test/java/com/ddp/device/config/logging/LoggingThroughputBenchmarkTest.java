@@ -0,0 +1,282 @@
+package com.ddp.device.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.ddp.device.controller.LogController;
+import com.ddp.device.document.AnomalyType;
+import com.ddp.device.document.DrivingLog;
+import com.ddp.device.document.RiskLevel;
+import com.ddp.device.repository.mongo.DrivingLogRepository;
+import com.ddp.device.service.BacDistributionService;
+import com.ddp.device.service.DrivingLogService;
+import com.ddp.device.service.FileStorageService;
+import com.ddp.device.service.FlaggedLogStreamService;
+import com.ddp.device.service.LogAnalysisService;
+import com.ddp.device.service.LogArchiveService;
+import com.ddp.device.service.LogDashboardService;
+import com.ddp.device.service.LogExportService;
+import com.ddp.device.service.LogSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+
+/**
+ * 로그 제출 API 처리량 벤치마크 (POST /api/v1/logs/submit)
+ * 같은 요청 부하에서 로깅 구성만 바꿔 비교
+ * - sync: 콘솔 출력과 같이 이벤트마다 flush하는 동기 출력
+ * - async+sampling: logback-spring.xml 구성 (AsyncAppender neverBlock + "API 호출" 로그 샘플링)
+ * 두 구성 모두 config-repo와 같이 com.ddp 로거는 DEBUG
+ * 요청은 MockMvc로 요청 추적 ID 필터 → 컨트롤러 → 서비스를 그대로 거치고, 저장소/파일 저장/분석은 스텁으로 대체
+ * 결과(requests/s, 기록된 로그 줄 수)는 측정 후 기본 로깅 구성으로 되돌린 뒤 로그로 출력 (테스트 결과 XML의 system-out)
+ * 실행: gradle test -Dbenchmark=true --tests '*LoggingThroughputBenchmarkTest'
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoggingThroughputBenchmarkTest {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%X{requestId:-}] --- [%15.15t] %-40.40logger{39} : %m%n";
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 2_000;
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int MEASURED_ROUNDS = 3;
+
+    private static final byte[] REQUEST_JSON = """
+            {"deviceId":1,"userId":7,"periodStart":"2026-01-01","periodEnd":"2026-01-31"}
+            """.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LOG_FILE = "timestamp,bac,result\n2026-01-01T08:00:00,0.000,PASS\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LogController controller = new LogController(drivingLogService(), stub(LogDashboardService.class),
+                stub(FlaggedLogStreamService.class), stub(LogExportService.class), stub(LogSearchService.class),
+                stub(BacDistributionService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new CorrelationIdFilter())
+                .build();
+    }
+
+    @AfterAll
+    static void restoreLogging() throws Exception {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        new ContextInitializer(context).autoConfig();
+    }
+
+    @Test
+    void submitThroughputWithSyncAndAsyncLogging() throws Exception {
+        Result sync = measure("sync", false);
+        Result async = measure("async+sampling", true);
+
+        restoreLogging();
+        report(sync);
+        report(async);
+
+        // 모든 요청 정상 처리, 샘플링 구성은 반복 성공 로그를 초당 형식별 상한 이내로만 기록
+        assertThat(sync.failedRequests()).isZero();
+        assertThat(async.failedRequests()).isZero();
+        assertThat(async.linesWritten()).isLessThan(sync.linesWritten());
+    }
+
+    private Result measure(String name, boolean asyncWithSampling) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(name, asyncWithSampling, "warmup-" + i);
+        }
+
+        long totalNanos = 0;
+        long failed = 0;
+        long lines = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            Round round = run(name, asyncWithSampling, "round-" + i);
+            totalNanos += round.nanos();
+            failed += round.failedRequests();
+            lines = round.linesWritten();
+        }
+
+        long requests = (long) THREADS * REQUESTS_PER_THREAD * MEASURED_ROUNDS;
+        return new Result(name, requests * 1_000_000_000.0 / totalNanos, failed, lines);
+    }
+
+    private Round run(String name, boolean asyncWithSampling, String round) throws Exception {
+        Path file = tempDir.resolve(name.replace('+', '-') + "-" + round + ".log");
+        LoggerContext context = configureLogging(file, asyncWithSampling);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong failed = new AtomicLong();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    int status = mockMvc.perform(multipart("/api/v1/logs/submit")
+                                    .file(new MockMultipartFile("request", "", "application/json", REQUEST_JSON))
+                                    .file(new MockMultipartFile("file", "log.csv", "text/csv", LOG_FILE)))
+                            .andReturn().getResponse().getStatus();
+                    if (status != 200) {
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long nanos = System.nanoTime() - begin;
+
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        context.reset(); // 출력 종료 (AsyncAppender 큐 비우기)
+
+        return new Round(nanos, failed.get(), countLines(file));
+    }
+
+    /**
+     * 전역 로깅 구성 교체 (컨트롤러/서비스의 로거가 그대로 사용)
+     */
+    private LoggerContext configureLogging(Path file, boolean asyncWithSampling) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(buildAppender(context, file, asyncWithSampling));
+        context.getLogger("com.ddp").setLevel(Level.DEBUG);
+
+        if (asyncWithSampling) {
+            LogSamplingTurboFilter samplingFilter = new LogSamplingTurboFilter();
+            samplingFilter.setContext(context);
+            samplingFilter.start();
+            context.addTurboFilter(samplingFilter);
+        }
+        return context;
+    }
+
+    private Appender<ILoggingEvent> buildAppender(LoggerContext context, Path file, boolean async) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        // 콘솔 출력과 같이 이벤트마다 즉시 flush
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setName("FILE");
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.setImmediateFlush(true);
+        fileAppender.start();
+        if (!async) {
+            return fileAppender;
+        }
+
+        // logback-spring.xml 과 같은 구성
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName("ASYNC_FILE");
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(fileAppender);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+
+    /**
+     * 실제 로그 제출 서비스 (외부 I/O만 스텁)
+     */
+    private DrivingLogService drivingLogService() throws IOException {
+        DrivingLogRepository repository = stub(DrivingLogRepository.class);
+        AtomicLong ids = new AtomicLong();
+        when(repository.save(any(DrivingLog.class))).thenAnswer(invocation -> {
+            DrivingLog drivingLog = invocation.getArgument(0);
+            drivingLog.setLogId(Long.toHexString(ids.incrementAndGet()));
+            return drivingLog;
+        });
+
+        FileStorageService fileStorageService = stub(FileStorageService.class);
+        when(fileStorageService.storeFile(any(), anyLong(), anyLong())).thenReturn("logs/bench.csv");
+
+        LogAnalysisService logAnalysisService = stub(LogAnalysisService.class);
+        when(logAnalysisService.parseLogFile(anyString())).thenReturn(DrivingLog.LogStatistics.builder()
+                .totalTests(1).passedTests(1).failedTests(0).skippedTests(0)
+                .averageBAC(0.0).maxBAC(0.0).tamperingAttempts(0)
+                .build());
+        when(logAnalysisService.detectAnomalies(any(), any(), any(), anyLong())).thenReturn(AnomalyType.NORMAL);
+        when(logAnalysisService.assessRiskLevel(any(), any())).thenReturn(RiskLevel.LOW);
+        when(logAnalysisService.generateAnalysisResult(any(), any())).thenReturn("정상");
+
+        return new DrivingLogService(repository, fileStorageService, logAnalysisService,
+                stub(LogDashboardService.class), stub(FlaggedLogStreamService.class), stub(LogArchiveService.class));
+    }
+
+    // 호출 기록을 남기지 않는 스텁 (여러 스레드의 반복 호출이 측정에 섞이지 않도록)
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private void report(Result result) {
+        log.info("POST /api/v1/logs/submit [{}] {} requests/s, 기록된 로그 {}줄 (스레드 {}개 x {}건 x {}회)",
+                result.name(), String.format("%,.0f", result.requestsPerSecond()), result.linesWritten(),
+                THREADS, REQUESTS_PER_THREAD, MEASURED_ROUNDS);
+    }
+
+    private long countLines(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (var lines = Files.lines(file)) {
+            return lines.count();
+        }
+    }
+
+    private record Round(long nanos, long failedRequests, long linesWritten) {
+    }
+
+    private record Result(String name, double requestsPerSecond, long failedRequests, long linesWritten) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.ddp.device.document;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * BAC 분포 스케치 테스트
+ * 분위수 상대 오차와 병합 결과가 원본 전체로 만든 스케치와 같은지 확인
+ */
+class BacSketchTest {
+
+    private static final double ALPHA = BacSketch.DEFAULT_RELATIVE_ACCURACY;
+    private static final double[] QUANTILES = {0.0, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 1.0};
+
+    @Test
+    void quantilesStayWithinRelativeAccuracy() {
+        List<Double> values = randomBacValues(new Random(42), 20_000);
+        BacSketch sketch = BacSketch.of(values, ALPHA);
+
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+
+        assertThat(sketch.getCount()).isEqualTo(values.size());
+        for (double q : QUANTILES) {
+            double exact = sorted.get((int) Math.floor(q * (sorted.size() - 1)));
+            double estimate = sketch.quantile(q);
+            if (exact < 0.0001) {
+                assertThat(estimate).as("p%s", q * 100).isZero();
+            } else {
+                assertThat(estimate).as("p%s", q * 100).isCloseTo(exact, within(exact * ALPHA));
+            }
+        }
+        assertThat(sketch.getMaxValue()).isEqualTo(sorted.get(sorted.size() - 1));
+    }
+
+    @Test
+    void mergeMatchesSketchOfCombinedValues() {
+        Random random = new Random(7);
+        List<Double> first = randomBacValues(random, 5_000);
+        List<Double> second = randomBacValues(random, 3_000);
+        List<Double> all = new ArrayList<>(first);
+        all.addAll(second);
+
+        BacSketch merged = BacSketch.of(first, ALPHA).merge(BacSketch.of(second, ALPHA));
+        BacSketch combined = BacSketch.of(all, ALPHA);
+
+        assertThat(merged.getCount()).isEqualTo(combined.getCount());
+        assertThat(merged.getZeroCount()).isEqualTo(combined.getZeroCount());
+        assertThat(merged.getMaxValue()).isEqualTo(combined.getMaxValue());
+        assertThat(merged.getBinIndexes()).isEqualTo(combined.getBinIndexes());
+        assertThat(merged.getBinCounts()).isEqualTo(combined.getBinCounts());
+        for (double q : QUANTILES) {
+            assertThat(merged.quantile(q)).isEqualTo(combined.quantile(q));
+        }
+    }
+
+    @Test
+    void mergeIgnoresEmptySketch() {
+        BacSketch sketch = BacSketch.of(List.of(0.02, 0.05, 0.08), ALPHA);
+        BacSketch empty = BacSketch.of(List.of(), ALPHA);
+
+        assertThat(sketch.merge(empty)).isSameAs(sketch);
+        assertThat(empty.merge(sketch)).isSameAs(sketch);
+        assertThat(empty.quantile(0.5)).isNull();
+    }
+
+    @Test
+    void mergeRejectsDifferentAccuracy() {
+        BacSketch sketch = BacSketch.of(List.of(0.02), ALPHA);
+        BacSketch other = BacSketch.of(List.of(0.03), 0.05);
+
+        assertThatThrownBy(() -> sketch.merge(other)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void valuesBelowResolutionCountAsZero() {
+        BacSketch sketch = BacSketch.of(List.of(0.0, 0.00005, 0.0, 0.04), ALPHA);
+
+        assertThat(sketch.getZeroCount()).isEqualTo(3);
+        assertThat(sketch.quantile(0.5)).isZero();
+        assertThat(sketch.quantile(1.0)).isEqualTo(0.04);
+    }
+
+    // 대부분 0(정상 측정), 일부는 0.01 ~ 0.3 사이 로그정규 분포
+    private List<Double> randomBacValues(Random random, int size) {
+        List<Double> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(random.nextDouble() < 0.7
+                    ? 0.0
+                    : Math.min(0.3, Math.exp(-3.5 + random.nextGaussian() * 0.8)));
+        }
+        return values;
+    }
+}
@@ -1,12 +1,17 @@
 package com.ddp.reservation.client;
 
+import com.ddp.reservation.client.dto.UserBatchRequest;
 import com.ddp.reservation.dto.UserDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 // Auth-service Feign Client
-@FeignClient(name = "auth-service")
+@FeignClient(name = "auth-service", fallbackFactory = AuthServiceClientFallbackFactory.class)
 public interface AuthServiceClient {
 
     /**
@@ -15,4 +20,11 @@ public interface AuthServiceClient {
      */
     @GetMapping("/api/v1/users/{id}")
     UserDto getUserById(@PathVariable("id") Long id);
+
+    /**
+     * 사용자 연락처 일괄 조회 (ID, 이름, 전화번호, 주소만 반환, 존재하지 않는 사용자는 결과에서 제외)
+     * POST /internal/users/batch
+     */
+    @PostMapping("/internal/users/batch")
+    List<UserDto> getUsersByIds(@RequestBody UserBatchRequest request);
 }
@@ -0,0 +1,35 @@
+package com.ddp.reservation.client;
+
+import com.ddp.reservation.client.dto.UserBatchRequest;
+import com.ddp.reservation.dto.UserDto;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * auth-service 호출 폴백
+ * - 사용자 일괄 조회(정보 보강용): 호출 차단 시 빈 결과 (사용자 정보 없이 목록 응답, 캐시에 저장되지 않음)
+ * - 그 외: 원래 예외 전달
+ */
+@Component
+public class AuthServiceClientFallbackFactory implements FallbackFactory<AuthServiceClient> {
+
+    @Override
+    public AuthServiceClient create(Throwable cause) {
+        return new AuthServiceClient() {
+            @Override
+            public UserDto getUserById(Long id) {
+                throw FeignFallbacks.propagate("auth-service", cause);
+            }
+
+            @Override
+            public List<UserDto> getUsersByIds(UserBatchRequest request) {
+                if (FeignFallbacks.isRejected(cause)) {
+                    return List.of();
+                }
+                throw FeignFallbacks.propagate("auth-service", cause);
+            }
+        };
+    }
+}
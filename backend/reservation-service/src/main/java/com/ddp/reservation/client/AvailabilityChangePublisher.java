@@ -0,0 +1,94 @@
+package com.ddp.reservation.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업체 예약 시간 변경 이벤트 발행 (다른 reservation-service 인스턴스의 예약 시간 인덱스 무효화)
+ * - Eureka에 등록된 같은 서비스의 다른 인스턴스에 업체 단위 무효화 요청 전송 (자기 자신 제외)
+ * - 전용 스레드에서 비동기 전송, 실패는 경고 로그만 남김 (인덱스 expire-after-load로 최대 불일치 시간 제한)
+ * - 호출 측이 트랜잭션 커밋 후 호출
+ */
+@Slf4j
+@Component
+public class AvailabilityChangePublisher implements DisposableBean {
+
+    private static final String AVAILABILITY_PATH = "/internal/reference-cache/availability/";
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+    private final String serviceId;
+    private final RestTemplate restTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public AvailabilityChangePublisher(
+            DiscoveryClient discoveryClient,
+            ObjectProvider<Registration> registration,
+            CloseableHttpClient httpClient,
+            @Value("${spring.application.name}") String serviceId,
+            @Value("${reference-cache.publish-timeout-ms:2000}") int timeoutMs,
+            @Value("${reference-cache.publish-queue-capacity:1000}") int queueCapacity) {
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+        this.serviceId = serviceId;
+
+        // Feign과 같은 연결 풀 사용 (연결 타임아웃은 풀 설정, 풀 대기/응답 타임아웃만 지정)
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setConnectionRequestTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        // 전송 대기열이 가득 차면 이벤트를 버림 (요청 처리 스레드를 막지 않음)
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "availability-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("예약 시간 변경 이벤트 대기열 초과 - 이벤트 버림"));
+    }
+
+    /**
+     * 업체 예약 시간 변경 알림
+     */
+    public void publishCompanyChanged(Long companyId) {
+        executor.execute(() -> broadcast(AVAILABILITY_PATH + companyId));
+    }
+
+    private void broadcast(String path) {
+        Registration self = registration.getIfAvailable();
+        String selfId = self != null ? self.getInstanceId() : null;
+
+        for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+            if (selfId != null && selfId.equals(instance.getInstanceId())) {
+                continue;
+            }
+            try {
+                restTemplate.delete(instance.getUri() + path);
+            } catch (Exception e) {
+                log.warn("예약 시간 인덱스 무효화 요청 실패 (만료 후 재로드로 반영): {} {} - {}",
+                        instance.getUri(), path, e.getMessage());
+            }
+        }
+        log.debug("예약 시간 변경 이벤트 전송 완료: {}", path);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
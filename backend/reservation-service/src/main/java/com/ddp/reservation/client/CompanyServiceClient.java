@@ -1,5 +1,7 @@
 package com.ddp.reservation.client;
 
+import com.ddp.reservation.client.dto.CompanyBatchRequest;
+import com.ddp.reservation.client.dto.CompanyBatchResponse;
 import com.ddp.reservation.client.dto.CreateServiceRecordRequest;
 import com.ddp.reservation.client.dto.ServiceRecordResponse;
 import com.ddp.reservation.dto.CompanyDto;
@@ -10,7 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
 // Company-service Feign Client
-@FeignClient(name = "company-service")
+@FeignClient(name = "company-service", fallbackFactory = CompanyServiceClientFallbackFactory.class)
 public interface CompanyServiceClient {
 
     /**
@@ -20,6 +22,13 @@ public interface CompanyServiceClient {
     @GetMapping("/api/v1/companies/{id}")
     CompanyDto getCompanyById(@PathVariable("id") Long id);
 
+    /**
+     * 업체 연락처 일괄 조회 (내부 호출 전용, Gateway 미노출)
+     * POST /internal/companies/batch
+     */
+    @PostMapping("/internal/companies/batch")
+    CompanyBatchResponse getCompaniesByIds(@RequestBody CompanyBatchRequest request);
+
     /**
      * 서비스 이력 생성
      * POST /api/v1/company/service-records
@@ -0,0 +1,47 @@
+package com.ddp.reservation.client;
+
+import com.ddp.reservation.client.dto.CompanyBatchRequest;
+import com.ddp.reservation.client.dto.CompanyBatchResponse;
+import com.ddp.reservation.client.dto.CreateServiceRecordRequest;
+import com.ddp.reservation.client.dto.ServiceRecordResponse;
+import com.ddp.reservation.dto.CompanyDto;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * company-service 호출 폴백
+ * - 업체 일괄 조회(정보 보강용): 호출 차단 시 요청한 업체 전부를 조회 실패(failedIds)로 응답
+ * - 서비스 이력 생성: 원래 예외 전달 (후속 처리 릴레이가 재시도)
+ */
+@Component
+public class CompanyServiceClientFallbackFactory implements FallbackFactory<CompanyServiceClient> {
+
+    @Override
+    public CompanyServiceClient create(Throwable cause) {
+        return new CompanyServiceClient() {
+            @Override
+            public CompanyDto getCompanyById(Long id) {
+                throw FeignFallbacks.propagate("company-service", cause);
+            }
+
+            @Override
+            public CompanyBatchResponse getCompaniesByIds(CompanyBatchRequest request) {
+                if (FeignFallbacks.isRejected(cause)) {
+                    return CompanyBatchResponse.builder()
+                            .companies(List.of())
+                            .missingIds(List.of())
+                            .failedIds(List.copyOf(request.getCompanyIds()))
+                            .build();
+                }
+                throw FeignFallbacks.propagate("company-service", cause);
+            }
+
+            @Override
+            public ServiceRecordResponse createServiceRecord(CreateServiceRecordRequest request) {
+                throw FeignFallbacks.propagate("company-service", cause);
+            }
+        };
+    }
+}
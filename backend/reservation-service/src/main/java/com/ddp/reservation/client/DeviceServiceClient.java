@@ -9,7 +9,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 /**
  * Device Service 통신을 위한 Feign Client
  */
-@FeignClient(name = "device-service")
+@FeignClient(name = "device-service", fallbackFactory = DeviceServiceClientFallbackFactory.class)
 public interface DeviceServiceClient {
 
     /**
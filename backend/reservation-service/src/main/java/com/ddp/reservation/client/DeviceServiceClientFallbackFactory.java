@@ -0,0 +1,24 @@
+package com.ddp.reservation.client;
+
+import com.ddp.reservation.client.dto.DeviceResponse;
+import com.ddp.reservation.client.dto.RegisterDeviceRequest;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * device-service 호출 폴백
+ * - 장치 등록: 원래 예외 전달 (후속 처리 릴레이가 재시도)
+ */
+@Component
+public class DeviceServiceClientFallbackFactory implements FallbackFactory<DeviceServiceClient> {
+
+    @Override
+    public DeviceServiceClient create(Throwable cause) {
+        return new DeviceServiceClient() {
+            @Override
+            public DeviceResponse registerDevice(RegisterDeviceRequest request) {
+                throw FeignFallbacks.propagate("device-service", cause);
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.ddp.reservation.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 업체 일괄 조회 요청 DTO (company-service 호출용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyBatchRequest {
+
+    // 조회할 업체 ID 목록 (최대 1000개)
+    private List<Long> companyIds;
+}
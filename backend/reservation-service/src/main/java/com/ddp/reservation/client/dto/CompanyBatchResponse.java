@@ -0,0 +1,29 @@
+package com.ddp.reservation.client.dto;
+
+import com.ddp.reservation.dto.CompanyDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 업체 일괄 조회 응답 DTO (company-service 응답)
+ * 일부 업체가 없거나 조회에 실패해도 나머지 업체는 포함됨
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyBatchResponse {
+
+    // 조회된 업체 목록 (id, 업체명, 전화번호, 주소만 채워짐)
+    private List<CompanyDto> companies;
+
+    // 존재하지 않는 업체 ID
+    private List<Long> missingIds;
+
+    // 조회 중 오류가 발생한 업체 ID
+    private List<Long> failedIds;
+}
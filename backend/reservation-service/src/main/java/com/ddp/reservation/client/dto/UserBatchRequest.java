@@ -0,0 +1,21 @@
+package com.ddp.reservation.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 조회 요청 DTO (auth-service 호출용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBatchRequest {
+
+    // 조회할 사용자 ID 목록 (최대 1000명)
+    private List<Long> userIds;
+}
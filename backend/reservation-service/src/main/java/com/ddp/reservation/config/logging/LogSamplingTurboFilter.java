@@ -0,0 +1,59 @@
+package com.ddp.reservation.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반복 성공 로그 샘플링 (logback TurboFilter)
+ * 지정한 접두어로 시작하는 INFO 로그를 메시지 형식별로 초당 최대 N건만 기록
+ * (WARN/ERROR 및 다른 메시지는 그대로 기록)
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private String prefix = "API 호출";
+    private int maxPerSecond = 20;
+
+    // 메시지 형식(소스 코드 리터럴) → 초 단위 카운터
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level != Level.INFO || format == null || !format.startsWith(prefix) || !logger.isInfoEnabled()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.computeIfAbsent(format, key -> new Window());
+        return window.tryAcquire(System.currentTimeMillis() / 1000, maxPerSecond)
+                ? FilterReply.NEUTRAL
+                : FilterReply.DENY;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
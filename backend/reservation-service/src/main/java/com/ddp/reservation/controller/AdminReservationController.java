@@ -1,15 +1,20 @@
 package com.ddp.reservation.controller;
 
+import com.ddp.reservation.dto.response.ReservationPageResponse;
 import com.ddp.reservation.dto.response.ReservationResponse;
 import com.ddp.reservation.entity.Reservation;
+import com.ddp.reservation.entity.ReservationStatus;
+import com.ddp.reservation.service.AdminReservationQueryService;
 import com.ddp.reservation.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +27,7 @@ import java.util.stream.Collectors;
 public class AdminReservationController {
 
     private final ReservationService reservationService;
+    private final AdminReservationQueryService adminReservationQueryService;
 
     // 전체 예약 목록 조회
     @GetMapping
@@ -54,4 +60,42 @@ public class AdminReservationController {
             return ResponseEntity.status(500).build();
         }
     }
+
+    // 예약 목록 페이지 조회 (키셋 페이지네이션)
+    @GetMapping("/page")
+    @Operation(summary = "예약 목록 페이지 조회",
+            description = "상태/업체/생성일 기간으로 필터링한 예약 목록을 생성 일시 내림차순 키셋 페이지로 조회합니다")
+    public ResponseEntity<ReservationPageResponse> getReservationPage(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-User-Role") String role,
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        log.info("예약 목록 페이지 조회 - 관리자 ID: {}", userId);
+
+        // 권한 검증: ADMIN만 조회 가능
+        if (!"ADMIN".equals(role)) {
+            log.warn("권한 없음 - 예약 목록 조회는 ADMIN 역할만 가능: userId={}, role={}", userId, role);
+            return ResponseEntity.status(403).build();
+        }
+
+        if (size < 1 || size > 200 || (from != null && to != null && from.isAfter(to))) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(adminReservationQueryService.findPage(status, companyId, from, to, cursor, size));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("예약 목록 페이지 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("예약 목록 페이지 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
 }
@@ -4,6 +4,7 @@ import com.ddp.reservation.dto.request.CompleteReservationRequest;
 import com.ddp.reservation.dto.request.RejectReservationRequest;
 import com.ddp.reservation.dto.response.ReservationResponse;
 import com.ddp.reservation.entity.Reservation;
+import com.ddp.reservation.service.IdempotencyService;
 import com.ddp.reservation.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +25,7 @@ import java.util.List;
 public class CompanyReservationController {
 
     private final ReservationService reservationService;
+    private final IdempotencyService idempotencyService;
 
     // 업체의 예약 목록 조회
     @GetMapping
@@ -144,11 +146,12 @@ public class CompanyReservationController {
 
     // 예약 완료
     @PostMapping("/{id}/complete")
-    @Operation(summary = "예약 완료", description = "업체가 서비스 완료 후 예약을 완료 처리합니다 (서비스 타입별 상세 정보 포함)")
+    @Operation(summary = "예약 완료", description = "업체가 서비스 완료 후 예약을 완료 처리합니다 (서비스 타입별 상세 정보 포함, Idempotency-Key 헤더로 재시도 시 중복 처리 방지)")
     public ResponseEntity<ReservationResponse> completeReservation(
             @RequestHeader("X-User-Id") Long userId,
             @RequestHeader("X-User-Role") String role,
             @RequestHeader(value = "X-Company-Id", required = false) Long companyId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable Long id,
             @Valid @RequestBody CompleteReservationRequest request
     ) {
@@ -166,21 +169,24 @@ public class CompanyReservationController {
             return ResponseEntity.status(500).build();
         }
 
-        try {
-            // 예약 완료 (서비스에서 권한 검증 포함, 상세 정보 전달)
-            Reservation reservation = reservationService.completeReservation(id, companyId, request);
-
-            // 응답 변환
-            ReservationResponse response = ReservationResponse.from(reservation);
-
-            return ResponseEntity.ok(response);
-
-        } catch (IllegalArgumentException | IllegalStateException e) {
-            log.error("예약 완료 실패: {}", e.getMessage());
-            return ResponseEntity.badRequest().build();
-        } catch (Exception e) {
-            log.error("예약 완료 실패: {}", e.getMessage(), e);
-            return ResponseEntity.status(500).build();
-        }
+        String scope = "reservation.complete:company:" + companyId + ":reservation:" + id;
+        return idempotencyService.execute(scope, idempotencyKey, request, ReservationResponse.class, () -> {
+            try {
+                // 예약 완료 (서비스에서 권한 검증 포함, 상세 정보 전달)
+                Reservation reservation = reservationService.completeReservation(id, companyId, request);
+
+                // 응답 변환
+                ReservationResponse response = ReservationResponse.from(reservation);
+
+                return ResponseEntity.ok(response);
+
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                log.error("예약 완료 실패: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            } catch (Exception e) {
+                log.error("예약 완료 실패: {}", e.getMessage(), e);
+                return ResponseEntity.status(500).build();
+            }
+        });
     }
 }
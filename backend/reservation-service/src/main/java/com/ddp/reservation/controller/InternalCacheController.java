@@ -0,0 +1,46 @@
+package com.ddp.reservation.controller;
+
+import com.ddp.reservation.service.CompanyAvailabilityIndex;
+import com.ddp.reservation.service.ReferenceDataCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// 참조 정보 캐시 무효화 컨트롤러 (서비스 간 내부 호출 전용, Gateway 미노출)
+@RestController
+@RequestMapping("/internal/reference-cache")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Internal Cache", description = "참조 정보 캐시 무효화 API (내부용)")
+public class InternalCacheController {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final CompanyAvailabilityIndex availabilityIndex;
+
+    // 업체 정보 변경 이벤트 수신
+    @DeleteMapping("/companies/{companyId}")
+    @Operation(summary = "업체 캐시 무효화", description = "company-service가 업체 정보 변경 후 호출합니다")
+    public ResponseEntity<Void> evictCompany(@PathVariable Long companyId) {
+        referenceDataCache.evictCompany(companyId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 사용자 정보 변경 이벤트 수신
+    @DeleteMapping("/users/{userId}")
+    @Operation(summary = "사용자 캐시 무효화", description = "auth-service가 사용자 정보 변경 후 호출합니다")
+    public ResponseEntity<Void> evictUser(@PathVariable Long userId) {
+        referenceDataCache.evictUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 다른 reservation-service 인스턴스의 업체 예약 시간 변경 이벤트 수신
+    @DeleteMapping("/availability/{companyId}")
+    @Operation(summary = "업체 예약 시간 인덱스 무효화", description = "다른 reservation-service 인스턴스가 예약 변경 커밋 후 호출합니다")
+    public ResponseEntity<Void> evictAvailability(@PathVariable Long companyId) {
+        availabilityIndex.evict(companyId);
+        return ResponseEntity.noContent().build();
+    }
+}
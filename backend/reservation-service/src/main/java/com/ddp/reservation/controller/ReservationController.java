@@ -2,18 +2,22 @@ package com.ddp.reservation.controller;
 
 import com.ddp.reservation.dto.request.CancelReservationRequest;
 import com.ddp.reservation.dto.request.CreateReservationRequest;
+import com.ddp.reservation.dto.response.AvailabilityResponse;
 import com.ddp.reservation.dto.response.CancelReservationResponse;
 import com.ddp.reservation.dto.response.ReservationResponse;
 import com.ddp.reservation.entity.Reservation;
+import com.ddp.reservation.service.IdempotencyService;
 import com.ddp.reservation.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 // 예약 컨트롤러 (사용자용)
@@ -25,13 +29,15 @@ import java.util.List;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final IdempotencyService idempotencyService;
 
     // 예약 생성
     @PostMapping
-    @Operation(summary = "예약 생성", description = "사용자가 새로운 예약을 생성합니다")
+    @Operation(summary = "예약 생성", description = "사용자가 새로운 예약을 생성합니다 (Idempotency-Key 헤더로 재시도 시 중복 생성 방지)")
     public ResponseEntity<ReservationResponse> createReservation(
             @RequestHeader("X-User-Id") Long userId,
             @RequestHeader("X-User-Role") String role,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateReservationRequest request
     ) {
         log.info("예약 생성 요청 - 사용자 ID: {}, 역할: {}", userId, role);
@@ -42,19 +48,22 @@ public class ReservationController {
             return ResponseEntity.status(403).build();
         }
 
-        try {
-            // 예약 생성
-            Reservation reservation = reservationService.createReservation(userId, request);
+        return idempotencyService.execute("reservation.create:user:" + userId, idempotencyKey, request,
+                ReservationResponse.class, () -> {
+                    try {
+                        // 예약 생성
+                        Reservation reservation = reservationService.createReservation(userId, request);
 
-            // 응답 변환
-            ReservationResponse response = ReservationResponse.from(reservation);
+                        // 응답 변환
+                        ReservationResponse response = ReservationResponse.from(reservation);
 
-            return ResponseEntity.ok(response);
+                        return ResponseEntity.ok(response);
 
-        } catch (Exception e) {
-            log.error("예약 생성 실패: {}", e.getMessage(), e);
-            return ResponseEntity.status(500).build();
-        }
+                    } catch (Exception e) {
+                        log.error("예약 생성 실패: {}", e.getMessage(), e);
+                        return ResponseEntity.status(500).build();
+                    }
+                });
     }
 
     // 사용자의 예약 목록 조회
@@ -85,6 +94,29 @@ public class ReservationController {
         }
     }
 
+    // 업체 예약 가능 캘린더 조회
+    @GetMapping("/companies/{companyId}/availability")
+    @Operation(summary = "업체 예약 가능 캘린더 조회", description = "업체의 일자별 예약 불가 구간을 조회합니다 (최대 31일)")
+    public ResponseEntity<AvailabilityResponse> getCompanyAvailability(
+            @RequestHeader("X-User-Id") Long userId,
+            @PathVariable Long companyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        log.debug("업체 예약 가능 캘린더 조회 - 업체 ID: {}, 시작일: {}, {}일, 사용자 ID: {}", companyId, from, days, userId);
+
+        try {
+            return ResponseEntity.ok(reservationService.getAvailability(companyId, from, days));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("업체 예약 가능 캘린더 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("업체 예약 가능 캘린더 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     // 예약 상세 조회
     @GetMapping("/{id}")
     @Operation(summary = "예약 상세 조회", description = "예약 ID로 예약 상세 정보를 조회합니다")
@@ -15,7 +15,7 @@ public class UserDto {
     // 사용자 고유 ID
     private String id;
 
-    // 이메일 주소
+    // 이메일 주소 (일괄 조회 응답에는 포함되지 않음)
     private String email;
 
     // 사용자 이름
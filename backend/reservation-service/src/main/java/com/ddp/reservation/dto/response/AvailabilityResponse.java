@@ -0,0 +1,70 @@
+package com.ddp.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 업체 예약 가능 캘린더 응답 DTO
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "업체 예약 가능 캘린더 응답")
+public class AvailabilityResponse {
+
+    // 업체 ID
+    @Schema(description = "업체 ID", example = "1")
+    private Long companyId;
+
+    // 조회 시작일
+    @Schema(description = "조회 시작일", example = "2025-01-20")
+    private LocalDate from;
+
+    // 조회 종료일 (포함)
+    @Schema(description = "조회 종료일 (포함)", example = "2025-01-26")
+    private LocalDate to;
+
+    // 기존 예약 전후로 예약이 불가능한 시간 (시간 단위)
+    @Schema(description = "기존 예약 전후 예약 불가 시간", example = "2")
+    private Integer conflictWindowHours;
+
+    // 일자별 예약 불가 구간
+    @Schema(description = "일자별 예약 불가 구간")
+    private List<DayAvailability> days;
+
+    // 일자별 예약 불가 구간
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DayAvailability {
+
+        // 날짜
+        @Schema(description = "날짜", example = "2025-01-20")
+        private LocalDate date;
+
+        // 예약 불가 구간 목록 (시작 시각 오름차순, 겹치는 구간은 병합)
+        @Schema(description = "예약 불가 구간 목록")
+        private List<BlockedSlot> blocked;
+    }
+
+    // 예약 불가 구간 (시작/종료 시각 모두 예약 불가)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BlockedSlot {
+
+        @Schema(description = "예약 불가 시작 시각", example = "2025-01-20T08:00:00")
+        private LocalDateTime start;
+
+        @Schema(description = "예약 불가 종료 시각", example = "2025-01-20T12:00:00")
+        private LocalDateTime end;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ddp.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 예약 목록 키셋 페이지 응답 DTO
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "예약 목록 키셋 페이지 응답")
+public class ReservationPageResponse {
+
+    // 현재 페이지 예약 (생성 일시 내림차순)
+    @Schema(description = "현재 페이지 예약 목록")
+    private List<ReservationSummary> content;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    @Schema(description = "다음 페이지 커서")
+    private String nextCursor;
+
+    // 다음 페이지 존재 여부
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,47 @@
+package com.ddp.reservation.dto.response;
+
+import com.ddp.reservation.entity.ReservationStatus;
+import com.ddp.reservation.entity.ServiceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 예약 목록 요약 DTO (관리자 목록용 JPQL 생성자 프로젝션, 필드 순서 변경 시 쿼리도 함께 수정)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "예약 목록 요약")
+public class ReservationSummary {
+
+    @Schema(description = "예약 ID", example = "1")
+    private Long reservationId;
+
+    @Schema(description = "사용자 ID", example = "10")
+    private Long userId;
+
+    @Schema(description = "업체 ID", example = "3")
+    private Long companyId;
+
+    @Schema(description = "서비스 타입", example = "INSTALLATION")
+    private ServiceType serviceType;
+
+    @Schema(description = "예약 상태", example = "PENDING")
+    private ReservationStatus status;
+
+    @Schema(description = "희망 예약 일시")
+    private LocalDateTime requestedDate;
+
+    @Schema(description = "확정 일시")
+    private LocalDateTime confirmedDate;
+
+    @Schema(description = "완료 일시")
+    private LocalDateTime completedDate;
+
+    @Schema(description = "생성 일시")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,68 @@
+package com.ddp.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 멱등성 키 처리 결과 엔티티 - 같은 키로 재요청 시 저장된 응답을 그대로 반환 (만료 후 삭제)
+@Entity
+@Table(name = "idempotency_records",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_idempotency_scope_key", columnNames = {"scope", "idempotency_key"})
+        },
+        indexes = {
+                // 만료 레코드 정리
+                @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+        })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IdempotencyRecord {
+
+    // 레코드 ID (Primary Key)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "record_id")
+    private Long recordId;
+
+    // 적용 범위 (작업 + 요청 주체, 예: reservation.create:user:123)
+    @Column(name = "scope", nullable = false, length = 100)
+    private String scope;
+
+    // 클라이언트가 보낸 Idempotency-Key 헤더 값
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    // 요청 본문 해시 (SHA-256, 같은 키로 다른 요청을 보낸 경우 판별)
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // 응답 상태 코드 (null이면 처리 중)
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    // 응답 본문 (JSON)
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    // 생성 일시 (처리 시작 시각)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 만료 일시
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // 처리 완료 여부
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+}
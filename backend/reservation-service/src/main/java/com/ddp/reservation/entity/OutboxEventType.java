@@ -0,0 +1,7 @@
+package com.ddp.reservation.entity;
+
+// 예약 완료 후속 처리 유형 Enum
+public enum OutboxEventType {
+    DEVICE_REGISTRATION,    // 장치 등록 (device-service)
+    SERVICE_RECORD          // 서비스 이력 생성 (company-service)
+}
@@ -0,0 +1,8 @@
+package com.ddp.reservation.entity;
+
+// 후속 처리 대기열 상태 Enum
+public enum OutboxStatus {
+    PENDING,      // 처리 대기 (재시도 포함)
+    COMPLETED,    // 처리 완료
+    FAILED        // 최종 실패 (재시도 불가 또는 최대 시도 초과)
+}
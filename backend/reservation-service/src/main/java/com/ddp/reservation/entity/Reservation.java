@@ -9,7 +9,12 @@ import java.time.LocalDateTime;
 
 // 예약 엔티티
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        // 관리자 목록 키셋 페이지네이션 (생성 일시 내림차순 + 상태/업체 필터)
+        @Index(name = "idx_reservations_created", columnList = "created_at, reservation_id"),
+        @Index(name = "idx_reservations_status_created", columnList = "status, created_at, reservation_id"),
+        @Index(name = "idx_reservations_company_created", columnList = "company_id, created_at, reservation_id")
+})
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,73 @@
+package com.ddp.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 예약 완료 후속 처리 대기열(outbox) 엔티티 - 예약 완료와 같은 트랜잭션에서 저장되고 릴레이가 비동기로 처리
+@Entity
+@Table(name = "reservation_outbox", indexes = {
+        // 릴레이 조회 (상태 + 다음 시도 시각)
+        @Index(name = "idx_reservation_outbox_due", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReservationOutboxEvent {
+
+    // 이벤트 ID (Primary Key)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    // 예약 ID
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    // 처리 유형
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private OutboxEventType eventType;
+
+    // 멱등성 키 (하위 서비스에 전달, 재전송 시 중복 생성 방지)
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
+    private String idempotencyKey;
+
+    // 요청 본문 (JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // 처리 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    // 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 시도 가능 시각 (처리 중에는 점유 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 오류 메시지
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // 생성 일시
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 처리 완료 일시
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
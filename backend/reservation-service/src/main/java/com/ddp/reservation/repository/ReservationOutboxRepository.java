@@ -0,0 +1,32 @@
+package com.ddp.reservation.repository;
+
+import com.ddp.reservation.entity.OutboxStatus;
+import com.ddp.reservation.entity.ReservationOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 예약 완료 후속 처리 대기열 레포지토리
+@Repository
+public interface ReservationOutboxRepository extends JpaRepository<ReservationOutboxEvent, Long> {
+
+    // 처리 시각이 된 대기 이벤트 조회 및 행 잠금 (다른 인스턴스가 잠근 행은 건너뜀: FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM ReservationOutboxEvent e WHERE e.status = :status " +
+           "AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<ReservationOutboxEvent> findDueForUpdate(
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+}
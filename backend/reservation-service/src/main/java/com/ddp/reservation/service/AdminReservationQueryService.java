@@ -0,0 +1,116 @@
+package com.ddp.reservation.service;
+
+import com.ddp.reservation.dto.response.ReservationPageResponse;
+import com.ddp.reservation.dto.response.ReservationSummary;
+import com.ddp.reservation.entity.ReservationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 예약 목록 조회 서비스 (키셋 페이지네이션)
+ * - 정렬: (createdAt, reservationId) 내림차순, 다음 페이지는 마지막 행 기준 키셋 조건으로 조회 (OFFSET 미사용)
+ * - 지정된 필터만 WHERE 절에 포함해 (status|company_id, created_at, reservation_id) 인덱스를 그대로 사용
+ * - 엔티티 대신 JPQL 생성자 프로젝션으로 목록에 필요한 컬럼만 조회 (영속성 컨텍스트 미적재)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminReservationQueryService {
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final EntityManager entityManager;
+
+    /**
+     * 예약 목록 조회
+     * @param from 생성일 시작 (포함, null이면 제한 없음)
+     * @param to 생성일 종료 (포함, null이면 제한 없음)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public ReservationPageResponse findPage(ReservationStatus status, Long companyId,
+                                            LocalDate from, LocalDate to, String cursor, int size) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.ddp.reservation.dto.response.ReservationSummary(" +
+                "r.reservationId, r.userId, r.companyId, r.serviceType, r.status, " +
+                "r.requestedDate, r.confirmedDate, r.completedDate, r.createdAt) " +
+                "FROM Reservation r WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        if (status != null) {
+            jpql.append(" AND r.status = :status");
+            params.put("status", status);
+        }
+        if (companyId != null) {
+            jpql.append(" AND r.companyId = :companyId");
+            params.put("companyId", companyId);
+        }
+        if (from != null) {
+            jpql.append(" AND r.createdAt >= :from");
+            params.put("from", from.atStartOfDay());
+        }
+        if (to != null) {
+            jpql.append(" AND r.createdAt < :to");
+            params.put("to", to.plusDays(1).atStartOfDay());
+        }
+        if (cursor != null) {
+            Object[] key = decodeCursor(cursor);
+            // OR 조건만으로는 인덱스 범위 스캔이 안 될 수 있어 createdAt 상한을 먼저 지정
+            jpql.append(" AND r.createdAt <= :cursorCreatedAt" +
+                    " AND (r.createdAt < :cursorCreatedAt" +
+                    " OR (r.createdAt = :cursorCreatedAt AND r.reservationId < :cursorId))");
+            params.put("cursorCreatedAt", key[0]);
+            params.put("cursorId", key[1]);
+        }
+        jpql.append(" ORDER BY r.createdAt DESC, r.reservationId DESC");
+
+        TypedQuery<ReservationSummary> query = entityManager.createQuery(jpql.toString(), ReservationSummary.class);
+        params.forEach(query::setParameter);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<ReservationSummary> rows = query.setMaxResults(size + 1).getResultList();
+        boolean hasNext = rows.size() > size;
+        List<ReservationSummary> content = hasNext ? rows.subList(0, size) : rows;
+
+        log.debug("관리자 예약 목록 조회 - {} 건, 다음 페이지: {}", content.size(), hasNext);
+
+        return ReservationPageResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? encodeCursor(content.get(content.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Object[] decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new Object[]{
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1))};
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    private String encodeCursor(ReservationSummary last) {
+        String raw = last.getCreatedAt() + CURSOR_SEPARATOR + last.getReservationId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
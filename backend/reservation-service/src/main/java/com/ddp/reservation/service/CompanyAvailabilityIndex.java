@@ -0,0 +1,185 @@
+package com.ddp.reservation.service;
+
+import com.ddp.reservation.client.AvailabilityChangePublisher;
+import com.ddp.reservation.entity.Reservation;
+import com.ddp.reservation.entity.ReservationStatus;
+import com.ddp.reservation.repository.ReservationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 업체별 예약 시간 인덱스 (중복 예약 검증 / 예약 가능 캘린더용)
+ * - 업체 ID → 활성 예약(PENDING, CONFIRMED)의 희망 일시 정렬 맵 (희망 일시 → 예약 ID 목록)
+ * - 최초 조회 시 업체 단위로 DB에서 로드, 이후 생성/확정/거절/취소/완료/삭제 커밋 시 갱신
+ * - 충돌 검사는 정렬 맵 범위 조회(O(log n))로 처리, 검증마다 DB를 조회하지 않음
+ * - 다른 인스턴스의 변경은 커밋 후 무효화 이벤트로 해당 업체 인덱스를 버리고 다음 조회 시 재로드
+ * - 이벤트 유실 시에도 로드 후 expire-after-load-seconds 경과하면 재로드 (최대 불일치 시간)
+ * - 업체 수는 maximum-companies로 제한
+ */
+@Slf4j
+@Component
+public class CompanyAvailabilityIndex {
+
+    // 인덱스 대상 상태 (중복 예약 검증 쿼리와 동일)
+    static final List<ReservationStatus> ACTIVE_STATUSES = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    private final ReservationRepository reservationRepository;
+    private final AvailabilityChangePublisher changePublisher;
+    private final Cache<Long, CompanySchedule> schedules;
+
+    public CompanyAvailabilityIndex(
+            ReservationRepository reservationRepository,
+            AvailabilityChangePublisher changePublisher,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.availability.maximum-companies:5000}") long maximumCompanies,
+            @Value("${reservation.availability.expire-after-load-seconds:60}") long expireSeconds) {
+        this.reservationRepository = reservationRepository;
+        this.changePublisher = changePublisher;
+        this.schedules = Caffeine.newBuilder()
+                .maximumSize(maximumCompanies)
+                // 로드 시점 기준 만료 (커밋 반영 갱신으로 만료 시간이 연장되지 않도록)
+                .expireAfter(Expiry.creating((Long companyId, CompanySchedule schedule) -> Duration.ofSeconds(expireSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, schedules, "reservation.availability");
+    }
+
+    /**
+     * 구간 [from, to] 안에 활성 예약이 있으면 가장 이른 예약 일시 반환
+     */
+    public Optional<LocalDateTime> findConflict(Long companyId, LocalDateTime from, LocalDateTime to) {
+        return schedule(companyId).firstWithin(from, to);
+    }
+
+    /**
+     * 구간 [from, to) 안의 활성 예약 일시 목록 (오름차순, 같은 일시 중복 포함)
+     */
+    public List<LocalDateTime> bookedTimes(Long companyId, LocalDateTime from, LocalDateTime to) {
+        return schedule(companyId).between(from, to);
+    }
+
+    /**
+     * 예약 상태 변경 반영 (트랜잭션 커밋 후 적용)
+     * 활성 상태면 인덱스에 추가, 그 외 상태면 제거
+     */
+    public void update(Reservation reservation) {
+        Long companyId = reservation.getCompanyId();
+        Long reservationId = reservation.getReservationId();
+        LocalDateTime requestedDate = reservation.getRequestedDate();
+        boolean active = ACTIVE_STATUSES.contains(reservation.getStatus());
+
+        runAfterCommit(() -> {
+            apply(companyId, schedule -> {
+                if (active) {
+                    schedule.add(requestedDate, reservationId);
+                } else {
+                    schedule.remove(requestedDate, reservationId);
+                }
+            });
+            changePublisher.publishCompanyChanged(companyId);
+        });
+    }
+
+    /**
+     * 예약 삭제 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void remove(Reservation reservation) {
+        Long companyId = reservation.getCompanyId();
+        Long reservationId = reservation.getReservationId();
+        LocalDateTime requestedDate = reservation.getRequestedDate();
+
+        runAfterCommit(() -> {
+            apply(companyId, schedule -> schedule.remove(requestedDate, reservationId));
+            changePublisher.publishCompanyChanged(companyId);
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 변경 알림 수신 시 업체 인덱스 폐기 (다음 조회 시 DB에서 재로드)
+     */
+    public void evict(Long companyId) {
+        schedules.invalidate(companyId);
+    }
+
+    private CompanySchedule schedule(Long companyId) {
+        return schedules.get(companyId, this::load);
+    }
+
+    // 로드되지 않은 업체는 다음 조회 시 DB에서 최신 상태로 로드되므로 갱신하지 않음
+    // (asMap().computeIfPresent는 같은 업체의 로드가 진행 중이면 완료 후 적용됨)
+    private void apply(Long companyId, Consumer<CompanySchedule> change) {
+        schedules.asMap().computeIfPresent(companyId, (id, schedule) -> {
+            change.accept(schedule);
+            return schedule;
+        });
+    }
+
+    private CompanySchedule load(Long companyId) {
+        List<Reservation> reservations = reservationRepository
+                .findByCompanyIdAndStatusInOrderByCreatedAtDesc(companyId, ACTIVE_STATUSES);
+        CompanySchedule schedule = new CompanySchedule();
+        reservations.forEach(reservation ->
+                schedule.add(reservation.getRequestedDate(), reservation.getReservationId()));
+        log.debug("업체 예약 인덱스 로드 - 업체 ID: {}, 활성 예약 {} 건", companyId, reservations.size());
+        return schedule;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 업체 한 곳의 활성 예약 일시 정렬 맵
+    private static final class CompanySchedule {
+
+        private final NavigableMap<LocalDateTime, Set<Long>> reservationsByTime = new TreeMap<>();
+
+        synchronized void add(LocalDateTime requestedDate, Long reservationId) {
+            reservationsByTime.computeIfAbsent(requestedDate, time -> new HashSet<>()).add(reservationId);
+        }
+
+        synchronized void remove(LocalDateTime requestedDate, Long reservationId) {
+            Set<Long> ids = reservationsByTime.get(requestedDate);
+            if (ids != null && ids.remove(reservationId) && ids.isEmpty()) {
+                reservationsByTime.remove(requestedDate);
+            }
+        }
+
+        synchronized Optional<LocalDateTime> firstWithin(LocalDateTime from, LocalDateTime to) {
+            LocalDateTime first = reservationsByTime.ceilingKey(from);
+            return first != null && !first.isAfter(to) ? Optional.of(first) : Optional.empty();
+        }
+
+        synchronized List<LocalDateTime> between(LocalDateTime from, LocalDateTime to) {
+            return reservationsByTime.subMap(from, true, to, false).entrySet().stream()
+                    .flatMap(entry -> entry.getValue().stream().map(id -> entry.getKey()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ddp.reservation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 업체 단위 예약 생성 직렬화 잠금
+ * - 인스턴스 내부: 업체 ID 해시로 고른 스트라이프 잠금 (서로 다른 업체는 대부분 경합하지 않음)
+ * - 인스턴스 간: PostgreSQL 트랜잭션 범위 advisory lock (pg_advisory_xact_lock)
+ * - 두 잠금 모두 현재 트랜잭션이 끝날 때(커밋/롤백 후) 해제되므로 다음 요청은 커밋된 예약을 보고 검증함
+ * - 반드시 트랜잭션 안에서 호출해야 함
+ */
+@Slf4j
+@Component
+public class CompanyReservationLock {
+
+    // advisory lock 키 공간 (pg_advisory_xact_lock(int, int)의 첫 번째 키, 다른 용도의 잠금과 구분)
+    private static final int ADVISORY_LOCK_NAMESPACE = 0x52535256; // "RSRV"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock[] stripes;
+    private final long waitTimeoutMs;
+    private final boolean advisoryEnabled;
+
+    public CompanyReservationLock(
+            JdbcTemplate jdbcTemplate,
+            @Value("${reservation.lock.stripes:256}") int stripeCount,
+            @Value("${reservation.lock.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${reservation.lock.advisory-enabled:true}") boolean advisoryEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.advisoryEnabled = advisoryEnabled;
+    }
+
+    /**
+     * 인스턴스 간 잠금 사용 여부 (사용 시 호출 측은 잠금 획득 후 DB 기준으로 다시 검증해야 함)
+     */
+    public boolean isAdvisoryEnabled() {
+        return advisoryEnabled;
+    }
+
+    /**
+     * 업체 잠금 획득 (현재 트랜잭션 종료 시 자동 해제)
+     * @throws IllegalStateException 대기 시간 안에 잠금을 얻지 못한 경우
+     */
+    public void lock(Long companyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("업체 예약 잠금은 트랜잭션 안에서만 사용할 수 있습니다");
+        }
+
+        ReentrantLock stripe = stripes[Math.floorMod(companyId.hashCode(), stripes.length)];
+        try {
+            if (!stripe.tryLock(waitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("업체 예약 잠금 대기 시간 초과 - 업체 ID: {}", companyId);
+                throw new IllegalStateException("예약 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("예약 잠금 대기 중 중단되었습니다.", e);
+        }
+
+        // 트랜잭션 완료 후 해제 (커밋 후 처리(afterCommit)가 끝난 뒤 실행됨)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stripe.unlock();
+            }
+        });
+
+        if (advisoryEnabled) {
+            // 같은 업체를 처리 중인 다른 인스턴스의 트랜잭션이 끝날 때까지 대기 (lock_timeout으로 대기 시간 제한)
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '" + waitTimeoutMs + "ms'");
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", resultSet -> null,
+                    ADVISORY_LOCK_NAMESPACE, companyId.hashCode());
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.ddp.reservation.service;
+
+import com.ddp.reservation.entity.IdempotencyRecord;
+import com.ddp.reservation.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 처리
+ * - 키가 없으면 그대로 실행 (기존 동작 유지)
+ * - 처음 받은 키: 처리 중 레코드 등록 후 실행, 응답(5xx 제외)을 만료 시각까지 저장
+ * - 저장된 키: 요청 본문이 같으면 저장된 응답 재전송 (Idempotent-Replayed: true), 다르면 422
+ * - 같은 인스턴스의 동시 요청은 하나의 실행 결과를 함께 받고, 다른 인스턴스에서 처리 중이면 409
+ * - 처리 중 인스턴스가 종료되어 남은 레코드는 in-flight-timeout 이후 새 요청이 이어받음
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String METRIC_NAME = "reservation.idempotency.requests";
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+
+    // 인스턴스 내부에서 처리 중인 요청 (범위:키 → 실행 결과)
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private record InFlight(String requestHash, CompletableFuture<ResponseEntity<?>> result) {
+    }
+
+    public IdempotencyService(IdempotencyRecordRepository recordRepository,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${reservation.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${reservation.idempotency.in-flight-timeout:60s}") Duration inFlightTimeout) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.inFlightTimeout = inFlightTimeout;
+    }
+
+    /**
+     * 멱등성 키 적용 실행
+     * @param scope 작업 + 요청 주체 (다른 사용자/작업의 같은 키와 구분)
+     * @param key Idempotency-Key 헤더 값 (null 허용)
+     * @param request 요청 본문 (같은 키 재사용 시 동일 요청인지 비교)
+     */
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request,
+                                         Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            log.warn("멱등성 키 길이 초과 - 범위: {}, 길이: {}", scope, key.length());
+            return ResponseEntity.badRequest().build();
+        }
+
+        String requestHash = hash(request);
+        String slot = scope + ":" + key;
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(slot, mine);
+        if (running != null) {
+            // 같은 인스턴스에서 처리 중인 동일 키 → 해당 실행 결과를 함께 사용
+            return awaitInFlight(running, requestHash, scope, key);
+        }
+
+        try {
+            ResponseEntity<T> response = executeOnce(scope, key, requestHash, responseType, action);
+            mine.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(slot, mine);
+        }
+    }
+
+    /**
+     * 만료 레코드 정리
+     */
+    @Scheduled(fixedDelayString = "${reservation.idempotency.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        int deleted = recordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 멱등성 키 정리 - {}건", deleted);
+        }
+    }
+
+    private <T> ResponseEntity<T> executeOnce(String scope, String key, String requestHash,
+                                              Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        Optional<IdempotencyRecord> existing = recordRepository.findByScopeAndIdempotencyKey(scope, key);
+        if (existing.isPresent()) {
+            ResponseEntity<T> stored = resolveExisting(existing.get(), requestHash, responseType);
+            if (stored != null) {
+                return stored;
+            }
+            // 만료되었거나 처리 중 중단된 레코드 → 삭제 후 새로 처리
+            recordRepository.deleteByScopeAndKey(scope, key);
+        }
+
+        IdempotencyRecord record;
+        try {
+            record = recordRepository.saveAndFlush(IdempotencyRecord.builder()
+                    .scope(scope)
+                    .idempotencyKey(key)
+                    .requestHash(requestHash)
+                    .expiresAt(LocalDateTime.now().plus(ttl))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키를 먼저 등록
+            return recordRepository.findByScopeAndIdempotencyKey(scope, key)
+                    .map(other -> resolveExisting(other, requestHash, responseType))
+                    .orElseGet(() -> reject(HttpStatus.CONFLICT, "conflict", scope, key));
+        }
+
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            recordRepository.deleteByScopeAndKey(scope, key);
+            throw e;
+        }
+
+        if (response.getStatusCode().is5xxServerError()) {
+            // 서버 오류는 저장하지 않음 (같은 키로 재시도 시 다시 실행)
+            recordRepository.deleteByScopeAndKey(scope, key);
+        } else {
+            record.setResponseStatus(response.getStatusCode().value());
+            record.setResponseBody(writeBody(response.getBody()));
+            recordRepository.save(record);
+        }
+
+        count("executed");
+        return response;
+    }
+
+    /**
+     * 저장된 레코드 처리 (재전송 / 422 / 409), 만료되었거나 중단된 레코드면 null
+     */
+    private <T> ResponseEntity<T> resolveExisting(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        LocalDateTime now = LocalDateTime.now();
+        if (record.getExpiresAt().isBefore(now)) {
+            return null;
+        }
+        if (!record.isCompleted() && record.getCreatedAt().plus(inFlightTimeout).isBefore(now)) {
+            log.warn("처리 중 중단된 멱등성 키 재처리 - 범위: {}, 키: {}", record.getScope(), record.getIdempotencyKey());
+            return null;
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+            return reject(HttpStatus.UNPROCESSABLE_ENTITY, "mismatch", record.getScope(), record.getIdempotencyKey());
+        }
+        if (!record.isCompleted()) {
+            return reject(HttpStatus.CONFLICT, "conflict", record.getScope(), record.getIdempotencyKey());
+        }
+
+        count("replayed");
+        log.info("멱등성 키 응답 재전송 - 범위: {}, 키: {}, 상태 코드: {}",
+                record.getScope(), record.getIdempotencyKey(), record.getResponseStatus());
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(record.getResponseStatus())
+                .header(REPLAYED_HEADER, "true");
+        return record.getResponseBody() == null
+                ? builder.build()
+                : builder.body(readBody(record.getResponseBody(), responseType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> awaitInFlight(InFlight running, String requestHash, String scope, String key) {
+        if (!running.requestHash().equals(requestHash)) {
+            return reject(HttpStatus.UNPROCESSABLE_ENTITY, "mismatch", scope, key);
+        }
+
+        try {
+            ResponseEntity<T> response = (ResponseEntity<T>) running.result()
+                    .get(inFlightTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            count("collapsed");
+            return ResponseEntity.status(response.getStatusCode())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(response.getBody());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return reject(HttpStatus.CONFLICT, "conflict", scope, key);
+        } catch (ExecutionException | TimeoutException e) {
+            // 먼저 들어온 요청이 실패했거나 아직 처리 중 → 클라이언트가 다시 시도
+            return reject(HttpStatus.CONFLICT, "conflict", scope, key);
+        }
+    }
+
+    private <T> ResponseEntity<T> reject(HttpStatus status, String outcome, String scope, String key) {
+        count(outcome);
+        log.warn("멱등성 키 요청 거부 - 범위: {}, 키: {}, 사유: {}", scope, key,
+                status == HttpStatus.CONFLICT ? "동일 키 처리 중" : "동일 키에 다른 요청 본문");
+        return ResponseEntity.status(status).build();
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(METRIC_NAME, "outcome", outcome).increment();
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] body = request == null
+                    ? new byte[0]
+                    : objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 본문 해시 생성에 실패했습니다.", e);
+        }
+    }
+
+    private String writeBody(Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 저장에 실패했습니다.", e);
+        }
+    }
+
+    private <T> T readBody(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+}
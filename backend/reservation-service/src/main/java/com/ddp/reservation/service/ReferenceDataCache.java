@@ -0,0 +1,82 @@
+package com.ddp.reservation.service;
+
+import com.ddp.reservation.dto.CompanyDto;
+import com.ddp.reservation.dto.UserDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 업체/사용자 참조 정보 근거리 캐시 (read-through)
+ * - 업체 ID → CompanyDto, 사용자 ID → UserDto
+ * - 캐시에 없는 ID만 모아 일괄 조회 함수로 한 번에 로드
+ * - company-service/auth-service의 변경 이벤트로 즉시 무효화, 이벤트 유실 시 쓰기 후 만료(TTL)로 최대 불일치 시간 제한
+ * - 조회 결과에 없는 ID(미존재/조회 실패)는 캐시하지 않음
+ * - 적중률은 actuator metrics의 cache.gets (cache=reference.company / reference.user) 로 노출
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private final Cache<Long, CompanyDto> companies;
+    private final Cache<Long, UserDto> users;
+
+    public ReferenceDataCache(
+            MeterRegistry meterRegistry,
+            @Value("${reference-cache.maximum-size:10000}") long maximumSize,
+            @Value("${reference-cache.expire-after-write-minutes:10}") long expireMinutes) {
+        this.companies = buildCache(meterRegistry, "reference.company", maximumSize, expireMinutes);
+        this.users = buildCache(meterRegistry, "reference.user", maximumSize, expireMinutes);
+    }
+
+    /**
+     * 업체 정보 일괄 조회 (캐시에 없는 업체만 loader로 조회)
+     */
+    public Map<Long, CompanyDto> getCompanies(Set<Long> companyIds,
+                                              Function<Set<? extends Long>, Map<Long, CompanyDto>> loader) {
+        return companies.getAll(companyIds, loader);
+    }
+
+    /**
+     * 사용자 정보 일괄 조회 (캐시에 없는 사용자만 loader로 조회)
+     */
+    public Map<Long, UserDto> getUsers(Set<Long> userIds,
+                                       Function<Set<? extends Long>, Map<Long, UserDto>> loader) {
+        return users.getAll(userIds, loader);
+    }
+
+    /**
+     * 업체 정보 변경 시 무효화
+     */
+    public void evictCompany(Long companyId) {
+        companies.invalidate(companyId);
+        log.debug("업체 참조 캐시 무효화 - 업체 ID: {}", companyId);
+    }
+
+    /**
+     * 사용자 정보 변경 시 무효화
+     */
+    public void evictUser(Long userId) {
+        users.invalidate(userId);
+        log.debug("사용자 참조 캐시 무효화 - 사용자 ID: {}", userId);
+    }
+
+    private static <K, V> Cache<K, V> buildCache(MeterRegistry meterRegistry, String name,
+                                                 long maximumSize, long expireMinutes) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ddp.reservation.service;
+
+import com.ddp.reservation.client.CompanyServiceClient;
+import com.ddp.reservation.client.DeviceServiceClient;
+import com.ddp.reservation.client.dto.CreateServiceRecordRequest;
+import com.ddp.reservation.client.dto.DeviceResponse;
+import com.ddp.reservation.client.dto.RegisterDeviceRequest;
+import com.ddp.reservation.client.dto.ServiceRecordResponse;
+import com.ddp.reservation.entity.ReservationOutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 예약 완료 후속 처리 릴레이 (saga)
+ * 대기열의 장치 등록 / 서비스 이력 생성을 하위 서비스에 전송
+ * - 이벤트의 멱등성 키를 함께 전달해 재전송 시 기존 결과 재사용
+ * - 4xx(요청 오류)는 재시도하지 않고 FAILED, 그 외 오류는 지수 백오프 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationOutboxRelay {
+
+    private final ReservationOutboxService outboxService;
+    private final DeviceServiceClient deviceServiceClient;
+    private final CompanyServiceClient companyServiceClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reservation.outbox.batch-size:20}")
+    private int batchSize;
+
+    /**
+     * 대기열 처리 (이전 실행 종료 후 일정 간격으로 반복)
+     */
+    @Scheduled(fixedDelayString = "${reservation.outbox.poll-interval-ms:2000}")
+    public void relay() {
+        List<ReservationOutboxEvent> events = outboxService.claimDue(batchSize);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        int completed = 0;
+        for (ReservationOutboxEvent event : events) {
+            if (process(event)) {
+                completed++;
+            }
+        }
+
+        log.info("후속 처리 릴레이 완료: 성공 {}건, 실패 {}건", completed, events.size() - completed);
+    }
+
+    private boolean process(ReservationOutboxEvent event) {
+        try {
+            switch (event.getEventType()) {
+                case DEVICE_REGISTRATION -> {
+                    RegisterDeviceRequest request = objectMapper.readValue(event.getPayload(), RegisterDeviceRequest.class);
+                    DeviceResponse device = deviceServiceClient.registerDevice(request);
+                    log.info("장치 등록 완료 - 예약 ID: {}, 장치 ID: {}, 시리얼 번호: {}",
+                            event.getReservationId(), device.getDeviceId(), device.getSerialNumber());
+                }
+                case SERVICE_RECORD -> {
+                    CreateServiceRecordRequest request = objectMapper.readValue(event.getPayload(), CreateServiceRecordRequest.class);
+                    request.setIdempotencyKey(event.getIdempotencyKey());
+                    ServiceRecordResponse record = companyServiceClient.createServiceRecord(request);
+                    log.info("ServiceRecord 생성 완료 - 예약 ID: {}, 이력 ID: {}", event.getReservationId(), record.getId());
+                }
+            }
+            outboxService.markCompleted(event.getEventId());
+            return true;
+
+        } catch (JsonProcessingException e) {
+            // 저장된 요청 본문을 읽을 수 없으면 재시도해도 성공하지 않음
+            log.error("후속 처리 요청 본문 오류 - 예약 ID: {}, 유형: {}", event.getReservationId(), event.getEventType());
+            outboxService.markFailed(event.getEventId(), e.getOriginalMessage(), false);
+            return false;
+
+        } catch (FeignException e) {
+            // 요청 자체가 잘못된 경우(4xx, 요청 시간 초과/과부하 제외)는 재시도해도 성공하지 않음
+            int status = e.status();
+            boolean retryable = status < 400 || status >= 500 || status == 408 || status == 429;
+            log.warn("후속 처리 실패 - 예약 ID: {}, 유형: {}, 상태 코드: {}, 재시도: {}",
+                    event.getReservationId(), event.getEventType(), status, retryable);
+            outboxService.markFailed(event.getEventId(), e.getMessage(), retryable);
+            return false;
+
+        } catch (Exception e) {
+            log.warn("후속 처리 실패 - 예약 ID: {}, 유형: {}, 오류: {}",
+                    event.getReservationId(), event.getEventType(), e.getMessage());
+            outboxService.markFailed(event.getEventId(), e.getMessage(), true);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ddp.reservation.service;
+
+import com.ddp.reservation.entity.OutboxEventType;
+import com.ddp.reservation.entity.OutboxStatus;
+import com.ddp.reservation.entity.ReservationOutboxEvent;
+import com.ddp.reservation.repository.ReservationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 완료 후속 처리 대기열(outbox) 관리
+ * - enqueue: 예약 완료 트랜잭션 안에서 호출 (예약 상태 변경과 함께 커밋/롤백)
+ * - claimDue: 처리 시각이 된 이벤트를 잠금 후 점유 시간(lease)만큼 미뤄 다른 인스턴스의 중복 처리 방지
+ * - markCompleted / markFailed: 처리 결과 반영 (실패 시 지수 백오프, 최대 시도 초과 시 FAILED)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReservationOutboxService {
+
+    private final ReservationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reservation.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${reservation.outbox.initial-backoff-seconds:5}")
+    private long initialBackoffSeconds;
+
+    @Value("${reservation.outbox.max-backoff-seconds:1800}")
+    private long maxBackoffSeconds;
+
+    @Value("${reservation.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    /**
+     * 후속 처리 등록 (현재 트랜잭션에 참여)
+     * 멱등성 키: reservation-{예약 ID}-{처리 유형}
+     */
+    public void enqueue(Long reservationId, OutboxEventType eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("후속 처리 요청 직렬화에 실패했습니다: " + eventType, e);
+        }
+
+        outboxRepository.save(ReservationOutboxEvent.builder()
+                .reservationId(reservationId)
+                .eventType(eventType)
+                .idempotencyKey("reservation-" + reservationId + "-" + eventType.name().toLowerCase())
+                .payload(json)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        log.info("후속 처리 등록 - 예약 ID: {}, 유형: {}", reservationId, eventType);
+    }
+
+    /**
+     * 처리할 이벤트 점유 (다음 시도 시각을 점유 만료 시각으로 변경 후 커밋)
+     * 처리 중 인스턴스가 종료되면 점유 만료 후 다른 인스턴스가 다시 처리
+     */
+    public List<ReservationOutboxEvent> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReservationOutboxEvent> events = outboxRepository.findDueForUpdate(
+                OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        events.forEach(event -> event.setNextAttemptAt(now.plusSeconds(leaseSeconds)));
+        return events;
+    }
+
+    /**
+     * 처리 완료 반영
+     */
+    public void markCompleted(Long eventId) {
+        outboxRepository.findById(eventId).ifPresent(event -> {
+            event.setStatus(OutboxStatus.COMPLETED);
+            event.setAttempts(event.getAttempts() + 1);
+            event.setLastError(null);
+            event.setProcessedAt(LocalDateTime.now());
+        });
+    }
+
+    /**
+     * 처리 실패 반영
+     * @param retryable false면 즉시 FAILED (잘못된 요청 등 재시도해도 성공할 수 없는 오류)
+     */
+    public void markFailed(Long eventId, String error, boolean retryable) {
+        outboxRepository.findById(eventId).ifPresent(event -> {
+            int attempts = event.getAttempts() + 1;
+            LocalDateTime now = LocalDateTime.now();
+            event.setAttempts(attempts);
+            event.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+
+            if (!retryable || attempts >= maxAttempts) {
+                event.setStatus(OutboxStatus.FAILED);
+                event.setProcessedAt(now);
+                log.error("후속 처리 최종 실패 - 예약 ID: {}, 유형: {}, 시도 {}회: {}",
+                        event.getReservationId(), event.getEventType(), attempts, error);
+                return;
+            }
+
+            long backoffSeconds = Math.min(initialBackoffSeconds << Math.min(attempts - 1, 20), maxBackoffSeconds);
+            event.setNextAttemptAt(now.plus(Duration.ofSeconds(backoffSeconds)));
+        });
+    }
+}
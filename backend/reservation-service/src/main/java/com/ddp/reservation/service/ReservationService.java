@@ -2,15 +2,20 @@ package com.ddp.reservation.service;
 
 import com.ddp.reservation.client.AuthServiceClient;
 import com.ddp.reservation.client.CompanyServiceClient;
-import com.ddp.reservation.client.DeviceServiceClient;
-import com.ddp.reservation.client.dto.DeviceResponse;
+import com.ddp.reservation.client.dto.CompanyBatchRequest;
+import com.ddp.reservation.client.dto.CompanyBatchResponse;
+import com.ddp.reservation.client.dto.CreateServiceRecordRequest;
 import com.ddp.reservation.client.dto.RegisterDeviceRequest;
+import com.ddp.reservation.client.dto.UserBatchRequest;
+import com.ddp.reservation.config.EnrichmentExecutor;
 import com.ddp.reservation.dto.CompanyDto;
 import com.ddp.reservation.dto.UserDto;
 import com.ddp.reservation.dto.request.CompleteReservationRequest;
 import com.ddp.reservation.dto.request.CreateReservationRequest;
+import com.ddp.reservation.dto.response.AvailabilityResponse;
 import com.ddp.reservation.dto.response.CancelReservationResponse;
 import com.ddp.reservation.dto.response.ReservationResponse;
+import com.ddp.reservation.entity.OutboxEventType;
 import com.ddp.reservation.entity.Reservation;
 import com.ddp.reservation.entity.ReservationStatus;
 import com.ddp.reservation.entity.ServiceType;
@@ -22,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
@@ -35,19 +41,34 @@ import java.util.stream.Collectors;
 @Transactional
 public class ReservationService {
 
+    // 사용자 일괄 조회 1회 요청 최대 인원 (auth-service 제한과 동일)
+    private static final int USER_BATCH_SIZE = 1000;
+
+    // 업체 일괄 조회 1회 요청 최대 개수 (company-service 제한과 동일)
+    private static final int COMPANY_BATCH_SIZE = 1000;
+
+    // 동일 업체 예약 간 최소 간격 (희망 일시 기준 ±시간)
+    private static final int CONFLICT_WINDOW_HOURS = 2;
+
+    // 예약 가능 캘린더 최대 조회 일수
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+
     private final ReservationRepository reservationRepository;
     private final AuthServiceClient authServiceClient;
     private final CompanyServiceClient companyServiceClient;
-    private final DeviceServiceClient deviceServiceClient;
+    private final EnrichmentExecutor enrichmentExecutor;
+    private final ReferenceDataCache referenceDataCache;
+    private final CompanyAvailabilityIndex availabilityIndex;
+    private final CompanyReservationLock reservationLock;
+    private final ReservationOutboxService outboxService;
 
     // 예약 생성 (사용자)
     public Reservation createReservation(Long userId, CreateReservationRequest request) {
         log.info("API 호출 시작: 예약 생성 - 사용자 ID: {}, 업체 ID: {}", userId, request.getCompanyId());
 
-        long startTime = System.currentTimeMillis();
-
         try {
-            // 중복 예약 검증
+            // 업체 단위 잠금 후 중복 예약 검증 (트랜잭션 종료 시 해제, 같은 업체의 동시 예약 직렬화)
+            reservationLock.lock(request.getCompanyId());
             validateReservationTime(request.getCompanyId(), request.getRequestedDate());
 
             // 예약 엔티티 생성
@@ -63,9 +84,9 @@ public class ReservationService {
 
             // 예약 저장
             Reservation savedReservation = reservationRepository.save(reservation);
+            availabilityIndex.update(savedReservation);
 
-            log.info("API 호출 완료: 예약 생성 - 예약 ID: {} ({}ms)",
-                    savedReservation.getReservationId(), System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 예약 생성 - 예약 ID: {}", savedReservation.getReservationId());
 
             return savedReservation;
 
@@ -87,8 +108,6 @@ public class ReservationService {
     public List<ReservationResponse> findByUserIdWithCompanyInfo(Long userId) {
         log.info("API 호출 시작: 사용자 예약 목록 조회 (업체 정보 포함) - 사용자 ID: {}", userId);
 
-        long startTime = System.currentTimeMillis();
-
         // 1. 예약 목록 조회
         List<Reservation> reservations = reservationRepository.findByUserIdOrderByCreatedAtDesc(userId);
 
@@ -97,18 +116,8 @@ public class ReservationService {
                 .map(Reservation::getCompanyId)
                 .collect(Collectors.toSet());
 
-        // 3. 업체 정보 배치 조회 (Map으로 캐싱)
-        Map<Long, CompanyDto> companyMap = new HashMap<>();
-        for (Long companyId : companyIds) {
-            try {
-                CompanyDto company = companyServiceClient.getCompanyById(companyId);
-                if (company != null) {
-                    companyMap.put(companyId, company);
-                }
-            } catch (Exception e) {
-                log.warn("업체 정보 조회 실패 (계속 진행): companyId={}, error={}", companyId, e.getMessage());
-            }
-        }
+        // 3. 업체 정보 일괄 조회 (Map으로 캐싱)
+        Map<Long, CompanyDto> companyMap = fetchCompanies(companyIds);
 
         // 4. ReservationResponse 생성 (업체 정보 포함)
         List<ReservationResponse> responses = reservations.stream()
@@ -127,8 +136,7 @@ public class ReservationService {
                 })
                 .collect(Collectors.toList());
 
-        log.info("API 호출 완료: 사용자 예약 목록 조회 - {} 건 ({}ms)",
-                responses.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 사용자 예약 목록 조회 - {} 건", responses.size());
 
         return responses;
     }
@@ -138,8 +146,6 @@ public class ReservationService {
     public List<ReservationResponse> findByCompanyIdWithUserInfo(Long companyId) {
         log.info("API 호출 시작: 업체 예약 목록 조회 (사용자 정보 포함) - 업체 ID: {}", companyId);
 
-        long startTime = System.currentTimeMillis();
-
         // 1. 예약 목록 조회
         List<Reservation> reservations = reservationRepository.findByCompanyIdOrderByCreatedAtDesc(companyId);
 
@@ -148,18 +154,8 @@ public class ReservationService {
                 .map(Reservation::getUserId)
                 .collect(Collectors.toSet());
 
-        // 3. 사용자 정보 배치 조회 (Map으로 캐싱)
-        Map<Long, UserDto> userMap = new HashMap<>();
-        for (Long userId : userIds) {
-            try {
-                UserDto user = authServiceClient.getUserById(userId);
-                if (user != null) {
-                    userMap.put(userId, user);
-                }
-            } catch (Exception e) {
-                log.warn("사용자 정보 조회 실패 (계속 진행): userId={}, error={}", userId, e.getMessage());
-            }
-        }
+        // 3. 사용자 정보 일괄 조회 (Map으로 캐싱)
+        Map<Long, UserDto> userMap = fetchUsers(userIds);
 
         // 4. ReservationResponse 생성 (사용자 정보 포함)
         List<ReservationResponse> responses = reservations.stream()
@@ -178,8 +174,7 @@ public class ReservationService {
                 })
                 .collect(Collectors.toList());
 
-        log.info("API 호출 완료: 업체 예약 목록 조회 - {} 건 ({}ms)",
-                responses.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 업체 예약 목록 조회 - {} 건", responses.size());
 
         return responses;
     }
@@ -189,12 +184,9 @@ public class ReservationService {
     public List<Reservation> findByUserId(Long userId) {
         log.info("API 호출 시작: 사용자 예약 목록 조회 - 사용자 ID: {}", userId);
 
-        long startTime = System.currentTimeMillis();
-
         List<Reservation> reservations = reservationRepository.findByUserIdOrderByCreatedAtDesc(userId);
 
-        log.info("API 호출 완료: 사용자 예약 목록 조회 - {} 건 ({}ms)",
-                reservations.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 사용자 예약 목록 조회 - {} 건", reservations.size());
 
         return reservations;
     }
@@ -204,12 +196,9 @@ public class ReservationService {
     public List<Reservation> findByCompanyId(Long companyId) {
         log.info("API 호출 시작: 업체 예약 목록 조회 - 업체 ID: {}", companyId);
 
-        long startTime = System.currentTimeMillis();
-
         List<Reservation> reservations = reservationRepository.findByCompanyIdOrderByCreatedAtDesc(companyId);
 
-        log.info("API 호출 완료: 업체 예약 목록 조회 - {} 건 ({}ms)",
-                reservations.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 업체 예약 목록 조회 - {} 건", reservations.size());
 
         return reservations;
     }
@@ -219,22 +208,66 @@ public class ReservationService {
     public List<Reservation> findAll() {
         log.info("API 호출 시작: 전체 예약 목록 조회 (관리자)");
 
-        long startTime = System.currentTimeMillis();
-
         List<Reservation> reservations = reservationRepository.findAllByOrderByCreatedAtDesc();
 
-        log.info("API 호출 완료: 전체 예약 목록 조회 - {} 건 ({}ms)",
-                reservations.size(), System.currentTimeMillis() - startTime);
+        log.info("API 호출 완료: 전체 예약 목록 조회 - {} 건", reservations.size());
 
         return reservations;
     }
 
+    // 업체 예약 가능 캘린더 조회 (일자별 예약 불가 구간)
+    @Transactional(readOnly = true)
+    public AvailabilityResponse getAvailability(Long companyId, LocalDate from, int days) {
+        if (days < 1 || days > MAX_AVAILABILITY_DAYS) {
+            throw new IllegalArgumentException("조회 일수는 1~" + MAX_AVAILABILITY_DAYS + "일 사이여야 합니다");
+        }
+        LocalDate to = from.plusDays(days - 1L);
+
+        // 조회 구간 경계 밖의 예약도 불가 구간이 걸칠 수 있으므로 앞뒤로 확장해서 조회
+        List<LocalDateTime> bookedTimes = availabilityIndex.bookedTimes(companyId,
+                from.atStartOfDay().minusHours(CONFLICT_WINDOW_HOURS),
+                to.plusDays(1).atStartOfDay().plusHours(CONFLICT_WINDOW_HOURS));
+
+        // 예약별 불가 구간 [일시 - 간격, 일시 + 간격]을 병합 (입력이 정렬되어 있으므로 한 번 순회)
+        List<AvailabilityResponse.BlockedSlot> merged = new ArrayList<>();
+        for (LocalDateTime bookedTime : bookedTimes) {
+            LocalDateTime start = bookedTime.minusHours(CONFLICT_WINDOW_HOURS);
+            LocalDateTime end = bookedTime.plusHours(CONFLICT_WINDOW_HOURS);
+            AvailabilityResponse.BlockedSlot last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && !start.isAfter(last.getEnd())) {
+                last.setEnd(end);
+            } else {
+                merged.add(new AvailabilityResponse.BlockedSlot(start, end));
+            }
+        }
+
+        // 일자별로 분할 (자정을 넘는 구간은 날짜 경계에서 자름)
+        List<AvailabilityResponse.DayAvailability> dayAvailabilities = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDateTime dayStart = date.atStartOfDay();
+            LocalDateTime dayEnd = dayStart.plusDays(1);
+            List<AvailabilityResponse.BlockedSlot> blocked = merged.stream()
+                    .filter(slot -> slot.getStart().isBefore(dayEnd) && slot.getEnd().isAfter(dayStart))
+                    .map(slot -> new AvailabilityResponse.BlockedSlot(
+                            slot.getStart().isBefore(dayStart) ? dayStart : slot.getStart(),
+                            slot.getEnd().isAfter(dayEnd) ? dayEnd : slot.getEnd()))
+                    .collect(Collectors.toList());
+            dayAvailabilities.add(new AvailabilityResponse.DayAvailability(date, blocked));
+        }
+
+        return AvailabilityResponse.builder()
+                .companyId(companyId)
+                .from(from)
+                .to(to)
+                .conflictWindowHours(CONFLICT_WINDOW_HOURS)
+                .days(dayAvailabilities)
+                .build();
+    }
+
     // 예약 확정 (업체)
     public Reservation confirmReservation(Long reservationId, Long companyId) {
         log.info("API 호출 시작: 예약 확정 - 예약 ID: {}, 업체 ID: {}", reservationId, companyId);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 예약 조회
             Reservation reservation = reservationRepository.findById(reservationId)
@@ -257,9 +290,9 @@ public class ReservationService {
             reservation.setConfirmedDate(LocalDateTime.now());
 
             Reservation savedReservation = reservationRepository.save(reservation);
+            availabilityIndex.update(savedReservation);
 
-            log.info("API 호출 완료: 예약 확정 - 예약 ID: {} ({}ms)",
-                    reservationId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 예약 확정 - 예약 ID: {}", reservationId);
 
             return savedReservation;
 
@@ -276,8 +309,6 @@ public class ReservationService {
     public Reservation rejectReservation(Long reservationId, Long companyId, String reason) {
         log.info("API 호출 시작: 예약 거절 - 예약 ID: {}, 업체 ID: {}", reservationId, companyId);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 예약 조회
             Reservation reservation = reservationRepository.findById(reservationId)
@@ -301,9 +332,9 @@ public class ReservationService {
             reservation.setRejectedAt(LocalDateTime.now());
 
             Reservation savedReservation = reservationRepository.save(reservation);
+            availabilityIndex.update(savedReservation);
 
-            log.info("API 호출 완료: 예약 거절 - 예약 ID: {} ({}ms)",
-                    reservationId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 예약 거절 - 예약 ID: {}", reservationId);
 
             return savedReservation;
 
@@ -320,8 +351,6 @@ public class ReservationService {
     public CancelReservationResponse cancelReservation(Long reservationId, Long userId, String reason) {
         log.info("API 호출 시작: 예약 취소 - 예약 ID: {}, 사용자 ID: {}", reservationId, userId);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 1. 예약 조회 및 권한 확인
             Reservation reservation = reservationRepository.findById(reservationId)
@@ -380,9 +409,9 @@ public class ReservationService {
             reservation.setCancellationPolicy(policy);
 
             reservationRepository.save(reservation);
+            availabilityIndex.update(reservation);
 
-            log.info("API 호출 완료: 예약 취소 - 예약 ID: {}, 취소 수수료: {} ({}ms)",
-                    reservationId, fee, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 예약 취소 - 예약 ID: {}, 취소 수수료: {}", reservationId, fee);
 
             // 6. 응답 생성
             return CancelReservationResponse.builder()
@@ -407,8 +436,6 @@ public class ReservationService {
     public Reservation completeReservation(Long reservationId, Long companyId, CompleteReservationRequest request) {
         log.info("API 호출 시작: 예약 완료 - 예약 ID: {}, 업체 ID: {}, 서비스 타입별 정보 포함", reservationId, companyId);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 예약 조회
             Reservation reservation = reservationRepository.findById(reservationId)
@@ -432,33 +459,22 @@ public class ReservationService {
                     request.getCompletedDate() : LocalDateTime.now());
 
             Reservation savedReservation = reservationRepository.save(reservation);
+            availabilityIndex.update(savedReservation);
 
             log.info("예약 완료 처리 완료 - 예약 ID: {}, 서비스 타입: {}", reservationId, reservation.getServiceType());
 
-            // 서비스 타입별 처리
-            try {
-                if (reservation.getServiceType() == ServiceType.INSTALLATION) {
-                    // INSTALLATION: device-service 호출하여 장치 등록
-                    handleInstallationCompletion(reservation, request, companyId);
-                } else if (reservation.getServiceType() == ServiceType.INSPECTION) {
-                } else if (reservation.getServiceType() == ServiceType.REPAIR ||
-                           reservation.getServiceType() == ServiceType.MAINTENANCE) {
-                }
-            } catch (Exception e) {
-                log.error("서비스 타입별 처리 중 오류 발생: {}", e.getMessage(), e);
-                // 예약 완료는 성공했지만 후속 처리 실패 - 경고 로그만 남기고 계속 진행
+            // 후속 처리 등록 (같은 트랜잭션에 저장, 하위 서비스 호출은 ReservationOutboxRelay가 비동기로 재시도 처리)
+            if (reservation.getServiceType() == ServiceType.INSTALLATION) {
+                // INSTALLATION: device-service 장치 등록
+                outboxService.enqueue(reservationId, OutboxEventType.DEVICE_REGISTRATION,
+                        buildRegisterDeviceRequest(reservation, request, companyId));
             }
 
             // ServiceRecord 생성 (모든 서비스 타입)
-            try {
-                createServiceRecord(reservation, request, companyId);
-            } catch (Exception e) {
-                log.error("ServiceRecord 생성 실패: {}", e.getMessage(), e);
-                // ServiceRecord 생성 실패해도 예약 완료는 성공으로 처리
-            }
+            outboxService.enqueue(reservationId, OutboxEventType.SERVICE_RECORD,
+                    buildServiceRecordRequest(reservation, request, companyId));
 
-            log.info("API 호출 완료: 예약 완료 - 예약 ID: {} ({}ms)",
-                    reservationId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 예약 완료 - 예약 ID: {}", reservationId);
 
             return savedReservation;
 
@@ -475,8 +491,6 @@ public class ReservationService {
     public void deleteReservation(Long reservationId) {
         log.info("API 호출 시작: 예약 삭제 (Hard Delete) - 예약 ID: {}", reservationId);
 
-        long startTime = System.currentTimeMillis();
-
         try {
             // 예약 존재 여부 확인
             Reservation reservation = reservationRepository.findById(reservationId)
@@ -484,9 +498,9 @@ public class ReservationService {
 
             // 실제 DB에서 삭제 (Hard Delete)
             reservationRepository.delete(reservation);
+            availabilityIndex.remove(reservation);
 
-            log.info("API 호출 완료: 예약 삭제 - 예약 ID: {} ({}ms)",
-                    reservationId, System.currentTimeMillis() - startTime);
+            log.info("API 호출 완료: 예약 삭제 - 예약 ID: {}", reservationId);
 
         } catch (IllegalArgumentException e) {
             log.error("예약 삭제 실패: {}", e.getMessage());
@@ -497,76 +511,33 @@ public class ReservationService {
         }
     }
 
-    // 설치 완료 처리 - device-service 호출
-    private void handleInstallationCompletion(Reservation reservation, CompleteReservationRequest request, Long companyId) {
-        log.info("설치 완료 처리 시작 - 예약 ID: {}, 시리얼 번호: {}", reservation.getReservationId(), request.getDeviceSerialNumber());
-
-        try {
-            // 장치 등록 요청 DTO 생성
-            RegisterDeviceRequest deviceRequest = RegisterDeviceRequest.builder()
-                    .serialNumber(request.getDeviceSerialNumber())
-                    .modelName(request.getModelName())
-                    .manufacturerId(request.getManufacturerId())
-                    .userId(reservation.getUserId()) // 예약한 사용자에게 장치 할당
-                    .companyId(companyId) // 설치한 업체
-                    .installDate(request.getCompletedDate().toLocalDate()) // 완료일을 설치일로 사용
-                    .warrantyEndDate(request.getWarrantyEndDate())
-                    .build();
-
-            // device-service 호출
-            DeviceResponse deviceResponse = deviceServiceClient.registerDevice(deviceRequest);
-
-            log.info("장치 등록 완료 - 장치 ID: {}, 시리얼 번호: {}, 사용자 ID: {}",
-                    deviceResponse.getDeviceId(), deviceResponse.getSerialNumber(), deviceResponse.getUserId());
-
-        } catch (Exception e) {
-            log.error("장치 등록 실패 - 예약 ID: {}, 시리얼 번호: {}, 오류: {}",
-                    reservation.getReservationId(), request.getDeviceSerialNumber(), e.getMessage(), e);
-            throw new RuntimeException("장치 등록에 실패했습니다: " + e.getMessage(), e);
-        }
+    // 장치 등록 요청 생성 (설치 완료 시, 예약한 사용자에게 장치 할당)
+    private RegisterDeviceRequest buildRegisterDeviceRequest(Reservation reservation, CompleteReservationRequest request, Long companyId) {
+        return RegisterDeviceRequest.builder()
+                .serialNumber(request.getDeviceSerialNumber())
+                .modelName(request.getModelName())
+                .manufacturerId(request.getManufacturerId())
+                .userId(reservation.getUserId()) // 예약한 사용자에게 장치 할당
+                .companyId(companyId) // 설치한 업체
+                .installDate(reservation.getCompletedDate().toLocalDate()) // 완료일을 설치일로 사용
+                .warrantyEndDate(request.getWarrantyEndDate())
+                .build();
     }
 
-
-
-    // ServiceRecord 생성 - company-service 호출
-    private void createServiceRecord(Reservation reservation, CompleteReservationRequest request, Long companyId) {
-        log.info("ServiceRecord 생성 시작 - 예약 ID: {}, 서비스 타입: {}", reservation.getReservationId(), reservation.getServiceType());
-
-        try {
-            // 서비스 타입별 설명 생성
-            String description = generateServiceDescription(reservation, request);
-
-            // 장치 ID 및 시리얼 번호 추출
-            Long deviceId = extractDeviceId(reservation, request);
-            String deviceSerialNumber = extractDeviceSerialNumber(request);
-
-            // ServiceRecord 생성 요청 DTO
-            com.ddp.reservation.client.dto.CreateServiceRecordRequest serviceRecordRequest =
-                    com.ddp.reservation.client.dto.CreateServiceRecordRequest.builder()
-                            .type(reservation.getServiceType().name())
-                            .subjectId(reservation.getUserId())
-                            .subjectName("사용자 " + reservation.getUserId()) // TODO: 실제 사용자 이름 조회
-                            .deviceId(deviceId)
-                            .deviceSerialNumber(deviceSerialNumber)
-                            .description(description)
-                            .performedAt(request.getCompletedDate())
-                            .performedBy("업체 " + companyId) // TODO: 실제 업체 이름 조회
-                            .cost(request.getCost())
-                            .companyId(companyId)
-                            .build();
-
-            // company-service 호출
-            com.ddp.reservation.client.dto.ServiceRecordResponse serviceRecordResponse =
-                    companyServiceClient.createServiceRecord(serviceRecordRequest);
-
-            log.info("ServiceRecord 생성 완료 - 이력 ID: {}, 타입: {}",
-                    serviceRecordResponse.getId(), serviceRecordResponse.getType());
-
-        } catch (Exception e) {
-            log.error("ServiceRecord 생성 실패 - 예약 ID: {}, 오류: {}",
-                    reservation.getReservationId(), e.getMessage(), e);
-            throw new RuntimeException("ServiceRecord 생성에 실패했습니다: " + e.getMessage(), e);
-        }
+    // ServiceRecord 생성 요청 생성 (company-service)
+    private CreateServiceRecordRequest buildServiceRecordRequest(Reservation reservation, CompleteReservationRequest request, Long companyId) {
+        return CreateServiceRecordRequest.builder()
+                .type(reservation.getServiceType().name())
+                .subjectId(reservation.getUserId())
+                .subjectName("사용자 " + reservation.getUserId()) // TODO: 실제 사용자 이름 조회
+                .deviceId(extractDeviceId(reservation, request))
+                .deviceSerialNumber(extractDeviceSerialNumber(request))
+                .description(generateServiceDescription(reservation, request))
+                .performedAt(reservation.getCompletedDate())
+                .performedBy("업체 " + companyId) // TODO: 실제 업체 이름 조회
+                .cost(request.getCost())
+                .companyId(companyId)
+                .build();
     }
 
     // 서비스 타입별 설명 생성
@@ -598,33 +569,82 @@ public class ReservationService {
         return "N/A";
     }
 
-    // 중복 예약 검증 (업체의 동일 시간대 예약 확인)
+    // 중복 예약 검증 (업체의 동일 시간대 예약 확인, 업체별 예약 시간 인덱스 사용)
     private void validateReservationTime(Long companyId, LocalDateTime requestedDate) {
-        // ±2시간 범위 내에 다른 예약이 있는지 확인
-        LocalDateTime startWindow = requestedDate.minusHours(2);
-        LocalDateTime endWindow = requestedDate.plusHours(2);
+        // ±CONFLICT_WINDOW_HOURS 범위 내에 다른 예약이 있는지 확인
+        LocalDateTime startWindow = requestedDate.minusHours(CONFLICT_WINDOW_HOURS);
+        LocalDateTime endWindow = requestedDate.plusHours(CONFLICT_WINDOW_HOURS);
 
-        List<Reservation> conflicts = reservationRepository.findConflictingReservations(
-                companyId,
-                startWindow,
-                endWindow
-        );
+        Optional<LocalDateTime> conflict = availabilityIndex.findConflict(companyId, startWindow, endWindow);
 
-        if (!conflicts.isEmpty()) {
-            // 충돌하는 예약이 있으면 예외 발생
-            Reservation conflictReservation = conflicts.get(0);
+        // 다중 인스턴스: 다른 인스턴스의 예약은 인덱스에 늦게 반영되므로 잠금 획득 후 DB 기준으로 한 번 더 확인
+        if (conflict.isEmpty() && reservationLock.isAdvisoryEnabled()) {
+            conflict = reservationRepository.findConflictingReservations(companyId, startWindow, endWindow).stream()
+                    .map(Reservation::getRequestedDate)
+                    .min(Comparator.naturalOrder());
+        }
 
+        if (conflict.isPresent()) {
+            // 충돌하는 예약이 있으면 예외 발생
             throw new IllegalStateException(
                     String.format(
                             "해당 시간대(%s)에 이미 예약이 존재합니다. " +
                             "다른 시간을 선택해주세요. (기존 예약: %s)",
                             requestedDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                            conflictReservation.getRequestedDate()
-                                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"))
+                            conflict.get().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"))
                     )
             );
         }
 
         log.info("중복 예약 검증 완료 - 업체 ID: {}, 예약일: {}", companyId, requestedDate);
     }
+
+    // 사용자 정보 일괄 조회 (근거리 캐시 우선, 없는 사용자만 auth-service 호출)
+    private Map<Long, UserDto> fetchUsers(Set<Long> userIds) {
+        return referenceDataCache.getUsers(userIds, this::loadUsers);
+    }
+
+    // 업체 정보 일괄 조회 (근거리 캐시 우선, 없는 업체만 company-service 호출)
+    private Map<Long, CompanyDto> fetchCompanies(Set<Long> companyIds) {
+        return referenceDataCache.getCompanies(companyIds, this::loadCompanies);
+    }
+
+    // 사용자 정보 원격 조회 (USER_BATCH_SIZE명 단위로 나눠 병렬 호출, 실패한 묶음은 정보 없이 진행)
+    private Map<Long, UserDto> loadUsers(Set<? extends Long> userIds) {
+        Map<Long, UserDto> userMap = new HashMap<>();
+        enrichmentExecutor.fetchAll("사용자 일괄 조회", partition(userIds, USER_BATCH_SIZE),
+                        chunk -> authServiceClient.getUsersByIds(new UserBatchRequest(chunk)))
+                .values()
+                .forEach(users -> users.forEach(user -> userMap.put(Long.valueOf(user.getId()), user)));
+        return userMap;
+    }
+
+    // 업체 정보 원격 조회 (COMPANY_BATCH_SIZE개 단위로 나눠 병렬 호출, 없거나 실패한 업체는 정보 없이 진행)
+    private Map<Long, CompanyDto> loadCompanies(Set<? extends Long> companyIds) {
+        Map<Long, CompanyDto> companyMap = new HashMap<>();
+        Map<List<Long>, CompanyBatchResponse> responses = enrichmentExecutor.fetchAll("업체 일괄 조회",
+                partition(companyIds, COMPANY_BATCH_SIZE),
+                chunk -> companyServiceClient.getCompaniesByIds(new CompanyBatchRequest(chunk)));
+
+        for (CompanyBatchResponse response : responses.values()) {
+            for (CompanyDto company : response.getCompanies()) {
+                companyMap.put(Long.valueOf(company.getId()), company);
+            }
+            if (!response.getMissingIds().isEmpty() || !response.getFailedIds().isEmpty()) {
+                log.warn("일부 업체 정보 조회 실패 (계속 진행): missing={}, failed={}",
+                        response.getMissingIds(), response.getFailedIds());
+            }
+        }
+        return companyMap;
+    }
+
+    // ID 목록을 일괄 조회 크기 단위로 분할
+    private static List<List<Long>> partition(Collection<? extends Long> ids, int size) {
+        List<Long> list = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += size) {
+            chunks.add(list.subList(from, Math.min(from + size, list.size())));
+        }
+        return chunks;
+    }
 }
@@ -0,0 +1,184 @@
+package com.ddp.reservation.client;
+
+import com.ddp.reservation.client.dto.UserBatchRequest;
+import com.ddp.reservation.config.HttpClientConfig;
+import com.ddp.reservation.dto.UserDto;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Feign HTTP 클라이언트 처리량 벤치마크 (WireMock 대상, FeignFaultInjectionTest와 같은 구성)
+ * 같은 호출 부하(정보 보강 일괄 조회 POST /internal/users/batch)에서 Feign 클라이언트만 바꿔 비교
+ * - default: OpenFeign 기본 클라이언트 (HttpURLConnection, JDK keep-alive 캐시는 대상별 5개)
+ * - pooled: config-repo application.yml과 같은 Apache HttpClient 5 연결 풀 (HttpClientConfig)
+ * 서킷 브레이커/벌크헤드는 끄고 전송 비용만 비교
+ * 같은 호스트의 WireMock 대상이라 연결 수립 비용이 작게 잡힘 (네트워크 왕복/TLS가 있는 실제 환경에서는 차이가 더 큼)
+ * 결과(requests/s, p99 지연)는 로그로 출력 (테스트 결과 XML의 system-out)
+ * 실행: gradle test -Dbenchmark=true --tests '*FeignClientThroughputBenchmarkTest'
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FeignClientThroughputBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 1_000;
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int MEASURED_ROUNDS = 3;
+    private static final int BATCH_SIZE = 50;
+
+    @RegisterExtension
+    static WireMockExtension wireMock = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().containerThreads(THREADS * 2).disableRequestJournal())
+            .build();
+
+    @Test
+    void compareDefaultAndPooledClients() throws Exception {
+        wireMock.stubFor(post(urlEqualTo("/internal/users/batch")).willReturn(okJson(usersJson())));
+
+        Result defaultClient = measure(false);
+        Result pooledClient = measure(true);
+
+        report("default", defaultClient);
+        report("pooled", pooledClient);
+
+        assertThat(defaultClient.failed()).isZero();
+        assertThat(pooledClient.failed()).isZero();
+    }
+
+    private Result measure(boolean pooled) throws Exception {
+        try (ConfigurableApplicationContext context = start(pooled)) {
+            AuthServiceClient client = context.getBean(AuthServiceClient.class);
+            UserBatchRequest request = new UserBatchRequest(LongStream.rangeClosed(1, BATCH_SIZE).boxed().toList());
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                run(client, request);
+            }
+
+            Result total = new Result(0, 0, 0);
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                total = total.plus(run(client, request));
+            }
+            return total;
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean pooled) {
+        Class<?>[] sources = pooled
+                ? new Class<?>[]{TestApplication.class, HttpClientConfig.class}
+                : new Class<?>[]{TestApplication.class};
+
+        return new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.autoconfigure.exclude="
+                                + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+                        "spring.cloud.openfeign.client.config.auth-service.url=" + wireMock.baseUrl(),
+                        "spring.cloud.openfeign.client.config.default.connect-timeout=1000",
+                        "spring.cloud.openfeign.client.config.default.read-timeout=3000",
+                        "spring.cloud.openfeign.circuitbreaker.enabled=false",
+                        "spring.cloud.openfeign.httpclient.hc5.enabled=" + pooled,
+                        "spring.cloud.openfeign.httpclient.max-connections=200",
+                        "spring.cloud.openfeign.httpclient.max-connections-per-route=50",
+                        "spring.cloud.openfeign.httpclient.time-to-live=900",
+                        "spring.cloud.openfeign.httpclient.connection-timeout=1000")
+                .run();
+    }
+
+    private Result run(AuthServiceClient client, UserBatchRequest request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong failed = new AtomicLong();
+        long[] latencies = new long[THREADS * REQUESTS_PER_THREAD];
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * REQUESTS_PER_THREAD;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long started = System.nanoTime();
+                    try {
+                        if (client.getUsersByIds(request).size() != BATCH_SIZE) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies[offset + i] = System.nanoTime() - started;
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        return new Result(elapsed, failed.get(), latencies[(int) (latencies.length * 0.99) - 1]);
+    }
+
+    private void report(String client, Result result) {
+        long requests = (long) THREADS * REQUESTS_PER_THREAD * MEASURED_ROUNDS;
+        log.info("POST /internal/users/batch [{}] {} requests/s, p99 {}ms, 실패 {}건 (스레드 {}개 x {}건 x {}회)",
+                client,
+                String.format("%,.0f", requests / (result.elapsedNanos() / 1_000_000_000.0)),
+                String.format("%.2f", result.p99Nanos() / MEASURED_ROUNDS / 1_000_000.0),
+                result.failed(), THREADS, REQUESTS_PER_THREAD, MEASURED_ROUNDS);
+    }
+
+    private static String usersJson() {
+        return LongStream.rangeClosed(1, BATCH_SIZE)
+                .mapToObj(id -> "{\"id\":\"" + id + "\",\"name\":\"사용자" + id
+                        + "\",\"phone\":\"010-0000-0000\",\"address\":\"서울\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    // 측정 회차 합계 (p99는 회차별 값의 합, 출력 시 평균)
+    private record Result(long elapsedNanos, long failed, long p99Nanos) {
+
+        Result plus(Result other) {
+            return new Result(elapsedNanos + other.elapsedNanos, failed + other.failed, p99Nanos + other.p99Nanos);
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableFeignClients(clients = AuthServiceClient.class)
+    @Import(AuthServiceClientFallbackFactory.class)
+    static class TestApplication {
+    }
+}
@@ -0,0 +1,212 @@
+package com.ddp.reservation.client;
+
+import com.ddp.reservation.client.dto.CompanyBatchRequest;
+import com.ddp.reservation.client.dto.CompanyBatchResponse;
+import com.ddp.reservation.client.dto.UserBatchRequest;
+import com.ddp.reservation.config.HttpClientConfig;
+import com.ddp.reservation.dto.UserDto;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Feign 장애 주입 테스트 (WireMock으로 지연/5xx/4xx 응답 재현)
+ * - read-timeout 초과, 서킷 열림 후 폴백(재시도 없이 1회 전송), 4xx 미집계, 대상 서비스별 느린 호출 기준, 벌크헤드 포화 확인
+ * - 서킷 브레이커/벌크헤드 설정은 config-repo application.yml과 같은 구조로 작은 값만 사용
+ */
+@SpringBootTest(
+        classes = FeignFaultInjectionTest.TestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.autoconfigure.exclude="
+                        + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+                "spring.cloud.openfeign.client.config.default.connect-timeout=500",
+                "spring.cloud.openfeign.client.config.default.read-timeout=1000",
+                "spring.cloud.openfeign.circuitbreaker.enabled=true",
+                "spring.cloud.openfeign.circuitbreaker.group.enabled=true",
+                "spring.cloud.openfeign.circuitbreaker.alphanumeric-ids.enabled=true",
+                "spring.cloud.circuitbreaker.resilience4j.enable-semaphore-default-bulkhead=true",
+                "spring.cloud.circuitbreaker.resilience4j.disable-time-limiter=true",
+                "resilience4j.circuitbreaker.configs.default.sliding-window-type=COUNT_BASED",
+                "resilience4j.circuitbreaker.configs.default.sliding-window-size=4",
+                "resilience4j.circuitbreaker.configs.default.minimum-number-of-calls=4",
+                "resilience4j.circuitbreaker.configs.default.failure-rate-threshold=50",
+                "resilience4j.circuitbreaker.configs.default.slow-call-duration-threshold=2s",
+                "resilience4j.circuitbreaker.configs.default.slow-call-rate-threshold=80",
+                "resilience4j.circuitbreaker.configs.default.wait-duration-in-open-state=60s",
+                "resilience4j.circuitbreaker.configs.default.ignore-exceptions[0]=feign.FeignException$FeignClientException",
+                "resilience4j.circuitbreaker.configs.auth-service.base-config=default",
+                "resilience4j.circuitbreaker.configs.auth-service.slow-call-duration-threshold=200ms",
+                "resilience4j.bulkhead.configs.default.max-concurrent-calls=1",
+                "resilience4j.bulkhead.configs.default.max-wait-duration=0"
+        })
+class FeignFaultInjectionTest {
+
+    private static final String USER_JSON = "{\"id\":\"7\",\"name\":\"홍길동\",\"phone\":\"010-0000-0000\",\"address\":\"서울\"}";
+    private static final String COMPANY_BATCH_JSON = "{\"companies\":[{\"id\":\"1\",\"name\":\"업체\",\"phone\":\"02-000-0000\",\"address\":\"서울\"}],\"missingIds\":[],\"failedIds\":[]}";
+
+    @RegisterExtension
+    static WireMockExtension wireMock = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @DynamicPropertySource
+    static void targets(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.openfeign.client.config.auth-service.url", wireMock::baseUrl);
+        registry.add("spring.cloud.openfeign.client.config.company-service.url", wireMock::baseUrl);
+    }
+
+    @Autowired
+    private AuthServiceClient authServiceClient;
+
+    @Autowired
+    private CompanyServiceClient companyServiceClient;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeEach
+    void reset() {
+        wireMock.resetAll();
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
+    }
+
+    @Test
+    void responseSlowerThanReadTimeoutFailsWithoutWaitingForIt() {
+        wireMock.stubFor(get(urlEqualTo("/api/v1/users/7"))
+                .willReturn(okJson(USER_JSON).withFixedDelay(3000)));
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> authServiceClient.getUserById(7L))
+                .isInstanceOf(RetryableException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(2500);
+    }
+
+    @Test
+    void repeatedServerErrorsOpenCircuitAndBatchLookupFallsBack() {
+        wireMock.stubFor(post(urlEqualTo("/internal/companies/batch"))
+                .willReturn(aResponse().withStatus(503)));
+        CompanyBatchRequest request = new CompanyBatchRequest(List.of(1L, 2L));
+
+        // 최소 호출 수까지는 원래 예외 전달
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> companyServiceClient.getCompaniesByIds(request))
+                    .isInstanceOf(FeignException.ServiceUnavailable.class);
+        }
+
+        // 서킷 열림: 원격 호출 없이 요청한 업체 전부를 조회 실패로 응답
+        CompanyBatchResponse response = companyServiceClient.getCompaniesByIds(request);
+
+        assertThat(response.getCompanies()).isEmpty();
+        assertThat(response.getFailedIds()).containsExactly(1L, 2L);
+        wireMock.verify(4, postRequestedFor(urlEqualTo("/internal/companies/batch")));
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        wireMock.stubFor(get(urlEqualTo("/api/v1/users/7"))
+                .willReturn(aResponse().withStatus(404)));
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> authServiceClient.getUserById(7L))
+                    .isInstanceOf(FeignException.NotFound.class);
+        }
+
+        // 4xx는 실패로 집계하지 않으므로 계속 원격 호출
+        wireMock.stubFor(get(urlEqualTo("/api/v1/users/7")).willReturn(okJson(USER_JSON)));
+        UserDto user = authServiceClient.getUserById(7L);
+
+        assertThat(user.getName()).isEqualTo("홍길동");
+        wireMock.verify(7, getRequestedFor(urlEqualTo("/api/v1/users/7")));
+    }
+
+    @Test
+    void slowCallThresholdIsAppliedPerTargetService() {
+        wireMock.stubFor(post(urlEqualTo("/internal/users/batch"))
+                .willReturn(okJson("[" + USER_JSON + "]").withFixedDelay(400)));
+        wireMock.stubFor(post(urlEqualTo("/internal/companies/batch"))
+                .willReturn(okJson(COMPANY_BATCH_JSON).withFixedDelay(400)));
+        UserBatchRequest userRequest = new UserBatchRequest(List.of(7L));
+        CompanyBatchRequest companyRequest = new CompanyBatchRequest(List.of(1L));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(authServiceClient.getUsersByIds(userRequest)).hasSize(1);
+            assertThat(companyServiceClient.getCompaniesByIds(companyRequest).getCompanies()).hasSize(1);
+        }
+
+        // auth-service 기준(200ms)으로는 모두 느린 호출 → 서킷 열림, 빈 결과로 폴백
+        assertThat(authServiceClient.getUsersByIds(userRequest)).isEmpty();
+        wireMock.verify(4, postRequestedFor(urlEqualTo("/internal/users/batch")));
+
+        // company-service는 공통 기준(2s) 적용 → 계속 원격 호출
+        assertThat(companyServiceClient.getCompaniesByIds(companyRequest).getCompanies()).hasSize(1);
+        wireMock.verify(5, postRequestedFor(urlEqualTo("/internal/companies/batch")));
+    }
+
+    @Test
+    void saturatedBulkheadRejectsImmediatelyWithFallback() throws Exception {
+        wireMock.stubFor(post(urlEqualTo("/internal/users/batch"))
+                .willReturn(okJson("[" + USER_JSON + "]").withFixedDelay(800)));
+        UserBatchRequest request = new UserBatchRequest(List.of(7L));
+
+        CompletableFuture<List<UserDto>> inFlight = CompletableFuture.supplyAsync(
+                () -> authServiceClient.getUsersByIds(request));
+        awaitRequests(1, "/internal/users/batch");
+
+        // 동시 호출 한도(1) 초과 → 대기 없이 빈 결과
+        long started = System.nanoTime();
+        List<UserDto> rejected = authServiceClient.getUsersByIds(request);
+
+        assertThat(rejected).isEmpty();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(400);
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).hasSize(1);
+        wireMock.verify(1, postRequestedFor(urlEqualTo("/internal/users/batch")));
+    }
+
+    private void awaitRequests(int count, String url) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (wireMock.findAll(postRequestedFor(urlEqualTo(url))).size() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("요청이 도착하지 않았습니다: " + url);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableFeignClients(clients = {AuthServiceClient.class, CompanyServiceClient.class})
+    @Import({HttpClientConfig.class, AuthServiceClientFallbackFactory.class, CompanyServiceClientFallbackFactory.class})
+    static class TestApplication {
+    }
+}
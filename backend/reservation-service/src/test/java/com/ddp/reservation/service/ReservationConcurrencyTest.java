@@ -0,0 +1,134 @@
+package com.ddp.reservation.service;
+
+import com.ddp.reservation.dto.request.CreateReservationRequest;
+import com.ddp.reservation.entity.Reservation;
+import com.ddp.reservation.entity.ServiceType;
+import com.ddp.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 생성 동시성 테스트 (PostgreSQL 컨테이너, Docker 없으면 건너뜀)
+ * 같은 업체/시간대에 동시에 들어온 예약 요청 중 하나만 생성되는지 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class ReservationConcurrencyTest {
+
+    private static final int REQUESTS = 16;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Test
+    void concurrentRequestsForSameSlotCreateExactlyOneReservation() throws Exception {
+        Long companyId = 1001L;
+        LocalDateTime slot = LocalDateTime.of(LocalDate.now().plusDays(7), LocalTime.of(10, 0));
+
+        int created = runConcurrently(i -> request(companyId, slot));
+
+        assertThat(created).isEqualTo(1);
+        assertThat(activeReservations(companyId)).hasSize(1);
+    }
+
+    @Test
+    void concurrentRequestsForOverlappingSlotsCreateExactlyOneReservation() throws Exception {
+        Long companyId = 1002L;
+        LocalDateTime slot = LocalDateTime.of(LocalDate.now().plusDays(7), LocalTime.of(10, 0));
+
+        // 충돌 범위(±2시간) 안의 서로 다른 시각
+        int created = runConcurrently(i -> request(companyId, slot.plusMinutes(5L * i)));
+
+        assertThat(created).isEqualTo(1);
+        assertThat(activeReservations(companyId)).hasSize(1);
+    }
+
+    @Test
+    void concurrentRequestsForSeparateSlotsAllSucceed() throws Exception {
+        Long companyId = 1003L;
+        LocalDateTime firstSlot = LocalDateTime.of(LocalDate.now().plusDays(7), LocalTime.of(0, 0));
+
+        // 충돌 범위를 벗어나도록 3시간 간격
+        int created = runConcurrently(i -> request(companyId, firstSlot.plusHours(3L * i)));
+
+        assertThat(created).isEqualTo(REQUESTS);
+        assertThat(activeReservations(companyId)).hasSize(REQUESTS);
+    }
+
+    // 요청을 동시에 시작하고 성공한 건수 반환 (충돌로 실패한 요청은 예외)
+    private int runConcurrently(IntFunction<CreateReservationRequest> requestFactory) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            long userId = 5000L + i;
+            CreateReservationRequest request = requestFactory.apply(i);
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    reservationService.createReservation(userId, request);
+                    return true;
+                } catch (RuntimeException e) {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                created++;
+            }
+        }
+        pool.shutdown();
+        return created;
+    }
+
+    private List<Reservation> activeReservations(Long companyId) {
+        return reservationRepository.findByCompanyIdAndStatusInOrderByCreatedAtDesc(
+                companyId, CompanyAvailabilityIndex.ACTIVE_STATUSES);
+    }
+
+    private CreateReservationRequest request(Long companyId, LocalDateTime requestedDate) {
+        return CreateReservationRequest.builder()
+                .companyId(companyId)
+                .serviceType(ServiceType.INSTALLATION)
+                .requestedDate(requestedDate)
+                .vehicleInfo("현대 그랜저 12가1234")
+                .build();
+    }
+}
@@ -1,15 +1,58 @@
 package com.ddp.tcs.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-// RestTemplate 설정
+import java.time.Duration;
+
+// RestTemplate 설정 (연결 풀 기반 Apache HttpClient 5, keep-alive 연결 재사용)
 @Configuration
 public class RestTemplateConfig {
 
+    // 연결 풀 (병렬 계정 조회 시 대상 서비스별 연결 수 제한 = max-connections-per-route)
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager connectionManager(
+            @Value("${http-client.max-connections:100}") int maxConnections,
+            @Value("${http-client.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${http-client.time-to-live:15m}") Duration timeToLive,
+            @Value("${http-client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${http-client.read-timeout:3s}") Duration readTimeout) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            CloseableHttpClient httpClient,
+            @Value("${http-client.connection-request-timeout:1s}") Duration connectionRequestTimeout) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectionRequestTimeout((int) connectionRequestTimeout.toMillis());
+        return new RestTemplate(factory);
     }
 }
@@ -1,8 +1,11 @@
 package com.ddp.tcs.controller;
 
 import com.ddp.tcs.dto.DuiSubjectResponse;
+import com.ddp.tcs.dto.LicenseActionBatchRequest;
+import com.ddp.tcs.dto.LicenseActionBatchResponse;
 import com.ddp.tcs.dto.LicenseVerifyRequest;
 import com.ddp.tcs.dto.LicenseVerifyResponse;
+import com.ddp.tcs.service.LicenseActionService;
 import com.ddp.tcs.service.TcsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +24,7 @@ import jakarta.validation.Valid;
 public class TcsController {
 
     private final TcsService tcsService;
+    private final LicenseActionService licenseActionService;
 
     // 면허 정보 조회 API
     @PostMapping("/license/verify")
@@ -50,6 +54,16 @@ public class TcsController {
         }
     }
 
+    // 면허 조치 일괄 처리 API (멱등성 키 기반)
+    @PostMapping("/license/actions")
+    public ResponseEntity<LicenseActionBatchResponse> processLicenseActions(
+            @Valid @RequestBody LicenseActionBatchRequest request) {
+        log.debug("면허 조치 일괄 처리 요청: {}건", request.getActions().size());
+
+        LicenseActionBatchResponse response = licenseActionService.processActions(request);
+        return ResponseEntity.ok(response);
+    }
+
     // API 상태 확인 (헬스체크)
     @GetMapping("/health")
     public ResponseEntity<String> health() {
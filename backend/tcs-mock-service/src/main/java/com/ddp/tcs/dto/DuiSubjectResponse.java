@@ -57,7 +57,7 @@ public class DuiSubjectResponse {
         // 계정 생성 여부 (Auth Service 연동)
         private boolean isAccountCreated;
 
-        // 계정 상태 (PENDING, ACTIVE, null)
+        // 계정 상태 (PENDING, ACTIVE, null, Auth Service 확인 실패 시 UNKNOWN)
         private String accountStatus;
     }
 
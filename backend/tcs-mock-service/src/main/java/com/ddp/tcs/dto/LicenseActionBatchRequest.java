@@ -0,0 +1,49 @@
+package com.ddp.tcs.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 면허 조치 일괄 요청 DTO
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class LicenseActionBatchRequest {
+
+    // 조치 목록
+    @NotEmpty(message = "조치 목록은 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100건까지 요청할 수 있습니다")
+    private List<@Valid LicenseAction> actions;
+
+    // 면허 조치 항목
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Getter
+    public static class LicenseAction {
+
+        // 멱등성 키 (동일 키 재전송 시 기존 처리 결과 반환)
+        @NotBlank(message = "멱등성 키는 필수입니다")
+        private String idempotencyKey;
+
+        // 대상 사용자 ID
+        @NotNull(message = "사용자 ID는 필수입니다")
+        private Long userId;
+
+        // 조치 유형
+        @NotBlank(message = "조치 유형은 필수입니다")
+        private String actionType;
+
+        // 조치 상세 내용
+        private String actionDetail;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ddp.tcs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 면허 조치 일괄 응답 DTO
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class LicenseActionBatchResponse {
+
+    // 항목별 처리 결과
+    private List<Result> results;
+
+    // 항목별 처리 결과
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Getter
+    public static class Result {
+
+        // 멱등성 키
+        private String idempotencyKey;
+
+        // 처리 성공 여부
+        private boolean success;
+
+        // 이미 처리된 요청 여부 (재전송)
+        private boolean duplicate;
+
+        // 처리 결과 메시지
+        private String message;
+
+        // 처리 일시
+        private LocalDateTime processedAt;
+    }
+}
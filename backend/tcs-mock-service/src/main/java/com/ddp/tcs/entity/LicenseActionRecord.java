@@ -0,0 +1,41 @@
+package com.ddp.tcs.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 면허 조치 처리 이력 엔티티 (멱등성 키 기준 중복 처리 방지)
+@Entity
+@Table(name = "license_action_records")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class LicenseActionRecord {
+
+    // 멱등성 키 (요청 시스템의 조치 ID)
+    @Id
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    // 대상 사용자 ID (DDP 시스템 기준)
+    @Column(nullable = false)
+    private Long userId;
+
+    // 조치 유형 (면허 상태 변경, 정지, 취소)
+    @Column(nullable = false, length = 50)
+    private String actionType;
+
+    // 조치 상세 내용
+    @Column(length = 1000)
+    private String actionDetail;
+
+    // 처리 결과 메시지
+    @Column(nullable = false, length = 200)
+    private String message;
+
+    // 처리 일시
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+}
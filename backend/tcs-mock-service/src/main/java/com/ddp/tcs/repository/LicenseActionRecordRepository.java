@@ -0,0 +1,10 @@
+package com.ddp.tcs.repository;
+
+import com.ddp.tcs.entity.LicenseActionRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+// 면허 조치 처리 이력 리포지토리
+@Repository
+public interface LicenseActionRecordRepository extends JpaRepository<LicenseActionRecord, String> {
+}
@@ -0,0 +1,93 @@
+package com.ddp.tcs.service;
+
+import com.ddp.tcs.dto.LicenseActionBatchRequest;
+import com.ddp.tcs.dto.LicenseActionBatchResponse;
+import com.ddp.tcs.entity.LicenseActionRecord;
+import com.ddp.tcs.repository.LicenseActionRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 면허 조치 Mock 서비스 - 경찰청 TCS 면허 행정처분 연동 시뮬레이션
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LicenseActionService {
+
+    private final LicenseActionRecordRepository licenseActionRecordRepository;
+
+    // 면허 조치 일괄 처리 (멱등성 키 기준 중복 요청은 기존 결과 반환)
+    // 건별로 저장하여 동시 요청의 키 충돌은 해당 건만 중복으로 처리 (일괄 실패 방지)
+    public LicenseActionBatchResponse processActions(LicenseActionBatchRequest request) {
+        log.info("API 호출 시작: 면허 조치 일괄 처리 - {}건", request.getActions().size());
+
+        long startTime = System.currentTimeMillis();
+
+        // 기존 처리 이력 일괄 조회
+        List<String> keys = request.getActions().stream()
+                .map(LicenseActionBatchRequest.LicenseAction::getIdempotencyKey)
+                .collect(Collectors.toList());
+        Map<String, LicenseActionRecord> processed = licenseActionRecordRepository.findAllById(keys).stream()
+                .collect(Collectors.toMap(LicenseActionRecord::getIdempotencyKey, Function.identity()));
+
+        List<LicenseActionBatchResponse.Result> results = new ArrayList<>();
+        int created = 0;
+
+        for (LicenseActionBatchRequest.LicenseAction action : request.getActions()) {
+            LicenseActionRecord record = processed.get(action.getIdempotencyKey());
+            boolean duplicate = record != null;
+
+            if (!duplicate) {
+                record = LicenseActionRecord.builder()
+                        .idempotencyKey(action.getIdempotencyKey())
+                        .userId(action.getUserId())
+                        .actionType(action.getActionType())
+                        .actionDetail(action.getActionDetail())
+                        .message("면허 조치 완료")
+                        .processedAt(LocalDateTime.now())
+                        .build();
+                try {
+                    licenseActionRecordRepository.saveAndFlush(record);
+                    created++;
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 요청이 같은 키를 먼저 저장 → 저장된 결과를 중복으로 반환
+                    record = licenseActionRecordRepository.findById(action.getIdempotencyKey()).orElse(null);
+                    duplicate = true;
+                }
+                if (record == null) {
+                    results.add(LicenseActionBatchResponse.Result.builder()
+                            .idempotencyKey(action.getIdempotencyKey())
+                            .success(false)
+                            .duplicate(false)
+                            .message("면허 조치 저장 실패")
+                            .build());
+                    continue;
+                }
+                processed.put(record.getIdempotencyKey(), record);
+            }
+
+            results.add(LicenseActionBatchResponse.Result.builder()
+                    .idempotencyKey(record.getIdempotencyKey())
+                    .success(true)
+                    .duplicate(duplicate)
+                    .message(record.getMessage())
+                    .processedAt(record.getProcessedAt())
+                    .build());
+        }
+
+        log.info("API 호출 완료: 면허 조치 일괄 처리 - 신규 {}건, 중복 {}건 ({}ms)",
+                created, results.size() - created, System.currentTimeMillis() - startTime);
+
+        return LicenseActionBatchResponse.builder()
+                .results(results)
+                .build();
+    }
+}
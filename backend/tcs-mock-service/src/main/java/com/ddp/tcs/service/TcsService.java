@@ -1,5 +1,6 @@
 package com.ddp.tcs.service;
 
+import com.ddp.tcs.config.EnrichmentExecutor;
 import com.ddp.tcs.dto.DuiSubjectResponse;
 import com.ddp.tcs.dto.LicenseVerifyRequest;
 import com.ddp.tcs.dto.LicenseVerifyResponse;
@@ -18,6 +19,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 // TCS Mock 서비스 - 경찰청 TCS API 시뮬레이션
@@ -27,8 +29,12 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TcsService {
 
+    // 계정 확인 실패/시간 초과 시 상태 (미생성과 구분)
+    static final String ACCOUNT_STATUS_UNKNOWN = "UNKNOWN";
+
     private final LicenseRepository licenseRepository;
     private final RestTemplate restTemplate;
+    private final EnrichmentExecutor enrichmentExecutor;
 
     @Value("${auth.service.url:http://localhost:8081}")
     private String authServiceUrl;
@@ -107,11 +113,18 @@ public class TcsService {
             // 음주운전 위반자 목록 조회
             List<License> duiLicenses = licenseRepository.findAllDuiViolators();
 
-            // DTO로 변환 (Auth Service 연동하여 계정 생성 여부 확인)
+            // Auth Service에서 계정 생성 여부 병렬 확인 (실패/시간 초과 시 확인 불가로 표시)
+            Set<String> licenseNumbers = duiLicenses.stream()
+                    .map(License::getLicenseNumber)
+                    .collect(Collectors.toSet());
+            Map<String, Map<String, Object>> accountChecks = enrichmentExecutor.fetchAll(
+                    "계정 생성 여부 확인", licenseNumbers, this::checkAccountFromAuthService);
+
+            // DTO로 변환
             List<DuiSubjectResponse.DuiSubject> subjects = duiLicenses.stream()
                     .map(license -> {
-                        // Auth Service에서 계정 생성 여부 확인
-                        Map<String, Object> accountCheck = checkAccountFromAuthService(license.getLicenseNumber());
+                        Map<String, Object> accountCheck = accountChecks.get(license.getLicenseNumber());
+                        boolean checked = accountCheck != null;
 
                         return DuiSubjectResponse.DuiSubject.builder()
                                 .licenseNumber(license.getLicenseNumber())
@@ -121,8 +134,8 @@ public class TcsService {
                                 .phoneNumber(license.getPhoneNumber())
                                 .violationCount(license.getViolationCount())
                                 .lastViolationDate(LocalDate.now().minusDays((long) (Math.random() * 365))) // 임의의 최근 위반일
-                                .isAccountCreated((Boolean) accountCheck.getOrDefault("exists", false))
-                                .accountStatus((String) accountCheck.get("accountStatus"))
+                                .isAccountCreated(checked && Boolean.TRUE.equals(accountCheck.get("exists")))
+                                .accountStatus(checked ? (String) accountCheck.get("accountStatus") : ACCOUNT_STATUS_UNKNOWN)
                                 .build();
                     })
                     .collect(Collectors.toList());
@@ -138,7 +151,7 @@ public class TcsService {
         }
     }
 
-    // Auth Service에서 계정 생성 여부 확인
+    // Auth Service에서 계정 생성 여부 확인 (실패 시 null → 확인 불가)
     private Map<String, Object> checkAccountFromAuthService(String licenseNumber) {
         try {
             String url = authServiceUrl + "/api/v1/auth/admin/accounts/check/" + licenseNumber;
@@ -157,7 +170,6 @@ public class TcsService {
             log.warn("Auth Service 계정 확인 실패 (licenseNumber={}): {}", licenseNumber, e.getMessage());
         }
 
-        // 실패 시 기본값 반환
-        return Map.of("exists", false, "accountStatus", (Object) null);
+        return null;
     }
 }
\ No newline at end of file
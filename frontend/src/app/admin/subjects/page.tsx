@@ -45,6 +45,10 @@ export default function AdminSubjectsPage() {
       subject.address.toLowerCase().includes(searchQuery.toLowerCase())
   );
 
+  // 계정 확인 실패 여부 (TCS가 Auth Service 확인에 실패하면 UNKNOWN)
+  const isAccountUnknown = (status: string | null) =>
+    status?.toUpperCase() === "UNKNOWN";
+
   // 상태 뱃지 렌더링 (대소문자 무시)
   const renderStatusBadge = (status: string | null) => {
     if (!status) {
@@ -60,6 +64,8 @@ export default function AdminSubjectsPage() {
         return <Badge variant="secondary">대기</Badge>;
       case "completed":
         return <Badge>완료</Badge>;
+      case "unknown":
+        return <Badge variant="outline">확인 불가</Badge>;
       default:
         return <Badge variant="outline">{status}</Badge>;
     }
@@ -109,7 +115,11 @@ export default function AdminSubjectsPage() {
           </CardHeader>
           <CardContent>
             <div className="text-2xl font-bold text-orange-600">
-              {subjects.filter((s) => !s.accountCreated).length}
+              {
+                subjects.filter(
+                  (s) => !s.accountCreated && !isAccountUnknown(s.accountStatus)
+                ).length
+              }
             </div>
           </CardContent>
         </Card>
@@ -198,6 +208,10 @@ export default function AdminSubjectsPage() {
                           <Button variant="ghost" size="sm">
                             생성 완료
                           </Button>
+                        ) : isAccountUnknown(subject.accountStatus) ? (
+                          <Button variant="ghost" size="sm" disabled>
+                            확인 불가
+                          </Button>
                         ) : (
                           <Button
                             variant="default"
@@ -113,7 +113,7 @@ export interface DuiSubject {
   phoneNumber: string; // 전화번호
   violationCount: number; // 위반 횟수
   lastViolationDate: string; // 마지막 위반일 (yyyy-MM-dd)
-  accountStatus: string | null; // 계정 상태
+  accountStatus: string | null; // 계정 상태 (확인 실패 시 UNKNOWN)
   accountCreated: boolean; // 계정 생성 여부
 }
 